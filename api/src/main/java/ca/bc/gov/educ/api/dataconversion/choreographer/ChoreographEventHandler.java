@@ -3,14 +3,13 @@ package ca.bc.gov.educ.api.dataconversion.choreographer;
 import ca.bc.gov.educ.api.dataconversion.entity.Event;
 import ca.bc.gov.educ.api.dataconversion.model.*;
 import ca.bc.gov.educ.api.dataconversion.service.EventService;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import ca.bc.gov.educ.api.dataconversion.util.ExecutorUtils;
 import ca.bc.gov.educ.api.dataconversion.util.JsonUtil;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
-import org.jboss.threads.EnhancedQueueExecutor;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,11 +27,10 @@ public class ChoreographEventHandler {
   private final Executor eventExecutor;
   private final Map<String, EventService> eventServiceMap;
 
-  public ChoreographEventHandler(final List<EventService> eventServices) {
+  public ChoreographEventHandler(final List<EventService> eventServices, final EducGradDataConversionApiConstants constants) {
     this.eventServiceMap = new HashMap<>();
-    this.eventExecutor = new EnhancedQueueExecutor.Builder()
-            .setThreadFactory(new ThreadFactoryBuilder().setNameFormat("multi-task-executor-%d").build())
-            .setCorePoolSize(10).setMaximumPoolSize(20).setKeepAliveTime(Duration.ofSeconds(60)).build();
+    this.eventExecutor = ExecutorUtils.createExecutor("multi-task-executor-%d",
+            constants.getEventHandlerCorePoolSize(), constants.getEventHandlerMaxPoolSize());
     eventServices.forEach(eventService -> this.eventServiceMap.put(eventService.getEventType(), eventService));
   }
 
@@ -24,6 +24,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import ca.bc.gov.educ.api.dataconversion.model.ConvGradStudent;
+import ca.bc.gov.educ.api.dataconversion.util.ReactiveRestUtils;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
@@ -87,15 +88,30 @@ public class BatchJobConfig {
             JobRepository jobRepository, PlatformTransactionManager transactionManager,
             ItemReader<CourseRestriction> courseRestrictionReader,
             ItemProcessor<? super CourseRestriction, ? extends CourseRestriction> courseRestrictionProcessor,
-            ItemWriter<CourseRestriction> courseRestrictionWriter) {
+            ItemWriter<CourseRestriction> courseRestrictionWriter,
+            EducGradDataConversionApiConstants constants) {
         return new StepBuilder("courseRestrictionDataConversionJobStep", jobRepository)
-                .<CourseRestriction, CourseRestriction>chunk(1, transactionManager)
+                .<CourseRestriction, CourseRestriction>chunk(constants.getCourseRestrictionChunkSize(), transactionManager)
                 .reader(courseRestrictionReader)
                 .processor(courseRestrictionProcessor)
                 .writer(courseRestrictionWriter)
+                .taskExecutor(courseRestrictionTaskExecutor(constants))
                 .build();
     }
 
+    // Chunks of course restrictions are processed concurrently on their own threads, not on the partition threads
+    @Bean
+    public TaskExecutor courseRestrictionTaskExecutor(EducGradDataConversionApiConstants constants) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(constants.getNumberOfPartitions());
+        executor.setMaxPoolSize(constants.getNumberOfPartitions());
+        executor.setThreadNamePrefix("course-restriction-");
+        executor.initialize();
+
+        return executor;
+    }
+
     /**
      * Creates a bean that represents our batch job.
      */
@@ -168,8 +184,8 @@ public class BatchJobConfig {
             JobRepository jobRepository, PlatformTransactionManager transactionManager,
             RestUtils restUtils, EducGradDataConversionApiConstants constants) {
         return new StepBuilder("masterStepForPenUpdates", jobRepository)
-                .partitioner(slaveStepForPenUpdates(jobRepository, transactionManager).getName(), partitioner(restUtils))
-                .step(slaveStepForPenUpdates(jobRepository, transactionManager))
+                .partitioner(slaveStepForPenUpdates(jobRepository, transactionManager, restUtils, constants).getName(), partitioner(restUtils, constants))
+                .step(slaveStepForPenUpdates(jobRepository, transactionManager, restUtils, constants))
                 .gridSize(constants.getNumberOfPartitions())
                 .taskExecutor(taskExecutor(constants))
                 .build();
@@ -177,23 +193,31 @@ public class BatchJobConfig {
 
     @Bean
     @StepScope
-    public StudentLoadPartitioner partitioner(RestUtils restUtils) {
+    public StudentLoadPartitioner partitioner(RestUtils restUtils, EducGradDataConversionApiConstants constants) {
         // Reader to feed input data for each partition
-        return new StudentLoadPartitioner(restUtils);
+        return new StudentLoadPartitioner(restUtils, constants);
     }
 
     @Bean
-    public Step slaveStepForPenUpdates(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+    public Step slaveStepForPenUpdates(JobRepository jobRepository, PlatformTransactionManager transactionManager, RestUtils restUtils, EducGradDataConversionApiConstants constants) {
+        // the reader saves the last PEN of each chunk, so a restarted partition resumes after it
         return new StepBuilder("slaveStepForPenUpdates", jobRepository)
-                .tasklet(penUpdatesPartitionHandler(), transactionManager)
+                .<String, String>chunk(constants.getPenUpdatesChunkSize(), transactionManager)
+                .reader(penUpdatesPartitionReader(restUtils))
+                .writer(penUpdatesPartitionWriter())
                 .build();
     }
 
     @Bean
     @StepScope
-    public PenUpdatesPartitionHandlerCreator penUpdatesPartitionHandler() {
-        // Processor for each partition
-        return new PenUpdatesPartitionHandlerCreator();
+    public PenUpdatesPartitionReader penUpdatesPartitionReader(RestUtils restUtils) {
+        return new PenUpdatesPartitionReader(restUtils);
+    }
+
+    @Bean
+    @StepScope
+    public PenUpdatesPartitionWriter penUpdatesPartitionWriter() {
+        return new PenUpdatesPartitionWriter();
     }
 
     @Bean
@@ -214,18 +238,20 @@ public class BatchJobConfig {
     @Bean
     public Step masterStepForStudent(JobRepository jobRepository, PlatformTransactionManager transactionManager, RestUtils restUtils, EducGradDataConversionApiConstants constants, SkipSQLTransactionExceptionsListener skipListener) {
         return new StepBuilder("masterStepForStudent", jobRepository)
-                .partitioner(slaveStepForStudent(jobRepository, transactionManager, restUtils, skipListener).getName(), partitioner(restUtils))
-                .step(slaveStepForStudent(jobRepository, transactionManager, restUtils, skipListener))
+                .partitioner(slaveStepForStudent(jobRepository, transactionManager, restUtils, constants, skipListener).getName(), partitioner(restUtils, constants))
+                .step(slaveStepForStudent(jobRepository, transactionManager, restUtils, constants, skipListener))
                 .gridSize(constants.getNumberOfPartitions())
                 .taskExecutor(taskExecutor(constants))
                 .build();
     }
 
     @Bean
-    public Step slaveStepForStudent(JobRepository jobRepository, PlatformTransactionManager transactionManager, RestUtils restUtils, SkipSQLTransactionExceptionsListener skipListener) {
+    public Step slaveStepForStudent(JobRepository jobRepository, PlatformTransactionManager transactionManager, RestUtils restUtils, EducGradDataConversionApiConstants constants, SkipSQLTransactionExceptionsListener skipListener) {
         return new StepBuilder("slaveStepForStudent", jobRepository)
-                .<String, ConvGradStudent>chunk(1, transactionManager)
+                .<String, ConvGradStudent>chunk(constants.getStudentLoadChunkSize(), transactionManager)
                 .faultTolerant()
+                // a student is converted in GRAD by the processor: do not convert it again when a chunk is rescanned
+                .processorNonTransactional()
                 .skip(SQLException.class)
                 .skip(TransactionSystemException.class)
                 .skip(IOException.class)
@@ -244,6 +270,12 @@ public class BatchJobConfig {
         return new StudentPartitionReader(restUtils);
     }
 
+    @Bean
+    @StepScope
+    public StudentMasterDataPrefetcher studentMasterDataPrefetcher(ReactiveRestUtils reactiveRestUtils) {
+        return new StudentMasterDataPrefetcher(reactiveRestUtils);
+    }
+
     @Bean
     @StepScope
     public StudentPartitionProcessor studentPartitionProcessor() {
@@ -267,8 +299,6 @@ public class BatchJobConfig {
                 .incrementer(new RunIdIncrementer())
                 .listener(listener)
                 .start(masterStepForStudent(jobRepository, transactionManager, restUtils, constants, skipListener))
-                .on("*")
-                .end().build()
                 .build();
     }
 
@@ -0,0 +1,39 @@
+package ca.bc.gov.educ.api.dataconversion.config;
+
+import ca.bc.gov.educ.api.dataconversion.util.OptionalProgramCache;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint of the optional program cache.
+ * GET /actuator/optionalprograms shows what is loaded, POST /actuator/optionalprograms reloads the catalogue.
+ */
+@Component
+@Endpoint(id = "optionalprograms")
+public class OptionalProgramCacheEndpoint {
+
+    private final OptionalProgramCache optionalProgramCache;
+
+    public OptionalProgramCacheEndpoint(OptionalProgramCache optionalProgramCache) {
+        this.optionalProgramCache = optionalProgramCache;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("size", optionalProgramCache.size());
+        status.put("loadedAt", optionalProgramCache.getLoadedAt());
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        optionalProgramCache.reload();
+        return status();
+    }
+}
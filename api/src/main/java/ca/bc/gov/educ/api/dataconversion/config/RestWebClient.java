@@ -1,5 +1,7 @@
 package ca.bc.gov.educ.api.dataconversion.config;
 
+import ca.bc.gov.educ.api.dataconversion.util.DownstreamApiLimiter;
+import ca.bc.gov.educ.api.dataconversion.util.DownstreamApiMetrics;
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 import ca.bc.gov.educ.api.dataconversion.util.LogHelper;
 import ca.bc.gov.educ.api.dataconversion.util.ThreadLocalStateUtil;
@@ -24,6 +26,12 @@ public class RestWebClient {
     @Autowired
     EducGradDataConversionApiConstants constants;
 
+    @Autowired
+    DownstreamApiLimiter downstreamApiLimiter;
+
+    @Autowired
+    DownstreamApiMetrics downstreamApiMetrics;
+
     private final HttpClient httpClient;
 
     public RestWebClient() {
@@ -36,6 +44,8 @@ public class RestWebClient {
     public WebClient webClient() {
         return WebClient.builder()
                 .filter(setRequestHeaders())
+                .filter(limitConcurrency())
+                .filter(recordMetrics())
                 .exchangeStrategies(ExchangeStrategies.builder()
                 .codecs(configurer -> configurer
                         .defaultCodecs()
@@ -58,6 +68,16 @@ public class RestWebClient {
                     constants.isSplunkLogHelperEnabled())
                 ));
     }
+
+    private ExchangeFilterFunction limitConcurrency() {
+        return downstreamApiLimiter::limitExchange;
+    }
+
+    // after the concurrency limit, so that the latency does not include the wait for a permit
+    private ExchangeFilterFunction recordMetrics() {
+        return downstreamApiMetrics::record;
+    }
+
     private ExchangeFilterFunction setRequestHeaders() {
         return (clientRequest, next) -> {
             ClientRequest modifiedRequest = ClientRequest.from(clientRequest)
@@ -0,0 +1,11 @@
+package ca.bc.gov.educ.api.dataconversion.constant;
+
+/**
+ * Sections of StudentGradDTO that can be loaded on demand.
+ * PEN Student demographics and GRAD status are always loaded.
+ */
+public enum StudentDataRequirement {
+    PROGRAM_CODES,
+    COURSES,
+    ASSESSMENTS
+}
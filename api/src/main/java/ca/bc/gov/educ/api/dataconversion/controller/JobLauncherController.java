@@ -3,6 +3,8 @@ package ca.bc.gov.educ.api.dataconversion.controller;
 import ca.bc.gov.educ.api.dataconversion.constant.BatchStatusEnum;
 import ca.bc.gov.educ.api.dataconversion.model.BatchJobResponse;
 import ca.bc.gov.educ.api.dataconversion.model.ConversionBaseSummaryDTO;
+import ca.bc.gov.educ.api.dataconversion.model.JobProgress;
+import ca.bc.gov.educ.api.dataconversion.util.JobProgressTracker;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.info.Info;
@@ -12,6 +14,7 @@ import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
 import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.NoSuchJobException;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
@@ -23,6 +26,8 @@ import org.springframework.web.bind.annotation.*;
 
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 
 @RestController
@@ -36,13 +41,19 @@ public class JobLauncherController {
     private static final String TIME="time";
     private static final String JOB_PARAM="job";
     private static final String RELOAD_PARAM="reload";
+    private static final String DELTA_PARAM="delta";
+    private static final String UPDATED_SINCE_PARAM="updatedSince";
 
     private final JobLauncher jobLauncher;
     private final JobRegistry jobRegistry;
+    private final JobExplorer jobExplorer;
+    private final JobProgressTracker jobProgressTracker;
 
-    public JobLauncherController(JobLauncher jobLauncher, JobRegistry jobRegistry) {
+    public JobLauncherController(JobLauncher jobLauncher, JobRegistry jobRegistry, JobExplorer jobExplorer, JobProgressTracker jobProgressTracker) {
         this.jobLauncher = jobLauncher;
         this.jobRegistry = jobRegistry;
+        this.jobExplorer = jobExplorer;
+        this.jobProgressTracker = jobProgressTracker;
     }
 
     @GetMapping(EducGradDataConversionApiConstants.GRAD_COURSE_RESTRICTION_DATA_CONVERSION_BATCH_JOB)
@@ -86,9 +97,12 @@ public class JobLauncherController {
     }
 
     @GetMapping(EducGradDataConversionApiConstants.GRAD_STUDENT_PARALLEL_DATA_CONVERSION_BATCH_JOB)
-    @Operation(summary = "Initial Load of Students in Async Parallel Processing", description = "Loading students from TRAX into GRAD in Parallel using the partitions that are getting the paginated list from TRAX_STUDENT_NO table", tags = { "Students" })
+    @Operation(summary = "Initial Load of Students in Async Parallel Processing", description = "Loading students from TRAX into GRAD in Parallel using the partitions that are getting the paginated list from TRAX_STUDENT_NO table. " +
+            "In delta mode, only the students whose status is null, F or W, or which are changed since updatedSince (yyyy-MM-ddTHH:mm:ss) are loaded", tags = { "Students" })
     public ResponseEntity<BatchJobResponse> launchStudentDataConversionPartitionJob(
-            @RequestParam(value = "reload", required = false, defaultValue = "false") boolean isReload) {
+            @RequestParam(value = "reload", required = false, defaultValue = "false") boolean isReload,
+            @RequestParam(value = "delta", required = false, defaultValue = "false") boolean isDelta,
+            @RequestParam(value = "updatedSince", required = false) String updatedSince) {
         logger.info("Inside Launch Student Data Conversion Partition Job - Parallel Processing");
         BatchJobResponse response = new BatchJobResponse();
         response.setJobType("studentLoadJob");
@@ -96,6 +110,16 @@ public class JobLauncherController {
         builder.addLong(TIME, System.currentTimeMillis()).toJobParameters();
         builder.addString(JOB_PARAM, "studentLoadJob");
         builder.addString(RELOAD_PARAM, isReload? "Y" : "N");
+        builder.addString(DELTA_PARAM, isDelta || updatedSince != null ? "Y" : "N");
+        if (updatedSince != null) {
+            try {
+                LocalDateTime.parse(updatedSince);
+            } catch (DateTimeParseException e) {
+                response.setException("Invalid updatedSince: " + e.getLocalizedMessage());
+                return ResponseEntity.badRequest().body(response);
+            }
+            builder.addString(UPDATED_SINCE_PARAM, updatedSince);
+        }
         try {
             JobExecution jobExecution = jobLauncher.run(jobRegistry.getJob("studentLoadJob"), builder.toJobParameters());
             response.setBatchId(jobExecution.getId());
@@ -128,6 +152,41 @@ public class JobLauncherController {
         }
     }
 
+    @GetMapping(EducGradDataConversionApiConstants.RESTART_BATCH_JOB)
+    @Operation(summary = "Restart a failed Batch Job", description = "Resume a failed or stopped job execution: completed partitions are not run again, and the others resume after their last committed chunk", tags = { "Utils" })
+    public ResponseEntity<BatchJobResponse> restartJob(@PathVariable Long batchId) {
+        logger.info("Inside Restart Batch Job: {}", batchId);
+        BatchJobResponse response = new BatchJobResponse();
+        JobExecution failedJobExecution = jobExplorer.getJobExecution(batchId);
+        if (failedJobExecution == null) {
+            response.setException("Batch Job is not found: " + batchId);
+            return ResponseEntity.status(404).body(response);
+        }
+        String jobName = failedJobExecution.getJobInstance().getJobName();
+        response.setJobType(jobName);
+        try {
+            // the same job parameters make the launcher restart the job instance from where it failed
+            JobExecution jobExecution = jobLauncher.run(jobRegistry.getJob(jobName), failedJobExecution.getJobParameters());
+            response.setBatchId(jobExecution.getId());
+            return ResponseEntity.ok(response);
+        } catch (JobExecutionAlreadyRunningException | JobRestartException | JobInstanceAlreadyCompleteException
+                | JobParametersInvalidException | NoSuchJobException e) {
+            response.setException(e.getLocalizedMessage());
+            return ResponseEntity.status(500).body(response);
+        }
+    }
+
+    @GetMapping(EducGradDataConversionApiConstants.BATCH_JOB_PROGRESS)
+    @Operation(summary = "Progress of a running Batch Job", description = "Live progress of the student load or PEN updates job: students per second, ETA, error rate, per-partition progress and per-program counts. " +
+            "The ETA is only known when the partitions have fixed PEN ranges", tags = { "Utils" })
+    public ResponseEntity<JobProgress> getJobProgress(@PathVariable Long batchId) {
+        JobProgress progress = jobProgressTracker.getProgress(batchId);
+        if (progress == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(progress);
+    }
+
     private ConversionBaseSummaryDTO handleSuccess(ExecutionContext jobContext , String summaryDtoName) throws JobParametersInvalidException {
         return (ConversionBaseSummaryDTO)jobContext.get(summaryDtoName);
     }
@@ -0,0 +1,47 @@
+package ca.bc.gov.educ.api.dataconversion.entity;
+
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An alert of a batch job, kept out of the job execution context.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "CONVERSION_ALERT_LOG")
+@Data
+public class ConversionAlertLog {
+  @Id
+  @GeneratedValue(generator = "UUID")
+  @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator", parameters = {
+      @org.hibernate.annotations.Parameter(name = "uuid_gen_strategy_class", value = "org.hibernate.id.uuid.CustomVersionOneStrategy")})
+  @Column(name = "CONVERSION_ALERT_LOG_ID", unique = true, updatable = false, columnDefinition = "BINARY(16)")
+  private UUID conversionAlertLogId;
+
+  @Column(name = "JOB_EXECUTION_ID", updatable = false)
+  private Long jobExecutionId;
+
+  /**
+   * The PEN or the code the alert is about.
+   */
+  @Column(name = "ITEM", updatable = false)
+  private String item;
+
+  @Column(name = "ALERT_LEVEL", updatable = false)
+  private String alertLevel;
+
+  @Column(name = "REASON", updatable = false, length = 4000)
+  private String reason;
+
+  @Column(name = "CREATE_USER", updatable = false)
+  private String createUser;
+
+  @Column(name = "CREATE_DATE", updatable = false)
+  private LocalDateTime createDate;
+}
@@ -1,12 +1,15 @@
 package ca.bc.gov.educ.api.dataconversion.listener;
 
 import ca.bc.gov.educ.api.dataconversion.model.ConversionStudentSummaryDTO;
+import ca.bc.gov.educ.api.dataconversion.reader.PenWorkQueue;
+import ca.bc.gov.educ.api.dataconversion.util.JobProgressTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.time.ZoneId;
@@ -16,9 +19,17 @@ import java.util.Date;
 public class PenUpdatesJobCompletionNotificationListener implements JobExecutionListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PenUpdatesJobCompletionNotificationListener.class);
+
+    @Autowired
+    PenWorkQueue penWorkQueue;
+
+    @Autowired
+    JobProgressTracker jobProgressTracker;
     
     @Override
     public void afterJob(JobExecution jobExecution) {
+		penWorkQueue.release(jobExecution.getId());
+		jobProgressTracker.finish(jobExecution.getId());
 		if (jobExecution.getStatus() == BatchStatus.COMPLETED ||
 			jobExecution.getStatus() == BatchStatus.FAILED ||
 			jobExecution.getStatus() == BatchStatus.UNKNOWN) {
@@ -34,10 +45,13 @@ public class PenUpdatesJobCompletionNotificationListener implements JobExecution
 			LOGGER.info(" Created count:	{}", summaryDTO.getAddedCount());
 			LOGGER.info(" Updated count:	{}", summaryDTO.getUpdatedCount());
 			LOGGER.info(" --------------------------------------------------------------------------------------");
-			LOGGER.info(" Not Good: 		{}", summaryDTO.getErrors().size());
+			LOGGER.info(" Not Good: 		{}", summaryDTO.getErroredCount());
 			summaryDTO.getErrors().forEach(e ->
 				LOGGER.info("  {} - Pen: {}, Reason: {}", e.getLevel(), e.getItem(), e.getReason())
 			);
+			if (summaryDTO.getErroredCount() > summaryDTO.getErrors().size()) {
+				LOGGER.info("  ... all the errors are in CONVERSION_ALERT_LOG for JOB_EXECUTION_ID = {}", jobExecution.getId());
+			}
 			LOGGER.info("=======================================================================================");
 		}
     }
@@ -1,12 +1,18 @@
 package ca.bc.gov.educ.api.dataconversion.listener;
 
 import ca.bc.gov.educ.api.dataconversion.model.ConversionStudentSummaryDTO;
+import ca.bc.gov.educ.api.dataconversion.reader.PenWorkQueue;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import ca.bc.gov.educ.api.dataconversion.util.JobProgressTracker;
+import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.SchoolCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.time.ZoneId;
@@ -16,9 +22,33 @@ import java.util.Date;
 public class StudentDataConversionJobCompletionNotificationListener implements JobExecutionListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StudentDataConversionJobCompletionNotificationListener.class);
+
+    @Autowired
+    PenWorkQueue penWorkQueue;
+
+    @Autowired
+    SchoolCache schoolCache;
+
+    @Autowired
+    RestUtils restUtils;
+
+    @Autowired
+    EducGradDataConversionApiConstants constants;
+
+    @Autowired
+    JobProgressTracker jobProgressTracker;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+    	if (constants.isSchoolCacheWarmUpEnabled()) {
+    		schoolCache.warmUp(restUtils.fetchAccessToken());
+    	}
+    }
     
     @Override
     public void afterJob(JobExecution jobExecution) {
+    	penWorkQueue.release(jobExecution.getId());
+    	jobProgressTracker.finish(jobExecution.getId());
     	if (jobExecution.getStatus() == BatchStatus.COMPLETED ||
 			jobExecution.getStatus() == BatchStatus.FAILED ||
 			jobExecution.getStatus() == BatchStatus.UNKNOWN) {
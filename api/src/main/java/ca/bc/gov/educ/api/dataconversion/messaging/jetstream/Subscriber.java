@@ -4,9 +4,9 @@ import ca.bc.gov.educ.api.dataconversion.constant.Topics;
 import ca.bc.gov.educ.api.dataconversion.model.ChoreographedEvent;
 import ca.bc.gov.educ.api.dataconversion.service.EventHandlerDelegatorService;
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import ca.bc.gov.educ.api.dataconversion.util.ExecutorUtils;
 import ca.bc.gov.educ.api.dataconversion.util.JsonUtil;
 import ca.bc.gov.educ.api.dataconversion.util.LogHelper;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.nats.client.Connection;
 import io.nats.client.JetStreamApiException;
 import io.nats.client.Message;
@@ -15,13 +15,11 @@ import io.nats.client.api.ConsumerConfiguration;
 import io.nats.client.api.DeliverPolicy;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.jboss.threads.EnhancedQueueExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -53,9 +51,8 @@ public class Subscriber {
     this.eventHandlerDelegatorService = eventHandlerDelegatorService;
     this.natsConnection = natsConnection;
     this.constants = constants;
-    this.subscriberExecutor = new EnhancedQueueExecutor.Builder()
-            .setThreadFactory(new ThreadFactoryBuilder().setNameFormat("jet-stream-subscriber-%d").build())
-            .setCorePoolSize(10).setMaximumPoolSize(10).setKeepAliveTime(Duration.ofSeconds(60)).build();
+    this.subscriberExecutor = ExecutorUtils.createExecutor("jet-stream-subscriber-%d",
+            constants.getSubscriberPoolSize(), constants.getSubscriberPoolSize());
     this.initializeStreamTopicMap();
   }
 
@@ -1,6 +1,7 @@
 package ca.bc.gov.educ.api.dataconversion.model;
 
 import ca.bc.gov.educ.api.dataconversion.constant.ConversionResultType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -47,4 +48,8 @@ public class ConvGradStudent {
 
   // data conversion status after being processed.
   private ConversionResultType result;
+
+  // alerts raised while the student is converted, written with its conversion status
+  @JsonIgnore
+  private List<ConversionAlert> alerts;
 }
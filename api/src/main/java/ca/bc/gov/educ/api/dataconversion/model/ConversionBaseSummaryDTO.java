@@ -4,11 +4,12 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.util.*;
 
 @Data
 @NoArgsConstructor
-public class ConversionBaseSummaryDTO {
+public class ConversionBaseSummaryDTO implements Serializable {
   private String tableName;
 
   private long readCount = 0L;
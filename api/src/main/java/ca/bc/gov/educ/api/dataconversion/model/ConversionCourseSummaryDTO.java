@@ -1,7 +1,11 @@
 package ca.bc.gov.educ.api.dataconversion.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.io.Serializable;
 import java.util.HashMap;
@@ -21,4 +25,16 @@ public class ConversionCourseSummaryDTO extends ConversionBaseSummaryDTO impleme
   private long addedCountForAssessmentRequirement = 0L;
   private long updatedCountForAssessmentRequirement = 0L;
 
+  // course-only checks memoized for this conversion run; not saved with the job
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private transient CourseCheckResults courseCheckResults;
+
+  @JsonIgnore
+  public synchronized CourseCheckResults getCourseCheckResults() {
+    if (courseCheckResults == null) {
+      courseCheckResults = new CourseCheckResults();
+    }
+    return courseCheckResults;
+  }
 }
@@ -1,80 +1,108 @@
 package ca.bc.gov.educ.api.dataconversion.model;
 
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @Data
 @NoArgsConstructor
 @JsonSerialize
 public class ConversionStudentSummaryDTO extends ConversionBaseSummaryDTO implements Serializable {
 
-  // stats
-  private Map<String, Long> programCountMap = new LinkedHashMap<>() {{
-    put("2018-EN", 0L);
-    put("2018-EN Grad", 0L);
-    put("2018-PF", 0L);
-    put("2018-PF Grad", 0L);
-    put("2004-EN", 0L);
-    put("2004-EN Grad", 0L);
-    put("2004-PF", 0L);
-    put("2004-PF Grad", 0L);
-    put("1996-EN", 0L);
-    put("1996-EN Grad", 0L);
-    put("1996-PF", 0L);
-    put("1996-PF Grad", 0L);
-    put("1986-EN", 0L);
-    put("1986-EN Grad", 0L);
-    put("1986-PF", 0L);
-    put("1986-PF Grad", 0L);
-    put("1950", 0L);
-    put("1950 Grad", 0L);
-    put("SCCP", 0L);
-    put("SCCP Grad", 0L);
-  }};
+  private static final List<String> PROGRAM_CODES = List.of(
+      "2018-EN", "2018-EN Grad", "2018-PF", "2018-PF Grad",
+      "2004-EN", "2004-EN Grad", "2004-PF", "2004-PF Grad",
+      "1996-EN", "1996-EN Grad", "1996-PF", "1996-PF Grad",
+      "1986-EN", "1986-EN Grad", "1986-PF", "1986-PF Grad",
+      "1950", "1950 Grad", "SCCP", "SCCP Grad");
+
+  private static final List<String> OPTIONAL_PROGRAM_CODES = List.of("FI", "AD", "BC", "BD");
+
+  // stats: LongAdder counters can be incremented and merged by concurrent partitions, without boxing
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private final Map<String, LongAdder> programCounts = newCounters(PROGRAM_CODES);
 
   // optional program stats
-  private Map<String, Long> optionalProgramCountMap = new LinkedHashMap<>() {{
-    put("FI", 0L);
-    put("AD", 0L);
-    put("BC", 0L);
-    put("BD", 0L);
-  }};
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private final Map<String, LongAdder> optionalProgramCounts = newCounters(OPTIONAL_PROGRAM_CODES);
 
   // career program stats
-  private Map<String, Long> careerProgramCountMap = new HashMap<>();
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private final Map<String, LongAdder> careerProgramCounts = new ConcurrentHashMap<>();
 
   public void increment(String programCode, boolean isGraduated) {
     if (isGraduated) {
       programCode = programCode + " Grad";
     }
-    Long count = programCountMap.get(programCode);
+    LongAdder count = programCounts.get(programCode);
     if (count != null) {
-      count++;
-      programCountMap.put(programCode, count);
+      count.increment();
     }
   }
 
   public void incrementOptionalProgram(String optionalProgramCode) {
-    Long count = optionalProgramCountMap.get(optionalProgramCode);
-    if (count != null) {
-      count++;
-      optionalProgramCountMap.put(optionalProgramCode, count);
-    } else {
-      optionalProgramCountMap.put(optionalProgramCode, 1L);
-    }
+    optionalProgramCounts.computeIfAbsent(optionalProgramCode, code -> new LongAdder()).increment();
   }
 
   public void incrementCareerProgram(String careerProgramCode) {
-    Long count = careerProgramCountMap.get(careerProgramCode);
-    if (count != null) {
-      count++;
-      careerProgramCountMap.put(careerProgramCode, count);
-    } else {
-      careerProgramCountMap.put(careerProgramCode, 1L);
+    careerProgramCounts.computeIfAbsent(careerProgramCode, code -> new LongAdder()).increment();
+  }
+
+  public Map<String, Long> getProgramCountMap() {
+    return toCountMap(programCounts, PROGRAM_CODES);
+  }
+
+  public Map<String, Long> getOptionalProgramCountMap() {
+    return toCountMap(optionalProgramCounts, OPTIONAL_PROGRAM_CODES);
+  }
+
+  public Map<String, Long> getCareerProgramCountMap() {
+    return toCountMap(careerProgramCounts, Collections.emptyList());
+  }
+
+  /**
+   * Adds the counts of a partition summary to this one. Partitions can merge concurrently:
+   * the counts are added under the lock of this summary, the program counters without locking.
+   */
+  public void merge(ConversionStudentSummaryDTO other) {
+    synchronized (this) {
+      setReadCount(getReadCount() + other.getReadCount());
+      setProcessedCount(getProcessedCount() + other.getProcessedCount());
+      setAddedCount(getAddedCount() + other.getAddedCount());
+      setUpdatedCount(getUpdatedCount() + other.getUpdatedCount());
+      setErroredCount(getErroredCount() + other.getErroredCount());
     }
+    mergeCounters(programCounts, other.programCounts);
+    mergeCounters(optionalProgramCounts, other.optionalProgramCounts);
+    mergeCounters(careerProgramCounts, other.careerProgramCounts);
+  }
+
+  private static Map<String, LongAdder> newCounters(List<String> codes) {
+    Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    codes.forEach(code -> counters.put(code, new LongAdder()));
+    return counters;
+  }
+
+  private static void mergeCounters(Map<String, LongAdder> total, Map<String, LongAdder> current) {
+    current.forEach((code, count) -> total.computeIfAbsent(code, c -> new LongAdder()).add(count.sum()));
+  }
+
+  // snapshot of the counters: the known codes in their usual order, then the others by code
+  private static Map<String, Long> toCountMap(Map<String, LongAdder> counters, List<String> codes) {
+    Map<String, Long> countMap = new LinkedHashMap<>();
+    codes.forEach(code -> countMap.put(code, counters.get(code).sum()));
+    new TreeMap<>(counters).forEach((code, count) -> countMap.putIfAbsent(code, count.sum()));
+    return countMap;
   }
 }
@@ -0,0 +1,41 @@
+package ca.bc.gov.educ.api.dataconversion.model;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Memoized results of the GRAD Course API checks which only depend on the course (French / Blank language course),
+ * held by the course requirement summary of a conversion run.
+ * A failed check is not memoized.
+ */
+public class CourseCheckResults {
+
+    public enum Check {
+        FRENCH_LANGUAGE_COURSE, BLANK_LANGUAGE_COURSE
+    }
+
+    private final Map<String, Boolean> results = new ConcurrentHashMap<>();
+
+    /**
+     * @param type        check
+     * @param courseCode  course code
+     * @param courseLevel course level
+     * @param check       REST call made the first time the check is asked for the course
+     */
+    public boolean get(Check type, String courseCode, String courseLevel, BooleanSupplier check) {
+        String resultKey = type + "|" + StringUtils.trimToEmpty(courseCode) + "|" + StringUtils.trimToEmpty(courseLevel);
+        Boolean result = results.get(resultKey);
+        if (result == null) {
+            result = check.getAsBoolean();
+            results.putIfAbsent(resultKey, result);
+        }
+        return result;
+    }
+
+    public int size() {
+        return results.size();
+    }
+}
@@ -0,0 +1,29 @@
+package ca.bc.gov.educ.api.dataconversion.model;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Data
+public class JobProgress {
+    private Long batchId;
+    private String jobType;
+    private boolean running;
+    private long elapsedSeconds;
+
+    // null when the partitions pull their PENs from the shared cursor: the total is not known up front
+    private Long totalCount;
+    private long readCount;
+    private long processedCount;
+    private long erroredCount;
+
+    private double studentsPerSecond;
+    private double errorRate;
+    private Long etaSeconds;
+
+    private List<PartitionProgress> partitions = new ArrayList<>();
+    private Map<String, Long> programCountMap = new TreeMap<>();
+}
@@ -0,0 +1,13 @@
+package ca.bc.gov.educ.api.dataconversion.model;
+
+import lombok.Data;
+
+@Data
+public class PartitionProgress {
+    private String partitionName;
+    private Long totalCount;
+    private long readCount;
+    private long processedCount;
+    private long erroredCount;
+    private Double percentComplete;
+}
@@ -4,10 +4,16 @@ import org.json.JSONObject;
 
 import java.util.Base64;
 
+/**
+ * Access token shared by all threads.
+ * The token and its expiry are replaced together as one immutable snapshot, so reads are lock-free
+ * and the JWT is parsed only once per token.
+ */
 public class ResponseObjCache {
 
-    private long tokenExpiry = 0;
-    private ResponseObj responseObj;
+    private record CachedToken(ResponseObj responseObj, long tokenExpiry) {}
+
+    private volatile CachedToken cachedToken = new CachedToken(null, 0);
 
     // tokenExpiry-[seconds] provides a slight offset, if token WILL expire in
     // [seconds], obtain a new one
@@ -18,24 +24,30 @@ public class ResponseObjCache {
     }
 
     public ResponseObj getResponseObj() {
-        return responseObj;
+        return cachedToken.responseObj();
     }
 
     public void setResponseObj(ResponseObj responseObj) {
-        this.setTokenExpiry(responseObj);
-        this.responseObj = responseObj;
+        this.cachedToken = new CachedToken(responseObj, getTokenExpiry(responseObj));
     }
 
     public boolean isExpired(){
         // tokenExpiry-[seconds] provides a slight offset, if token WILL expire in
         // 10 seconds, obtain a new one
-        return (tokenExpiry-offset) < (System.currentTimeMillis() / 1000);
+        return isExpiringWithin(0);
+    }
+
+    /**
+     * @return true if the token expires (minus the offset) within the given number of seconds
+     */
+    public boolean isExpiringWithin(long seconds) {
+        return (cachedToken.tokenExpiry() - offset - seconds) < (System.currentTimeMillis() / 1000);
     }
 
-    private void setTokenExpiry(ResponseObj responseObj){
+    private long getTokenExpiry(ResponseObj responseObj){
         String[] parts = responseObj.getAccess_token().split("\\.");
         JSONObject payload = new JSONObject(new String(Base64.getUrlDecoder().decode(parts[1])));
-        this.tokenExpiry = payload.getLong("exp");
+        return payload.getLong("exp");
     }
 
 
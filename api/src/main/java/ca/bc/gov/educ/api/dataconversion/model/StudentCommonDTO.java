@@ -1,6 +1,8 @@
 package ca.bc.gov.educ.api.dataconversion.model;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
@@ -8,8 +10,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+// the fields are read directly: subclasses may override the getters of the sections to load them on first access
 @Slf4j
 @Data
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
 public class StudentCommonDTO extends StudentDemographicDTO {
     // grad status
     private String program;
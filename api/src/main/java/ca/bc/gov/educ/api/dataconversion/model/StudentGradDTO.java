@@ -1,14 +1,23 @@
 package ca.bc.gov.educ.api.dataconversion.model;
 
+import ca.bc.gov.educ.api.dataconversion.constant.StudentDataRequirement;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
-
+// toString / equals / hashCode leave out the inherited sections, so that they never fetch the sections still to be loaded
 @Data
+@ToString(callSuper = false)
+@EqualsAndHashCode(callSuper = false)
 public class StudentGradDTO extends  StudentCommonDTO {
     private UUID studentID;
 
@@ -31,6 +40,74 @@ public class StudentGradDTO extends  StudentCommonDTO {
     private List<String> addedProgramCodes = new ArrayList<>();
     private List<String> removedProgramCodes = new ArrayList<>();
 
+    // loaders for the sections fetched on first access - a loader is only dropped once it has succeeded,
+    // so that a failed load fails again on the next access instead of showing an empty list
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Supplier<List<String>> programCodesLoader;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Supplier<List<StudentCourse>> coursesLoader;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Supplier<List<StudentAssessment>> assessmentsLoader;
+
+    /**
+     * Fetch the given sections now instead of on first access.
+     */
+    public void load(Set<StudentDataRequirement> requirements) {
+        if (requirements.contains(StudentDataRequirement.PROGRAM_CODES)) {
+            getProgramCodes();
+        }
+        if (requirements.contains(StudentDataRequirement.COURSES)) {
+            getCourses();
+        }
+        if (requirements.contains(StudentDataRequirement.ASSESSMENTS)) {
+            getAssessments();
+        }
+    }
+
+    @Override
+    public List<String> getProgramCodes() {
+        if (programCodesLoader != null) {
+            List<String> loaded = programCodesLoader.get();
+            programCodesLoader = null;
+            addAll(super.getProgramCodes(), loaded);
+        }
+        return super.getProgramCodes();
+    }
+
+    @Override
+    public List<StudentCourse> getCourses() {
+        if (coursesLoader != null) {
+            List<StudentCourse> loaded = coursesLoader.get();
+            coursesLoader = null;
+            addAll(super.getCourses(), loaded);
+        }
+        return super.getCourses();
+    }
+
+    @Override
+    public List<StudentAssessment> getAssessments() {
+        if (assessmentsLoader != null) {
+            List<StudentAssessment> loaded = assessmentsLoader.get();
+            assessmentsLoader = null;
+            addAll(super.getAssessments(), loaded);
+        }
+        return super.getAssessments();
+    }
+
+    private static <T> void addAll(List<T> target, List<T> loaded) {
+        if (loaded != null && !loaded.isEmpty()) {
+            target.addAll(loaded);
+        }
+    }
+
     public String getUpToDateGradProgram() {
         return StringUtils.isNotBlank(newProgram)? newProgram : this.getProgram();
     }
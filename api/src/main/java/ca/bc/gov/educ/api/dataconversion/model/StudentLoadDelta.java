@@ -0,0 +1,27 @@
+package ca.bc.gov.educ.api.dataconversion.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.batch.core.JobParameters;
+
+/**
+ * Delta mode of the student load: only the PENs of TRAX_STUDENT_NO whose status is null, F or W,
+ * or which are changed since updatedSince (yyyy-MM-ddTHH:mm:ss) when it is given.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentLoadDelta {
+    private String updatedSince;
+
+    /**
+     * @return the delta of the job, or null when the job walks the full TRAX_STUDENT_NO list
+     */
+    public static StudentLoadDelta fromJobParameters(JobParameters jobParameters) {
+        if (!"Y".equals(jobParameters.getString("delta"))) {
+            return null;
+        }
+        return new StudentLoadDelta(jobParameters.getString("updatedSince"));
+    }
+}
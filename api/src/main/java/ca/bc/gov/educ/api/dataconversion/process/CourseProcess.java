@@ -2,10 +2,10 @@ package ca.bc.gov.educ.api.dataconversion.process;
 
 import ca.bc.gov.educ.api.dataconversion.model.*;
 import ca.bc.gov.educ.api.dataconversion.util.DateConversionUtils;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiUtils;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanUtils;
@@ -13,7 +13,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
 public class CourseProcess {
@@ -24,19 +23,6 @@ public class CourseProcess {
     private static final String CREATE_USER = "createUser";
     private static final String CREATE_DATE = "createDate";
 
-    // Removal List for Course Requirement
-    private static final String LTSTF_STR = "LTSTF";
-
-    // Ignore List for Course Restriction
-    private static final String CLEA_STR = "CLEA";
-    private static final String CLEB_STR = "CLEB";
-    private static final String CLEAF_STR = "CLEAF";
-    private static final String CLEBF_STR = "CLEBF";
-    private static final String CLCA_STR = "CLCA";
-    private static final String CLCB_STR = "CLCB";
-    private static final String CLCAF_STR = "CLCAF";
-    private static final String CLCBF_STR = "CLCBF";
-
     // Hard coded Insert into Course Requirement
     private static final String FRAL_STR = "FRAL";
     private static final String FRALP_STR = "FRALP";
@@ -48,113 +34,193 @@ public class CourseProcess {
     private static final String CPCOW_STR = "CPCOW";
     private static final String CPSSA_STR = "CPSSA";
 
-    private static final List<String> RECENT_GRAD_PROGRAMS = Arrays.asList("2023", "2018");
-
     private static final String ERR_MSG_FORMAT = "For {} : {}";
 
-    private static final List<CourseRequirementDTO> REMOVAL_LIST = new ArrayList<>();
-    static {
-        REMOVAL_LIST.add(CourseRequirementDTO.builder().courseCode("LSNMF").courseLevel("10").ruleCode("302").build());
-        REMOVAL_LIST.add(CourseRequirementDTO.builder().courseCode("LSPF").courseLevel("10").ruleCode("302").build());
-        REMOVAL_LIST.add(CourseRequirementDTO.builder().courseCode("LSSLF").courseLevel("10").ruleCode("302").build());
-        REMOVAL_LIST.add(CourseRequirementDTO.builder().courseCode(LTSTF_STR).courseLevel("10").ruleCode("302").build());
-
-        REMOVAL_LIST.add(CourseRequirementDTO.builder().courseCode("NMDF").courseLevel("11").ruleCode("301").build());
-        REMOVAL_LIST.add(CourseRequirementDTO.builder().courseCode(LTSTF_STR).courseLevel("11").ruleCode("301").build());
-        REMOVAL_LIST.add(CourseRequirementDTO.builder().courseCode("SPLGF").courseLevel("11").ruleCode("301").build());
-        REMOVAL_LIST.add(CourseRequirementDTO.builder().courseCode("LCFF").courseLevel("11").ruleCode("301").build());
-    }
-
-    private static final List<Pair<String, String>> RESTRICTION_IGNORE_LIST = new ArrayList<>();
-    static {
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLEA_STR, CLEB_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLEA_STR, CLEBF_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLEAF_STR, CLEB_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLEAF_STR, CLEBF_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLEB_STR, CLEA_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLEB_STR, CLEAF_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLEBF_STR, CLEA_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLEBF_STR, CLEAF_STR));
-
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLCA_STR, CLCB_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLCA_STR, CLCBF_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLCAF_STR, CLCB_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLCAF_STR, CLCBF_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLCB_STR, CLCA_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLCB_STR, CLCAF_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLCBF_STR, CLCA_STR));
-        RESTRICTION_IGNORE_LIST.add(Pair.of(CLCBF_STR, CLCAF_STR));
-    }
-
     private final RestUtils restUtils;
+    private final EducGradDataConversionApiConstants constants;
+
+    // Removal List for Course Requirement: course code / level / rule code
+    private final Set<String> courseRequirementRemovals;
+    // Ignore List for Course Restriction: main course code / restricted course code
+    private final Set<String> courseRestrictionIgnores;
 
     @Autowired
-    public CourseProcess(RestUtils restUtils) {
+    public CourseProcess(RestUtils restUtils, EducGradDataConversionApiConstants constants) {
         this.restUtils = restUtils;
+        this.constants = constants;
+        this.courseRequirementRemovals = toKeys(constants.getCourseRequirementRemovalList());
+        this.courseRestrictionIgnores = toKeys(constants.getCourseRestrictionIgnoreList());
+    }
+
+    private static Set<String> toKeys(List<String> entries) {
+        Set<String> keys = new HashSet<>();
+        if (entries != null) {
+            entries.stream().filter(StringUtils::isNotBlank).forEach(e -> keys.add(toKey(StringUtils.splitPreserveAllTokens(e, '/'))));
+        }
+        return Set.copyOf(keys);
+    }
+
+    // normalized composite key: the codes trimmed, upper-cased and joined by "/"
+    private static String toKey(String... codes) {
+        StringJoiner key = new StringJoiner("/");
+        for (String code : codes) {
+            key.add(StringUtils.upperCase(StringUtils.trimToEmpty(code)));
+        }
+        return key.toString();
     }
 
     public CourseRestriction convertCourseRestriction(CourseRestriction courseRestriction, ConversionCourseSummaryDTO summary) {
-        summary.setProcessedCount(summary.getProcessedCount() + 1L);
+        CourseRestriction toBeSaved = prepareCourseRestriction(courseRestriction, null, summary);
+        if (toBeSaved == null) {
+            return null;
+        }
+        return saveCourseRestriction(toBeSaved, summary);
+    }
+
+    /**
+     * Loads all the course restrictions in GRAD at once, keyed by main course / level and restricted course / level.
+     * @return null if they can not be loaded: each course restriction is then looked up one by one
+     */
+    public Map<String, CourseRestriction> getCourseRestrictions(String accessToken) {
+        try {
+            List<CourseRestriction> courseRestrictions = restUtils.getCourseRestrictions(accessToken);
+            Map<String, CourseRestriction> result = new HashMap<>();
+            if (courseRestrictions != null) {
+                courseRestrictions.forEach(c -> result.put(getCourseRestrictionKey(c), c));
+            }
+            logger.info("{} Course Restrictions are loaded from GRAD", result.size());
+            return result;
+        } catch (Exception e) {
+            logger.warn("GRAD Course API is failed to retrieve all Course Restrictions: {}", e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the course restriction to be saved in GRAD: the existing one in GRAD, or a new one from TRAX.
+     * @param existingCourseRestrictions course restrictions in GRAD by key, or null to look it up in GRAD
+     */
+    public CourseRestriction prepareCourseRestriction(CourseRestriction courseRestriction, Map<String, CourseRestriction> existingCourseRestrictions, ConversionCourseSummaryDTO summary) {
+        synchronized (summary) {
+            summary.setProcessedCount(summary.getProcessedCount() + 1L);
+        }
         if (isInvalidData(courseRestriction.getMainCourse(), courseRestriction.getRestrictedCourse())) {
             ConversionAlert error = new ConversionAlert();
             error.setLevel(ConversionAlert.AlertLevelEnum.WARNING);
             error.setItem(courseRestriction.getMainCourse() + " " + courseRestriction.getRestrictedCourse());
             error.setReason("Skip invalid data");
-            summary.getErrors().add(error);
+            addError(error, summary);
             return null;
         }
-        boolean isUpdate = false;
         CourseRestriction currentCourseRestriction;
-        try {
-            currentCourseRestriction = restUtils.getCourseRestriction(
-                    courseRestriction.getMainCourse(),
-                    courseRestriction.getMainCourseLevel(),
-                    courseRestriction.getRestrictedCourse(),
-                    courseRestriction.getRestrictedCourseLevel(),
-                    summary.getAccessToken());
-        } catch (Exception e) {
-            ConversionAlert error = new ConversionAlert();
-            error.setLevel(ConversionAlert.AlertLevelEnum.ERROR);
-            error.setItem(courseRestriction.getMainCourse() + "/" + courseRestriction.getMainCourseLevel() + ", " +
-                    courseRestriction.getRestrictedCourse() + "/" + courseRestriction.getRestrictedCourseLevel());
-            error.setReason("GRAD Course API is failed to retrieve!");
-            summary.getErrors().add(error);
-            logger.error(ERR_MSG_FORMAT, error.getItem(), error.getReason());
-            return null;
+        if (existingCourseRestrictions != null) {
+            currentCourseRestriction = existingCourseRestrictions.get(getCourseRestrictionKey(courseRestriction));
+        } else {
+            try {
+                currentCourseRestriction = restUtils.getCourseRestriction(
+                        courseRestriction.getMainCourse(),
+                        courseRestriction.getMainCourseLevel(),
+                        courseRestriction.getRestrictedCourse(),
+                        courseRestriction.getRestrictedCourseLevel(),
+                        summary.getAccessToken());
+            } catch (Exception e) {
+                ConversionAlert error = new ConversionAlert();
+                error.setLevel(ConversionAlert.AlertLevelEnum.ERROR);
+                error.setItem(getCourseRestrictionItem(courseRestriction));
+                error.setReason("GRAD Course API is failed to retrieve!");
+                addError(error, summary);
+                logger.error(ERR_MSG_FORMAT, error.getItem(), error.getReason());
+                return null;
+            }
         }
         if (currentCourseRestriction == null) {
             currentCourseRestriction = new CourseRestriction();
             BeanUtils.copyProperties(courseRestriction, currentCourseRestriction, COURSE_RESTRICTION_ID, CREATE_USER, CREATE_DATE);
         } else {
-            isUpdate = true;  // update
+            // update
+            CourseRestriction existingCourseRestriction = currentCourseRestriction;
+            currentCourseRestriction = new CourseRestriction();
+            BeanUtils.copyProperties(existingCourseRestriction, currentCourseRestriction);
         }
 
         convertCourseRestrictionData(currentCourseRestriction);
+        return currentCourseRestriction;
+    }
 
-        CourseRestriction result;
+    /**
+     * Saves the given course restrictions in GRAD in one request, and the ones not returned by it one by one.
+     * Unless the bulk save is enabled, all of them are saved one by one.
+     */
+    public void saveCourseRestrictions(List<? extends CourseRestriction> courseRestrictions, ConversionCourseSummaryDTO summary) {
+        if (courseRestrictions.isEmpty()) {
+            return;
+        }
+        if (!constants.isCourseRestrictionBulkSaveEnabled()) {
+            courseRestrictions.forEach(c -> saveCourseRestriction(c, summary));
+            return;
+        }
+        Map<String, CourseRestriction> pending = new LinkedHashMap<>();
+        courseRestrictions.forEach(c -> pending.put(getCourseRestrictionKey(c), c));
         try {
-            result = restUtils.saveCourseRestriction(currentCourseRestriction, summary.getAccessToken());
-            if (isUpdate) {
-                summary.setUpdatedCountForCourseRestriction(summary.getUpdatedCountForCourseRestriction() + 1L);
-            } else {
-                summary.setAddedCountForCourseRestriction(summary.getAddedCountForCourseRestriction() + 1L);
+            List<CourseRestriction> results = restUtils.saveCourseRestrictions(new ArrayList<>(courseRestrictions), summary.getAccessToken());
+            if (results != null) {
+                results.forEach(result -> {
+                    CourseRestriction saved = pending.remove(getCourseRestrictionKey(result));
+                    if (saved != null) {
+                        countCourseRestriction(saved.getCourseRestrictionId() != null, summary);
+                    }
+                });
             }
+        } catch (Exception e) {
+            logger.warn("Bulk save of {} Course Restrictions is failed: {}", courseRestrictions.size(), e.getLocalizedMessage());
+        }
+        pending.values().forEach(c -> saveCourseRestriction(c, summary));
+    }
+
+    private CourseRestriction saveCourseRestriction(CourseRestriction courseRestriction, ConversionCourseSummaryDTO summary) {
+        try {
+            CourseRestriction result = restUtils.saveCourseRestriction(courseRestriction, summary.getAccessToken());
+            countCourseRestriction(courseRestriction.getCourseRestrictionId() != null, summary);
             return result;
         } catch (Exception e) {
             ConversionAlert error = new ConversionAlert();
             error.setLevel(ConversionAlert.AlertLevelEnum.ERROR);
-            error.setItem(courseRestriction.getMainCourse() + "/" + courseRestriction.getMainCourseLevel() + ", " +
-                    courseRestriction.getRestrictedCourse() + "/" + courseRestriction.getRestrictedCourseLevel());
+            error.setItem(getCourseRestrictionItem(courseRestriction));
             error.setReason("GRAD Course API is failed to save Course Restriction!");
-            summary.getErrors().add(error);
+            addError(error, summary);
             logger.error(ERR_MSG_FORMAT, error.getItem(), error.getReason());
             return null;
         }
     }
 
+    private void countCourseRestriction(boolean isUpdate, ConversionCourseSummaryDTO summary) {
+        synchronized (summary) {
+            if (isUpdate) {
+                summary.setUpdatedCountForCourseRestriction(summary.getUpdatedCountForCourseRestriction() + 1L);
+            } else {
+                summary.setAddedCountForCourseRestriction(summary.getAddedCountForCourseRestriction() + 1L);
+            }
+        }
+    }
+
+    private void addError(ConversionAlert error, ConversionCourseSummaryDTO summary) {
+        synchronized (summary) {
+            summary.getErrors().add(error);
+        }
+    }
+
+    private String getCourseRestrictionKey(CourseRestriction courseRestriction) {
+        return StringUtils.trimToEmpty(courseRestriction.getMainCourse()) + "/" + StringUtils.trimToEmpty(courseRestriction.getMainCourseLevel()) + "/"
+                + StringUtils.trimToEmpty(courseRestriction.getRestrictedCourse()) + "/" + StringUtils.trimToEmpty(courseRestriction.getRestrictedCourseLevel());
+    }
+
+    private String getCourseRestrictionItem(CourseRestriction courseRestriction) {
+        return courseRestriction.getMainCourse() + "/" + courseRestriction.getMainCourseLevel() + ", " +
+                courseRestriction.getRestrictedCourse() + "/" + courseRestriction.getRestrictedCourseLevel();
+    }
+
     private boolean isInvalidData(String mainCourseCode, String restrictedCourseCode) {
-        Pair<String, String> pair = Pair.of(mainCourseCode, restrictedCourseCode);
-        return RESTRICTION_IGNORE_LIST.contains(pair);
+        return courseRestrictionIgnores.contains(toKey(mainCourseCode, restrictedCourseCode));
     }
 
     private void convertCourseRestrictionData(CourseRestriction courseRestriction) {
@@ -178,18 +244,12 @@ public class CourseProcess {
         if (!validateGradCourse(courseRequirement)) {
             return courseRequirement;
         }
-        processEnglish(courseRequirement, summary);
-        processSocials(courseRequirement, summary);
-        processMath(courseRequirement, summary);
-        processScience(courseRequirement, summary);
-        processCareerPersonal(courseRequirement, summary);
-        processPhysEd(courseRequirement, summary);
-        processAppliedSkills(courseRequirement, summary);
-        processPortFolio(courseRequirement, summary);
-        processConsEd(courseRequirement, summary);
-        processFineArts(courseRequirement, summary);
-        processCareerLifeConnections(courseRequirement, summary);
-        handleExtras(courseRequirement, summary);
+        for (CourseRequirementRuleTable.Rule rule : CourseRequirementRuleTable.getRules(courseRequirement)) {
+            if (rule.languageCourseCheck() == null || hasLanguageCourse(rule.languageCourseCheck(), courseRequirement, summary)) {
+                createCourseRequirement(populate(courseRequirement.getCourseCode(),
+                    courseRequirement.getCourseLevel(), rule.ruleCode()), summary);
+            }
+        }
         return courseRequirement;
     }
 
@@ -197,977 +257,691 @@ public class CourseProcess {
         return !StringUtils.equalsIgnoreCase(gradCourse.getStartSession(), gradCourse.getEndSession());
     }
 
-    private void processEnglish(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        // english10
-        processEnglish10(gradCourse, summary);
-        // english11
-        processEnglish11(gradCourse, summary);
-        // english12
-        processEnglish12(gradCourse, summary);
-    }
-
-    private void processEnglish10(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        if (StringUtils.isNotBlank(gradCourse.getEnglish10()) && StringUtils.equals(gradCourse.getEnglish10(), "Y")) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "101"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "701"), summary);
-            }
-            handleFrenchLanguageCourseForEnglish10(gradCourse, summary);
-            handleBlankLanguageCourseForEnglish10(gradCourse, summary);
-        }
-    }
-
-    private void handleFrenchLanguageCourseForEnglish10(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        if (hasFrenchLanguageCourse(gradCourse.getCourseCode(),
-                gradCourse.getCourseLevel(), summary.getAccessToken())) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "302"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "815"), summary);
-            }
-        }
-    }
-
-    private void handleBlankLanguageCourseForEnglish10(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        if (hasBlankLanguageCourse(gradCourse.getCourseCode(),
-                gradCourse.getCourseLevel(), summary.getAccessToken())) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "400"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "850"), summary);
-            }
-        }
-    }
-
-    private void processEnglish11(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        if (StringUtils.isNotBlank(gradCourse.getEnglish11()) && StringUtils.equals(gradCourse.getEnglish11(), "Y")) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "102"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "702"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1996")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "721"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1986")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "740"), summary);
-            }
-            handleFrenchLanguageCourseForEnglish11(gradCourse, summary);
-            handleBlankLanguageCourseForEnglish11(gradCourse, summary);
-        }
-    }
-
-    private void handleFrenchLanguageCourseForEnglish11(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        if (hasFrenchLanguageCourse(gradCourse.getCourseCode(), gradCourse.getCourseLevel(), summary.getAccessToken())) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "301"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "816"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1996")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "818"), summary);
-            }
-        }
-
-    }
-
-    private void handleBlankLanguageCourseForEnglish11(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        if (hasBlankLanguageCourse(gradCourse.getCourseCode(), gradCourse.getCourseLevel(), summary.getAccessToken())) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "401"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "851"), summary);
-            }
+    private boolean hasLanguageCourse(CourseCheckResults.Check check, GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
+        if (check == CourseCheckResults.Check.FRENCH_LANGUAGE_COURSE) {
+            return hasFrenchLanguageCourse(gradCourse.getCourseCode(), gradCourse.getCourseLevel(), summary.getCourseCheckResults(), summary.getAccessToken());
         }
-    }
-
-    private void processEnglish12(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        if (StringUtils.isNotBlank(gradCourse.getEnglish12()) && StringUtils.equals(gradCourse.getEnglish12(), "Y")) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "103"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "703"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1950")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "500"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1996")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "722"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1986")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "741"), summary);
-            }
-            handleFrenchLanguageCourseForEnglish12(gradCourse, summary);
-            handleBlankLanguageCourseForEnglish12(gradCourse, summary);
-        }
-    }
-
-    private void handleFrenchLanguageCourseForEnglish12(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        if (hasFrenchLanguageCourse(gradCourse.getCourseCode(), gradCourse.getCourseLevel(), summary.getAccessToken())) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "300"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "817"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1996")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "819"), summary);
-            }
-        }
-    }
-
-    private void handleBlankLanguageCourseForEnglish12(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        if (hasBlankLanguageCourse(gradCourse.getCourseCode(), gradCourse.getCourseLevel(), summary.getAccessToken())) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "402"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "852"), summary);
-            }
-        }
-    }
-
-    private void processSocials(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        // socials10
-        if (StringUtils.isNotBlank(gradCourse.getSocials10()) && StringUtils.equals(gradCourse.getSocials10(), "Y")) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "104"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "704"), summary);
-            }
-        }
-        // socials
-        if (StringUtils.isNotBlank(gradCourse.getSocials()) && StringUtils.equals(gradCourse.getSocials(), "Y")) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "105"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "705"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1950")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "502"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1996")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "723"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1986")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "742"), summary);
-            }
-        }
-    }
-
-    private void processMath(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        // math10
-        if (StringUtils.isNotBlank(gradCourse.getMath10()) && StringUtils.equals(gradCourse.getMath10(), "Y")) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "106"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "706"), summary);
-            }
-        }
-        // math
-        if (StringUtils.isNotBlank(gradCourse.getMath()) && StringUtils.equals(gradCourse.getMath(), "Y")) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "107"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "707"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1950")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "501"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1996")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "724"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1986")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "743"), summary);
-            }
-        }
-    }
-
-    private void processScience(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        // science10
-        if (StringUtils.isNotBlank(gradCourse.getScience10()) && StringUtils.equals(gradCourse.getScience10(), "Y")) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "108"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "708"), summary);
-            }
-        }
-        // science
-        if (StringUtils.isNotBlank(gradCourse.getScience()) && StringUtils.equals(gradCourse.getScience(), "Y")) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "109"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "709"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1996")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "725"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1986")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "744"), summary);
-            }
-        }
-    }
-
-    private void processCareerPersonal(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        // careerPersonal10
-        if (isCareerPersonal10(gradCourse)) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "112"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "710"), summary);
-            }
-        }
-        // careerPersonal11
-        if (isCareerPersonal11(gradCourse) && StringUtils.equals(gradCourse.getGradReqtYear(), "1996")) {
-            createCourseRequirement(populate(gradCourse.getCourseCode(),
-                gradCourse.getCourseLevel(), "728"), summary);
-        }
-        // careerPersonal12
-        if (isCareerPersonal12(gradCourse) && StringUtils.equals(gradCourse.getGradReqtYear(), "1996")) {
-            createCourseRequirement(populate(gradCourse.getCourseCode(),
-                gradCourse.getCourseLevel(), "729"), summary);
-        }
-    }
-
-    private boolean isCareerPersonal10(GradCourse gradCourse) {
-        return StringUtils.isNotBlank(gradCourse.getCareerPersonal10()) && StringUtils.equals(gradCourse.getCareerPersonal10(), "Y");
-    }
-
-    private boolean isCareerPersonal11(GradCourse gradCourse) {
-        return StringUtils.isNotBlank(gradCourse.getCareerPersonal11()) && StringUtils.equals(gradCourse.getCareerPersonal11(), "Y");
-    }
-
-    private boolean isCareerPersonal12(GradCourse gradCourse) {
-        return StringUtils.isNotBlank(gradCourse.getCareerPersonal12()) && StringUtils.equals(gradCourse.getCareerPersonal12(), "Y");
-    }
-
-    private void processPhysEd(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        // physEd10
-        if (StringUtils.isNotBlank(gradCourse.getPhysEd10()) && StringUtils.equals(gradCourse.getPhysEd10(), "Y")) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "110"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "711"), summary);
-            }
-        }
-    }
-
-    private void processAppliedSkills(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        // appliedSkills
-        if (isAppliedSkills(gradCourse)) {
-            if (isRecentGradProgram(gradCourse.getGradReqtYear())) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "111"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-                createCourseRequirement(populate(gradCourse.getCourseCode(),
-                    gradCourse.getCourseLevel(), "712"), summary);
-            } else if (StringUtils.equals(gradCourse.getGradReqtYear(), "1996")) {
-                if (isFineArts(gradCourse)) {
-                    createCourseRequirement(populate(gradCourse.getCourseCode(),
-                        gradCourse.getCourseLevel(), "732"), summary);
-                } else if (!isInvalidCourseForRule727(gradCourse.getCourseCode(), gradCourse.getCourseLevel())) {
-                    createCourseRequirement(populate(gradCourse.getCourseCode(),
-                        gradCourse.getCourseLevel(), "727"), summary);
-                }
-            }
-        }
-    }
-
-    private void processPortFolio(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        // portfolio
-        if (StringUtils.isNotBlank(gradCourse.getPortfolio()) && StringUtils.equals(gradCourse.getPortfolio(), "Y")
-            && StringUtils.equals(gradCourse.getGradReqtYear(), "2004")) {
-            createCourseRequirement(populate(gradCourse.getCourseCode(),
-                gradCourse.getCourseLevel(), "713"), summary);
-        }
-    }
-
-    private void processConsEd(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        // consEd
-        if (StringUtils.isNotBlank(gradCourse.getConsEd()) && StringUtils.equals(gradCourse.getConsEd(), "Y")
-            && StringUtils.equals(gradCourse.getGradReqtYear(), "1986")) {
-            createCourseRequirement(populate(gradCourse.getCourseCode(),
-                gradCourse.getCourseLevel(), "745"), summary);
-        }
-    }
-
-    private void processFineArts(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        // fineArts
-        if (isFineArts(gradCourse)
-            && StringUtils.equals(gradCourse.getGradReqtYear(), "1996") && !isAppliedSkills(gradCourse)) {
-            createCourseRequirement(populate(gradCourse.getCourseCode(),
-                gradCourse.getCourseLevel(), "726"), summary);
-        }
-    }
-
-    private boolean isFineArts(GradCourse gradCourse) {
-        return StringUtils.isNotBlank(gradCourse.getFineArts()) && StringUtils.equals(gradCourse.getFineArts(), "Y");
-    }
-
-    private boolean isAppliedSkills(GradCourse gradCourse) {
-        return StringUtils.isNotBlank(gradCourse.getAppliedSkills()) && StringUtils.equals(gradCourse.getAppliedSkills(), "Y");
-    }
-
-    private void processCareerLifeConnections(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        // careerLifeConnections
-        if (isCareerLifeConnections(gradCourse) && isRecentGradProgram(gradCourse.getGradReqtYear())) {
-            createCourseRequirement(populate(gradCourse.getCourseCode(),
-                gradCourse.getCourseLevel(), "113"), summary);
-        }
-    }
-
-    private boolean isCareerLifeConnections(GradCourse gradCourse) {
-        return StringUtils.isNotBlank(gradCourse.getCareerLifeConnections()) && StringUtils.equals(gradCourse.getCareerLifeConnections(), "Y");
+        return hasBlankLanguageCourse(gradCourse.getCourseCode(), gradCourse.getCourseLevel(), summary.getCourseCheckResults(), summary.getAccessToken());
     }
 
     public void createCourseRequirements(ConversionCourseSummaryDTO summary) {
+        List<CourseRequirement> courseRequirements = new ArrayList<>();
+
         // FRAL 12
-        createCourseRequirement(populate(FRAL_STR, "12", "200"), summary);
-        createCourseRequirement(populate(FRAL_STR, "12", "900"), summary);
-        createCourseRequirement(populate(FRAL_STR, "12", "819"), summary);
-        createCourseRequirement(populate(FRAL_STR, "12", "910"), summary);
-        createCourseRequirement(populate(FRAL_STR, "12", "915"), summary);
+        courseRequirements.add(populate(FRAL_STR, "12", "200"));
+        courseRequirements.add(populate(FRAL_STR, "12", "900"));
+        courseRequirements.add(populate(FRAL_STR, "12", "819"));
+        courseRequirements.add(populate(FRAL_STR, "12", "910"));
+        courseRequirements.add(populate(FRAL_STR, "12", "915"));
 
         // FRALP 12
-        createCourseRequirement(populate(FRALP_STR, "12", "910"), summary);
-        createCourseRequirement(populate(FRALP_STR, "12", "915"), summary);
+        courseRequirements.add(populate(FRALP_STR, "12", "910"));
+        courseRequirements.add(populate(FRALP_STR, "12", "915"));
 
         // QFRAL 12
-        createCourseRequirement(populate(QFRAL_STR, "12", "200"), summary);
-        createCourseRequirement(populate(QFRAL_STR, "12", "900"), summary);
-        createCourseRequirement(populate(QFRAL_STR, "12", "819"), summary);
-        createCourseRequirement(populate(QFRAL_STR, "12", "910"), summary);
-        createCourseRequirement(populate(QFRAL_STR, "12", "915"), summary);
+        courseRequirements.add(populate(QFRAL_STR, "12", "200"));
+        courseRequirements.add(populate(QFRAL_STR, "12", "900"));
+        courseRequirements.add(populate(QFRAL_STR, "12", "819"));
+        courseRequirements.add(populate(QFRAL_STR, "12", "910"));
+        courseRequirements.add(populate(QFRAL_STR, "12", "915"));
 
         // QFRAP 12
-        createCourseRequirement(populate(QFRAP_STR, "12", "910"), summary);
-        createCourseRequirement(populate(QFRAP_STR, "12", "915"), summary);
+        courseRequirements.add(populate(QFRAP_STR, "12", "910"));
+        courseRequirements.add(populate(QFRAP_STR, "12", "915"));
 
         // ZFRAL 12
-        createCourseRequirement(populate(ZFRAL_STR, "12", "819"), summary);
-        createCourseRequirement(populate(ZFRAL_STR, "12", "910"), summary);
-        createCourseRequirement(populate(ZFRAL_STR, "12", "915"), summary);
+        courseRequirements.add(populate(ZFRAL_STR, "12", "819"));
+        courseRequirements.add(populate(ZFRAL_STR, "12", "910"));
+        courseRequirements.add(populate(ZFRAL_STR, "12", "915"));
  
         // IBFAS 12
-        createCourseRequirement(populate(IBFAS_STR, "12", "200"), summary);
-        createCourseRequirement(populate(IBFAS_STR, "12", "900"), summary);
+        courseRequirements.add(populate(IBFAS_STR, "12", "200"));
+        courseRequirements.add(populate(IBFAS_STR, "12", "900"));
 
         // IBFAH 12
-        createCourseRequirement(populate("IBFAH", "12", "200"), summary);
-        createCourseRequirement(populate("IBFAH", "12", "900"), summary);
+        courseRequirements.add(populate("IBFAH", "12", "200"));
+        courseRequirements.add(populate("IBFAH", "12", "900"));
 
         // FRAL 11
-        createCourseRequirement(populate(FRAL_STR, "11", "201"), summary);
-        createCourseRequirement(populate(FRAL_STR, "11", "901"), summary);
-        createCourseRequirement(populate(FRAL_STR, "11", "818"), summary);
-        createCourseRequirement(populate(FRAL_STR, "11", "911"), summary);
-        createCourseRequirement(populate(FRAL_STR, "11", "916"), summary);
+        courseRequirements.add(populate(FRAL_STR, "11", "201"));
+        courseRequirements.add(populate(FRAL_STR, "11", "901"));
+        courseRequirements.add(populate(FRAL_STR, "11", "818"));
+        courseRequirements.add(populate(FRAL_STR, "11", "911"));
+        courseRequirements.add(populate(FRAL_STR, "11", "916"));
 
         // IBFAS 11
-        createCourseRequirement(populate(IBFAS_STR, "11", "201"), summary);
-        createCourseRequirement(populate(IBFAS_STR, "11", "901"), summary);
-        createCourseRequirement(populate(IBFAS_STR, "11", "911"), summary);
+        courseRequirements.add(populate(IBFAS_STR, "11", "201"));
+        courseRequirements.add(populate(IBFAS_STR, "11", "901"));
+        courseRequirements.add(populate(IBFAS_STR, "11", "911"));
 
         // FRALP 11
-        createCourseRequirement(populate(FRALP_STR, "11", "201"), summary);
-        createCourseRequirement(populate(FRALP_STR, "11", "901"), summary);
-        createCourseRequirement(populate(FRALP_STR, "11", "911"), summary);
-        createCourseRequirement(populate(FRALP_STR, "11", "916"), summary);
+        courseRequirements.add(populate(FRALP_STR, "11", "201"));
+        courseRequirements.add(populate(FRALP_STR, "11", "901"));
+        courseRequirements.add(populate(FRALP_STR, "11", "911"));
+        courseRequirements.add(populate(FRALP_STR, "11", "916"));
 
         // FRAL 10
-        createCourseRequirement(populate(FRAL_STR, "10", "202"), summary);
-        createCourseRequirement(populate(FRAL_STR, "10", "902"), summary);
+        courseRequirements.add(populate(FRAL_STR, "10", "202"));
+        courseRequirements.add(populate(FRAL_STR, "10", "902"));
 
         // FRALP 10
-        createCourseRequirement(populate(FRALP_STR, "10", "202"), summary);
-        createCourseRequirement(populate(FRALP_STR, "10", "902"), summary);
+        courseRequirements.add(populate(FRALP_STR, "10", "202"));
+        courseRequirements.add(populate(FRALP_STR, "10", "902"));
 
         // IBFNS 11
-        createCourseRequirement(populate("IBFNS", "11", "201"), summary);
-        createCourseRequirement(populate("IBFNS", "11", "901"), summary);
+        courseRequirements.add(populate("IBFNS", "11", "201"));
+        courseRequirements.add(populate("IBFNS", "11", "901"));
 
         // SPLGF 11
-        createCourseRequirement(populate("SPLGF", "11", "201"), summary);
+        courseRequirements.add(populate("SPLGF", "11", "201"));
 
         // LCFF 11
-        createCourseRequirement(populate("LCFF", "11", "201"), summary);
+        courseRequirements.add(populate("LCFF", "11", "201"));
 
         // NMDF 11
-        createCourseRequirement(populate("NMDF", "11", "201"), summary);
+        courseRequirements.add(populate("NMDF", "11", "201"));
 
         // LTSTF 11
-        createCourseRequirement(populate(LTSTF_STR, "11", "201"), summary);
+        courseRequirements.add(populate("LTSTF", "11", "201"));
 
         // Adult Work Experience
-        createCourseRequirement(populate(CPWE_STR, "12", "506"), summary);
-        createCourseRequirement(populate("SSA", "12A", "506"), summary);
-        createCourseRequirement(populate("SSA", "12B", "506"), summary);
-        createCourseRequirement(populate("WEX", "12A", "506"), summary);
-        createCourseRequirement(populate("WEX", "12B", "506"), summary);
-
-        createCourseRequirement(populate("SSA", "12A", "600"), summary);
-        createCourseRequirement(populate("SSA", "12B", "600"), summary);
-        createCourseRequirement(populate("SSA", "11A", "600"), summary);
-        createCourseRequirement(populate("SSA", "11B", "600"), summary);
-
-        createCourseRequirement(populate("WEX", "12A", "600"), summary);
-        createCourseRequirement(populate("WEX", "12B", "600"), summary);
-
-        createCourseRequirement(populate("WRK", "12A", "600"), summary);
-        createCourseRequirement(populate("WRK", "12B", "600"), summary);
-        createCourseRequirement(populate("WRK", "11A", "600"), summary);
-        createCourseRequirement(populate("WRK", "11B", "600"), summary);
-
-        createCourseRequirement(populate("TRNA", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNA", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNB", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNB", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRND", "12A", "600"), summary);
-        createCourseRequirement(populate("TRND", "12B", "600"), summary);
-        createCourseRequirement(populate("TRND", "12C", "600"), summary);
-        createCourseRequirement(populate("TRND", "12D", "600"), summary);
-        createCourseRequirement(populate("TRND", "12E", "600"), summary);
-        createCourseRequirement(populate("TRND", "12F", "600"), summary);
-        createCourseRequirement(populate("TRND", "12G", "600"), summary);
-        createCourseRequirement(populate("TRND", "12H", "600"), summary);
-        createCourseRequirement(populate("TRND", "12I", "600"), summary);
-        createCourseRequirement(populate("TRND", "12J", "600"), summary);
-        createCourseRequirement(populate("TRND", "12K", "600"), summary);
-        createCourseRequirement(populate("TRND", "12L", "600"), summary);
-        createCourseRequirement(populate("TRND", "12M", "600"), summary);
-        createCourseRequirement(populate("TRND", "12N", "600"), summary);
-        createCourseRequirement(populate("TRND", "12O", "600"), summary);
-        createCourseRequirement(populate("TRND", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNE", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNE", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNJ", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNJ", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNL", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNL", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNM", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNM", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNN", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNN", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNO", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNO", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNP", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNP", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNQ", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNQ", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNS", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNS", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNV", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNV", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNW", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNW", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TRNZ", "12A", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12B", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12C", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12D", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12E", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12F", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12G", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12H", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12I", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12J", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12K", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12L", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12M", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12N", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12O", "600"), summary);
-        createCourseRequirement(populate("TRNZ", "12P", "600"), summary);
-
-        createCourseRequirement(populate("TSTA", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTA", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTA", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTB", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTB", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTB", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTD", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTD", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTD", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTE", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTE", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTE", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTJ", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTJ", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTJ", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTL", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTL", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTL", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTM", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTM", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTM", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTN", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTN", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTN", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTO", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTO", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTO", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTP", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTP", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTP", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTQ", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTQ", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTQ", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTS", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTS", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTS", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTV", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTV", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTV", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTW", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTW", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTW", "12C", "600"), summary);
-
-        createCourseRequirement(populate("TSTZ", "12A", "600"), summary);
-        createCourseRequirement(populate("TSTZ", "12B", "600"), summary);
-        createCourseRequirement(populate("TSTZ", "12C", "600"), summary);
-
-        createCourseRequirement(populate("WEXF", "12A", "600"), summary);
-        createCourseRequirement(populate("WEXF", "12B", "600"), summary);
-        createCourseRequirement(populate("WEXF", "12A", "506"), summary);
-        createCourseRequirement(populate("WEXF", "12B", "506"), summary);
-
-        createCourseRequirement(populate("WRKF", "12A", "600"), summary);
-        createCourseRequirement(populate("WRKF", "12B", "600"), summary);
-        createCourseRequirement(populate("WRKF", "11A", "600"), summary);
-        createCourseRequirement(populate("WRKF", "11B", "600"), summary);
+        courseRequirements.add(populate(CPWE_STR, "12", "506"));
+        courseRequirements.add(populate("SSA", "12A", "506"));
+        courseRequirements.add(populate("SSA", "12B", "506"));
+        courseRequirements.add(populate("WEX", "12A", "506"));
+        courseRequirements.add(populate("WEX", "12B", "506"));
+
+        courseRequirements.add(populate("SSA", "12A", "600"));
+        courseRequirements.add(populate("SSA", "12B", "600"));
+        courseRequirements.add(populate("SSA", "11A", "600"));
+        courseRequirements.add(populate("SSA", "11B", "600"));
+
+        courseRequirements.add(populate("WEX", "12A", "600"));
+        courseRequirements.add(populate("WEX", "12B", "600"));
+
+        courseRequirements.add(populate("WRK", "12A", "600"));
+        courseRequirements.add(populate("WRK", "12B", "600"));
+        courseRequirements.add(populate("WRK", "11A", "600"));
+        courseRequirements.add(populate("WRK", "11B", "600"));
+
+        courseRequirements.add(populate("TRNA", "12A", "600"));
+        courseRequirements.add(populate("TRNA", "12B", "600"));
+        courseRequirements.add(populate("TRNA", "12C", "600"));
+        courseRequirements.add(populate("TRNA", "12D", "600"));
+        courseRequirements.add(populate("TRNA", "12E", "600"));
+        courseRequirements.add(populate("TRNA", "12F", "600"));
+        courseRequirements.add(populate("TRNA", "12G", "600"));
+        courseRequirements.add(populate("TRNA", "12H", "600"));
+        courseRequirements.add(populate("TRNA", "12I", "600"));
+        courseRequirements.add(populate("TRNA", "12J", "600"));
+        courseRequirements.add(populate("TRNA", "12K", "600"));
+        courseRequirements.add(populate("TRNA", "12L", "600"));
+        courseRequirements.add(populate("TRNA", "12M", "600"));
+        courseRequirements.add(populate("TRNA", "12N", "600"));
+        courseRequirements.add(populate("TRNA", "12O", "600"));
+        courseRequirements.add(populate("TRNA", "12P", "600"));
+
+        courseRequirements.add(populate("TRNB", "12A", "600"));
+        courseRequirements.add(populate("TRNB", "12B", "600"));
+        courseRequirements.add(populate("TRNB", "12C", "600"));
+        courseRequirements.add(populate("TRNB", "12D", "600"));
+        courseRequirements.add(populate("TRNB", "12E", "600"));
+        courseRequirements.add(populate("TRNB", "12F", "600"));
+        courseRequirements.add(populate("TRNB", "12G", "600"));
+        courseRequirements.add(populate("TRNB", "12H", "600"));
+        courseRequirements.add(populate("TRNB", "12I", "600"));
+        courseRequirements.add(populate("TRNB", "12J", "600"));
+        courseRequirements.add(populate("TRNB", "12K", "600"));
+        courseRequirements.add(populate("TRNB", "12L", "600"));
+        courseRequirements.add(populate("TRNB", "12M", "600"));
+        courseRequirements.add(populate("TRNB", "12N", "600"));
+        courseRequirements.add(populate("TRNB", "12O", "600"));
+        courseRequirements.add(populate("TRNB", "12P", "600"));
+
+        courseRequirements.add(populate("TRND", "12A", "600"));
+        courseRequirements.add(populate("TRND", "12B", "600"));
+        courseRequirements.add(populate("TRND", "12C", "600"));
+        courseRequirements.add(populate("TRND", "12D", "600"));
+        courseRequirements.add(populate("TRND", "12E", "600"));
+        courseRequirements.add(populate("TRND", "12F", "600"));
+        courseRequirements.add(populate("TRND", "12G", "600"));
+        courseRequirements.add(populate("TRND", "12H", "600"));
+        courseRequirements.add(populate("TRND", "12I", "600"));
+        courseRequirements.add(populate("TRND", "12J", "600"));
+        courseRequirements.add(populate("TRND", "12K", "600"));
+        courseRequirements.add(populate("TRND", "12L", "600"));
+        courseRequirements.add(populate("TRND", "12M", "600"));
+        courseRequirements.add(populate("TRND", "12N", "600"));
+        courseRequirements.add(populate("TRND", "12O", "600"));
+        courseRequirements.add(populate("TRND", "12P", "600"));
+
+        courseRequirements.add(populate("TRNE", "12A", "600"));
+        courseRequirements.add(populate("TRNE", "12B", "600"));
+        courseRequirements.add(populate("TRNE", "12C", "600"));
+        courseRequirements.add(populate("TRNE", "12D", "600"));
+        courseRequirements.add(populate("TRNE", "12E", "600"));
+        courseRequirements.add(populate("TRNE", "12F", "600"));
+        courseRequirements.add(populate("TRNE", "12G", "600"));
+        courseRequirements.add(populate("TRNE", "12H", "600"));
+        courseRequirements.add(populate("TRNE", "12I", "600"));
+        courseRequirements.add(populate("TRNE", "12J", "600"));
+        courseRequirements.add(populate("TRNE", "12K", "600"));
+        courseRequirements.add(populate("TRNE", "12L", "600"));
+        courseRequirements.add(populate("TRNE", "12M", "600"));
+        courseRequirements.add(populate("TRNE", "12N", "600"));
+        courseRequirements.add(populate("TRNE", "12O", "600"));
+        courseRequirements.add(populate("TRNE", "12P", "600"));
+
+        courseRequirements.add(populate("TRNJ", "12A", "600"));
+        courseRequirements.add(populate("TRNJ", "12B", "600"));
+        courseRequirements.add(populate("TRNJ", "12C", "600"));
+        courseRequirements.add(populate("TRNJ", "12D", "600"));
+        courseRequirements.add(populate("TRNJ", "12E", "600"));
+        courseRequirements.add(populate("TRNJ", "12F", "600"));
+        courseRequirements.add(populate("TRNJ", "12G", "600"));
+        courseRequirements.add(populate("TRNJ", "12H", "600"));
+        courseRequirements.add(populate("TRNJ", "12I", "600"));
+        courseRequirements.add(populate("TRNJ", "12J", "600"));
+        courseRequirements.add(populate("TRNJ", "12K", "600"));
+        courseRequirements.add(populate("TRNJ", "12L", "600"));
+        courseRequirements.add(populate("TRNJ", "12M", "600"));
+        courseRequirements.add(populate("TRNJ", "12N", "600"));
+        courseRequirements.add(populate("TRNJ", "12O", "600"));
+        courseRequirements.add(populate("TRNJ", "12P", "600"));
+
+        courseRequirements.add(populate("TRNL", "12A", "600"));
+        courseRequirements.add(populate("TRNL", "12B", "600"));
+        courseRequirements.add(populate("TRNL", "12C", "600"));
+        courseRequirements.add(populate("TRNL", "12D", "600"));
+        courseRequirements.add(populate("TRNL", "12E", "600"));
+        courseRequirements.add(populate("TRNL", "12F", "600"));
+        courseRequirements.add(populate("TRNL", "12G", "600"));
+        courseRequirements.add(populate("TRNL", "12H", "600"));
+        courseRequirements.add(populate("TRNL", "12I", "600"));
+        courseRequirements.add(populate("TRNL", "12J", "600"));
+        courseRequirements.add(populate("TRNL", "12K", "600"));
+        courseRequirements.add(populate("TRNL", "12L", "600"));
+        courseRequirements.add(populate("TRNL", "12M", "600"));
+        courseRequirements.add(populate("TRNL", "12N", "600"));
+        courseRequirements.add(populate("TRNL", "12O", "600"));
+        courseRequirements.add(populate("TRNL", "12P", "600"));
+
+        courseRequirements.add(populate("TRNM", "12A", "600"));
+        courseRequirements.add(populate("TRNM", "12B", "600"));
+        courseRequirements.add(populate("TRNM", "12C", "600"));
+        courseRequirements.add(populate("TRNM", "12D", "600"));
+        courseRequirements.add(populate("TRNM", "12E", "600"));
+        courseRequirements.add(populate("TRNM", "12F", "600"));
+        courseRequirements.add(populate("TRNM", "12G", "600"));
+        courseRequirements.add(populate("TRNM", "12H", "600"));
+        courseRequirements.add(populate("TRNM", "12I", "600"));
+        courseRequirements.add(populate("TRNM", "12J", "600"));
+        courseRequirements.add(populate("TRNM", "12K", "600"));
+        courseRequirements.add(populate("TRNM", "12L", "600"));
+        courseRequirements.add(populate("TRNM", "12M", "600"));
+        courseRequirements.add(populate("TRNM", "12N", "600"));
+        courseRequirements.add(populate("TRNM", "12O", "600"));
+        courseRequirements.add(populate("TRNM", "12P", "600"));
+
+        courseRequirements.add(populate("TRNN", "12A", "600"));
+        courseRequirements.add(populate("TRNN", "12B", "600"));
+        courseRequirements.add(populate("TRNN", "12C", "600"));
+        courseRequirements.add(populate("TRNN", "12D", "600"));
+        courseRequirements.add(populate("TRNN", "12E", "600"));
+        courseRequirements.add(populate("TRNN", "12F", "600"));
+        courseRequirements.add(populate("TRNN", "12G", "600"));
+        courseRequirements.add(populate("TRNN", "12H", "600"));
+        courseRequirements.add(populate("TRNN", "12I", "600"));
+        courseRequirements.add(populate("TRNN", "12J", "600"));
+        courseRequirements.add(populate("TRNN", "12K", "600"));
+        courseRequirements.add(populate("TRNN", "12L", "600"));
+        courseRequirements.add(populate("TRNN", "12M", "600"));
+        courseRequirements.add(populate("TRNN", "12N", "600"));
+        courseRequirements.add(populate("TRNN", "12O", "600"));
+        courseRequirements.add(populate("TRNN", "12P", "600"));
+
+        courseRequirements.add(populate("TRNO", "12A", "600"));
+        courseRequirements.add(populate("TRNO", "12B", "600"));
+        courseRequirements.add(populate("TRNO", "12C", "600"));
+        courseRequirements.add(populate("TRNO", "12D", "600"));
+        courseRequirements.add(populate("TRNO", "12E", "600"));
+        courseRequirements.add(populate("TRNO", "12F", "600"));
+        courseRequirements.add(populate("TRNO", "12G", "600"));
+        courseRequirements.add(populate("TRNO", "12H", "600"));
+        courseRequirements.add(populate("TRNO", "12I", "600"));
+        courseRequirements.add(populate("TRNO", "12J", "600"));
+        courseRequirements.add(populate("TRNO", "12K", "600"));
+        courseRequirements.add(populate("TRNO", "12L", "600"));
+        courseRequirements.add(populate("TRNO", "12M", "600"));
+        courseRequirements.add(populate("TRNO", "12N", "600"));
+        courseRequirements.add(populate("TRNO", "12O", "600"));
+        courseRequirements.add(populate("TRNO", "12P", "600"));
+
+        courseRequirements.add(populate("TRNP", "12A", "600"));
+        courseRequirements.add(populate("TRNP", "12B", "600"));
+        courseRequirements.add(populate("TRNP", "12C", "600"));
+        courseRequirements.add(populate("TRNP", "12D", "600"));
+        courseRequirements.add(populate("TRNP", "12E", "600"));
+        courseRequirements.add(populate("TRNP", "12F", "600"));
+        courseRequirements.add(populate("TRNP", "12G", "600"));
+        courseRequirements.add(populate("TRNP", "12H", "600"));
+        courseRequirements.add(populate("TRNP", "12I", "600"));
+        courseRequirements.add(populate("TRNP", "12J", "600"));
+        courseRequirements.add(populate("TRNP", "12K", "600"));
+        courseRequirements.add(populate("TRNP", "12L", "600"));
+        courseRequirements.add(populate("TRNP", "12M", "600"));
+        courseRequirements.add(populate("TRNP", "12N", "600"));
+        courseRequirements.add(populate("TRNP", "12O", "600"));
+        courseRequirements.add(populate("TRNP", "12P", "600"));
+
+        courseRequirements.add(populate("TRNQ", "12A", "600"));
+        courseRequirements.add(populate("TRNQ", "12B", "600"));
+        courseRequirements.add(populate("TRNQ", "12C", "600"));
+        courseRequirements.add(populate("TRNQ", "12D", "600"));
+        courseRequirements.add(populate("TRNQ", "12E", "600"));
+        courseRequirements.add(populate("TRNQ", "12F", "600"));
+        courseRequirements.add(populate("TRNQ", "12G", "600"));
+        courseRequirements.add(populate("TRNQ", "12H", "600"));
+        courseRequirements.add(populate("TRNQ", "12I", "600"));
+        courseRequirements.add(populate("TRNQ", "12J", "600"));
+        courseRequirements.add(populate("TRNQ", "12K", "600"));
+        courseRequirements.add(populate("TRNQ", "12L", "600"));
+        courseRequirements.add(populate("TRNQ", "12M", "600"));
+        courseRequirements.add(populate("TRNQ", "12N", "600"));
+        courseRequirements.add(populate("TRNQ", "12O", "600"));
+        courseRequirements.add(populate("TRNQ", "12P", "600"));
+
+        courseRequirements.add(populate("TRNS", "12A", "600"));
+        courseRequirements.add(populate("TRNS", "12B", "600"));
+        courseRequirements.add(populate("TRNS", "12C", "600"));
+        courseRequirements.add(populate("TRNS", "12D", "600"));
+        courseRequirements.add(populate("TRNS", "12E", "600"));
+        courseRequirements.add(populate("TRNS", "12F", "600"));
+        courseRequirements.add(populate("TRNS", "12G", "600"));
+        courseRequirements.add(populate("TRNS", "12H", "600"));
+        courseRequirements.add(populate("TRNS", "12I", "600"));
+        courseRequirements.add(populate("TRNS", "12J", "600"));
+        courseRequirements.add(populate("TRNS", "12K", "600"));
+        courseRequirements.add(populate("TRNS", "12L", "600"));
+        courseRequirements.add(populate("TRNS", "12M", "600"));
+        courseRequirements.add(populate("TRNS", "12N", "600"));
+        courseRequirements.add(populate("TRNS", "12O", "600"));
+        courseRequirements.add(populate("TRNS", "12P", "600"));
+
+        courseRequirements.add(populate("TRNV", "12A", "600"));
+        courseRequirements.add(populate("TRNV", "12B", "600"));
+        courseRequirements.add(populate("TRNV", "12C", "600"));
+        courseRequirements.add(populate("TRNV", "12D", "600"));
+        courseRequirements.add(populate("TRNV", "12E", "600"));
+        courseRequirements.add(populate("TRNV", "12F", "600"));
+        courseRequirements.add(populate("TRNV", "12G", "600"));
+        courseRequirements.add(populate("TRNV", "12H", "600"));
+        courseRequirements.add(populate("TRNV", "12I", "600"));
+        courseRequirements.add(populate("TRNV", "12J", "600"));
+        courseRequirements.add(populate("TRNV", "12K", "600"));
+        courseRequirements.add(populate("TRNV", "12L", "600"));
+        courseRequirements.add(populate("TRNV", "12M", "600"));
+        courseRequirements.add(populate("TRNV", "12N", "600"));
+        courseRequirements.add(populate("TRNV", "12O", "600"));
+        courseRequirements.add(populate("TRNV", "12P", "600"));
+
+        courseRequirements.add(populate("TRNW", "12A", "600"));
+        courseRequirements.add(populate("TRNW", "12B", "600"));
+        courseRequirements.add(populate("TRNW", "12C", "600"));
+        courseRequirements.add(populate("TRNW", "12D", "600"));
+        courseRequirements.add(populate("TRNW", "12E", "600"));
+        courseRequirements.add(populate("TRNW", "12F", "600"));
+        courseRequirements.add(populate("TRNW", "12G", "600"));
+        courseRequirements.add(populate("TRNW", "12H", "600"));
+        courseRequirements.add(populate("TRNW", "12I", "600"));
+        courseRequirements.add(populate("TRNW", "12J", "600"));
+        courseRequirements.add(populate("TRNW", "12K", "600"));
+        courseRequirements.add(populate("TRNW", "12L", "600"));
+        courseRequirements.add(populate("TRNW", "12M", "600"));
+        courseRequirements.add(populate("TRNW", "12N", "600"));
+        courseRequirements.add(populate("TRNW", "12O", "600"));
+        courseRequirements.add(populate("TRNW", "12P", "600"));
+
+        courseRequirements.add(populate("TRNZ", "12A", "600"));
+        courseRequirements.add(populate("TRNZ", "12B", "600"));
+        courseRequirements.add(populate("TRNZ", "12C", "600"));
+        courseRequirements.add(populate("TRNZ", "12D", "600"));
+        courseRequirements.add(populate("TRNZ", "12E", "600"));
+        courseRequirements.add(populate("TRNZ", "12F", "600"));
+        courseRequirements.add(populate("TRNZ", "12G", "600"));
+        courseRequirements.add(populate("TRNZ", "12H", "600"));
+        courseRequirements.add(populate("TRNZ", "12I", "600"));
+        courseRequirements.add(populate("TRNZ", "12J", "600"));
+        courseRequirements.add(populate("TRNZ", "12K", "600"));
+        courseRequirements.add(populate("TRNZ", "12L", "600"));
+        courseRequirements.add(populate("TRNZ", "12M", "600"));
+        courseRequirements.add(populate("TRNZ", "12N", "600"));
+        courseRequirements.add(populate("TRNZ", "12O", "600"));
+        courseRequirements.add(populate("TRNZ", "12P", "600"));
+
+        courseRequirements.add(populate("TSTA", "12A", "600"));
+        courseRequirements.add(populate("TSTA", "12B", "600"));
+        courseRequirements.add(populate("TSTA", "12C", "600"));
+
+        courseRequirements.add(populate("TSTB", "12A", "600"));
+        courseRequirements.add(populate("TSTB", "12B", "600"));
+        courseRequirements.add(populate("TSTB", "12C", "600"));
+
+        courseRequirements.add(populate("TSTD", "12A", "600"));
+        courseRequirements.add(populate("TSTD", "12B", "600"));
+        courseRequirements.add(populate("TSTD", "12C", "600"));
+
+        courseRequirements.add(populate("TSTE", "12A", "600"));
+        courseRequirements.add(populate("TSTE", "12B", "600"));
+        courseRequirements.add(populate("TSTE", "12C", "600"));
+
+        courseRequirements.add(populate("TSTJ", "12A", "600"));
+        courseRequirements.add(populate("TSTJ", "12B", "600"));
+        courseRequirements.add(populate("TSTJ", "12C", "600"));
+
+        courseRequirements.add(populate("TSTL", "12A", "600"));
+        courseRequirements.add(populate("TSTL", "12B", "600"));
+        courseRequirements.add(populate("TSTL", "12C", "600"));
+
+        courseRequirements.add(populate("TSTM", "12A", "600"));
+        courseRequirements.add(populate("TSTM", "12B", "600"));
+        courseRequirements.add(populate("TSTM", "12C", "600"));
+
+        courseRequirements.add(populate("TSTN", "12A", "600"));
+        courseRequirements.add(populate("TSTN", "12B", "600"));
+        courseRequirements.add(populate("TSTN", "12C", "600"));
+
+        courseRequirements.add(populate("TSTO", "12A", "600"));
+        courseRequirements.add(populate("TSTO", "12B", "600"));
+        courseRequirements.add(populate("TSTO", "12C", "600"));
+
+        courseRequirements.add(populate("TSTP", "12A", "600"));
+        courseRequirements.add(populate("TSTP", "12B", "600"));
+        courseRequirements.add(populate("TSTP", "12C", "600"));
+
+        courseRequirements.add(populate("TSTQ", "12A", "600"));
+        courseRequirements.add(populate("TSTQ", "12B", "600"));
+        courseRequirements.add(populate("TSTQ", "12C", "600"));
+
+        courseRequirements.add(populate("TSTS", "12A", "600"));
+        courseRequirements.add(populate("TSTS", "12B", "600"));
+        courseRequirements.add(populate("TSTS", "12C", "600"));
+
+        courseRequirements.add(populate("TSTV", "12A", "600"));
+        courseRequirements.add(populate("TSTV", "12B", "600"));
+        courseRequirements.add(populate("TSTV", "12C", "600"));
+
+        courseRequirements.add(populate("TSTW", "12A", "600"));
+        courseRequirements.add(populate("TSTW", "12B", "600"));
+        courseRequirements.add(populate("TSTW", "12C", "600"));
+
+        courseRequirements.add(populate("TSTZ", "12A", "600"));
+        courseRequirements.add(populate("TSTZ", "12B", "600"));
+        courseRequirements.add(populate("TSTZ", "12C", "600"));
+
+        courseRequirements.add(populate("WEXF", "12A", "600"));
+        courseRequirements.add(populate("WEXF", "12B", "600"));
+        courseRequirements.add(populate("WEXF", "12A", "506"));
+        courseRequirements.add(populate("WEXF", "12B", "506"));
+
+        courseRequirements.add(populate("WRKF", "12A", "600"));
+        courseRequirements.add(populate("WRKF", "12B", "600"));
+        courseRequirements.add(populate("WRKF", "11A", "600"));
+        courseRequirements.add(populate("WRKF", "11B", "600"));
 
         // Provincial Exams and Assessment Equivalencies
-        createCourseRequirement(populate("AMA", "10", "116"), summary);
-        createCourseRequirement(populate("EMA", "10", "116"), summary);
-        createCourseRequirement(populate("FMP", "10", "116"), summary);
-        createCourseRequirement(populate("MA", "10", "116"), summary);
-        createCourseRequirement(populate("AWM", "10", "116"), summary);
-        createCourseRequirement(populate("AMAF", "10", "116"), summary);
-        createCourseRequirement(populate("EMAF", "10", "116"), summary);
-        createCourseRequirement(populate("FMPF", "10", "116"), summary);
-        createCourseRequirement(populate("MTH", "10", "116"), summary);
-        createCourseRequirement(populate("AWMF", "10", "116"), summary);
-        createCourseRequirement(populate("EN", "10", "115"), summary);
-        createCourseRequirement(populate("EN", "10", "403"), summary);
-        createCourseRequirement(populate(FRALP_STR, "10", "115"), summary);
-        createCourseRequirement(populate(FRALP_STR, "10", "303"), summary);
-        createCourseRequirement(populate("EFP", "10", "115"), summary);
-        createCourseRequirement(populate("EFP", "10", "403"), summary);
-        createCourseRequirement(populate("COM", "12", "115"), summary);
-        createCourseRequirement(populate("COM", "12", "118"), summary);
-        createCourseRequirement(populate("TPC", "12", "115"), summary);
-        createCourseRequirement(populate("TPC", "12", "118"), summary);
-        createCourseRequirement(populate("TPC", "12", "403"), summary);
-        createCourseRequirement(populate("TPC", "12", "404"), summary);
-        createCourseRequirement(populate("EN", "12", "115"), summary);
-        createCourseRequirement(populate("EN", "12", "118"), summary);
-        createCourseRequirement(populate("EN", "12", "403"), summary);
-        createCourseRequirement(populate("EN", "12", "404"), summary);
-        createCourseRequirement(populate("EFP", "12", "115"), summary);
-        createCourseRequirement(populate("EFP", "12", "118"), summary);
-        createCourseRequirement(populate("EFP", "12", "403"), summary);
-        createCourseRequirement(populate("EFP", "12", "404"), summary);
-        createCourseRequirement(populate(FRALP_STR, "12", "115"), summary);
-        createCourseRequirement(populate(FRALP_STR, "12", "118"), summary);
-        createCourseRequirement(populate(FRALP_STR, "12", "303"), summary);
-        createCourseRequirement(populate(FRALP_STR, "12", "304"), summary);
-        createCourseRequirement(populate("TPCF", "12", "115"), summary);
-        createCourseRequirement(populate("TPCF", "12", "118"), summary);
-        createCourseRequirement(populate("TPCF", "12", "303"), summary);
-        createCourseRequirement(populate("TPCF", "12", "304"), summary);
-        createCourseRequirement(populate(FRAL_STR, "12", "203"), summary);
+        courseRequirements.add(populate("AMA", "10", "116"));
+        courseRequirements.add(populate("EMA", "10", "116"));
+        courseRequirements.add(populate("FMP", "10", "116"));
+        courseRequirements.add(populate("MA", "10", "116"));
+        courseRequirements.add(populate("AWM", "10", "116"));
+        courseRequirements.add(populate("AMAF", "10", "116"));
+        courseRequirements.add(populate("EMAF", "10", "116"));
+        courseRequirements.add(populate("FMPF", "10", "116"));
+        courseRequirements.add(populate("MTH", "10", "116"));
+        courseRequirements.add(populate("AWMF", "10", "116"));
+        courseRequirements.add(populate("EN", "10", "115"));
+        courseRequirements.add(populate("EN", "10", "403"));
+        courseRequirements.add(populate(FRALP_STR, "10", "115"));
+        courseRequirements.add(populate(FRALP_STR, "10", "303"));
+        courseRequirements.add(populate("EFP", "10", "115"));
+        courseRequirements.add(populate("EFP", "10", "403"));
+        courseRequirements.add(populate("COM", "12", "115"));
+        courseRequirements.add(populate("COM", "12", "118"));
+        courseRequirements.add(populate("TPC", "12", "115"));
+        courseRequirements.add(populate("TPC", "12", "118"));
+        courseRequirements.add(populate("TPC", "12", "403"));
+        courseRequirements.add(populate("TPC", "12", "404"));
+        courseRequirements.add(populate("EN", "12", "115"));
+        courseRequirements.add(populate("EN", "12", "118"));
+        courseRequirements.add(populate("EN", "12", "403"));
+        courseRequirements.add(populate("EN", "12", "404"));
+        courseRequirements.add(populate("EFP", "12", "115"));
+        courseRequirements.add(populate("EFP", "12", "118"));
+        courseRequirements.add(populate("EFP", "12", "403"));
+        courseRequirements.add(populate("EFP", "12", "404"));
+        courseRequirements.add(populate(FRALP_STR, "12", "115"));
+        courseRequirements.add(populate(FRALP_STR, "12", "118"));
+        courseRequirements.add(populate(FRALP_STR, "12", "303"));
+        courseRequirements.add(populate(FRALP_STR, "12", "304"));
+        courseRequirements.add(populate("TPCF", "12", "115"));
+        courseRequirements.add(populate("TPCF", "12", "118"));
+        courseRequirements.add(populate("TPCF", "12", "303"));
+        courseRequirements.add(populate("TPCF", "12", "304"));
+        courseRequirements.add(populate(FRAL_STR, "12", "203"));
 
         //Grad2-1976 Adding course requirement codes
-        createCourseRequirement(populate("GITX", "10", "119"), summary);
-        createCourseRequirement(populate("HALQ", "10", "119"), summary);
-        createCourseRequirement(populate("HLT", "10", "119"), summary);
-        createCourseRequirement(populate("HULQ", "10", "119"), summary);
-        createCourseRequirement(populate("KWAK", "10", "119"), summary);
-        createCourseRequirement(populate("LIKW", "10", "119"), summary);
-        createCourseRequirement(populate("OK", "10", "119"), summary);
-        createCourseRequirement(populate("NTE", "10", "119"), summary);
-        createCourseRequirement(populate("NCN", "10", "119"), summary);
-        createCourseRequirement(populate("SWP", "10", "119"), summary);
-        createCourseRequirement(populate("SENC", "10", "119"), summary);
-
-        createCourseRequirement(populate("SHLM", "10", "119"), summary);
-        createCourseRequirement(populate("SN", "10", "119"), summary);
-        createCourseRequirement(populate("SLGX", "10", "119"), summary);
-        createCourseRequirement(populate("CETS", "10", "119"), summary);
-        createCourseRequirement(populate("TSK", "10", "119"), summary);
-        createCourseRequirement(populate("STA", "10", "119"), summary);
-        createCourseRequirement(populate("AAY", "10", "119"), summary);
-        createCourseRequirement(populate("EFLS", "10", "119"), summary);
-        createCourseRequirement(populate("EFNM", "10", "119"), summary);
-        createCourseRequirement(populate("EFSL", "10", "119"), summary);
-        createCourseRequirement(populate("EFWR", "10", "119"), summary);
-
-        createCourseRequirement(populate("GITX", "11", "119"), summary);
-        createCourseRequirement(populate("GITI", "11", "119"), summary);
-        createCourseRequirement(populate("HALQ", "11", "119"), summary);
-        createCourseRequirement(populate("IHALQ", "11", "119"), summary);
-        createCourseRequirement(populate("HLT", "11", "119"), summary);
-        createCourseRequirement(populate("IHLT", "11", "119"), summary);
-        createCourseRequirement(populate("HULQ", "11", "119"), summary);
-        createCourseRequirement(populate("IHULQ", "11", "119"), summary);
-        createCourseRequirement(populate("KWAK", "11", "119"), summary);
-        createCourseRequirement(populate("IKWA", "11", "119"), summary);
-        createCourseRequirement(populate("LIKW", "11", "119"), summary);
-
-        createCourseRequirement(populate("ILIK", "11", "119"), summary);
-        createCourseRequirement(populate("OK", "11", "119"), summary);
-        createCourseRequirement(populate("IOK", "11", "119"), summary);
-        createCourseRequirement(populate("INTE", "11", "119"), summary);
-        createCourseRequirement(populate("NTE", "11", "119"), summary);
-        createCourseRequirement(populate("INCN", "11", "119"), summary);
-        createCourseRequirement(populate("NCN", "11", "119"), summary);
-        createCourseRequirement(populate("ISWP", "11", "119"), summary);
-        createCourseRequirement(populate("SWP", "11", "119"), summary);
-        createCourseRequirement(populate("SENI", "11", "119"), summary);
-        createCourseRequirement(populate("SENC", "11", "119"), summary);
-
-        createCourseRequirement(populate("ISHLM", "11", "119"), summary);
-        createCourseRequirement(populate("SHLM", "11", "119"), summary);
-        createCourseRequirement(populate("ISN", "11", "119"), summary);
-        createCourseRequirement(populate("SN", "11", "119"), summary);
-        createCourseRequirement(populate("ISLGX", "11", "119"), summary);
-        createCourseRequirement(populate("SLGX", "11", "119"), summary);
-        createCourseRequirement(populate("CETS", "11", "119"), summary);
-        createCourseRequirement(populate("CETI", "11", "119"), summary);
-        createCourseRequirement(populate("ITSK", "11", "119"), summary);
-        createCourseRequirement(populate("TSK", "11", "119"), summary);
-        createCourseRequirement(populate("ISTA", "11", "119"), summary);
-
-        createCourseRequirement(populate("STA", "11", "119"), summary);
-        createCourseRequirement(populate("AAY", "11", "119"), summary);
-        createCourseRequirement(populate("AAI", "11", "119"), summary);
-        createCourseRequirement(populate("ELNM", "11", "119"), summary);
-        createCourseRequirement(populate("ELSL", "11", "119"), summary);
-        createCourseRequirement(populate("EFLS", "11", "119"), summary);
-        createCourseRequirement(populate("GITX", "12", "119"), summary);
-        createCourseRequirement(populate("HALQ", "12", "119"), summary);
-        createCourseRequirement(populate("IHLT", "12", "119"), summary);
-        createCourseRequirement(populate("HULQ", "12", "119"), summary);
-        createCourseRequirement(populate("KWAK", "12", "119"), summary);
-
-        createCourseRequirement(populate("LIKW", "12", "119"), summary);
-        createCourseRequirement(populate("OK", "12", "119"), summary);
-        createCourseRequirement(populate("NTE", "12", "119"), summary);
-        createCourseRequirement(populate("NCN", "12", "119"), summary);
-        createCourseRequirement(populate("SWP", "12", "119"), summary);
-        createCourseRequirement(populate("SENC", "12", "119"), summary);
-        createCourseRequirement(populate("SHLM", "12", "119"), summary);
-        createCourseRequirement(populate("ISN", "12", "119"), summary);
-        createCourseRequirement(populate("SN", "12", "119"), summary);
-        createCourseRequirement(populate("SLGX", "12", "119"), summary);
-        createCourseRequirement(populate("CETS", "12", "119"), summary);
-
-        createCourseRequirement(populate("TSK", "12", "119"), summary);
-        createCourseRequirement(populate("STA", "12", "119"), summary);
-        createCourseRequirement(populate("AAY", "12", "119"), summary);
-        createCourseRequirement(populate("ENFP", "12", "119"), summary);
-        createCourseRequirement(populate("BCFP", "12", "119"), summary);
-        createCourseRequirement(populate("BCFPF", "12", "119"), summary);
-        createCourseRequirement(populate("INST", "12", "119"), summary);
-        createCourseRequirement(populate("INSTF", "12", "119"), summary);
+        courseRequirements.add(populate("GITX", "10", "119"));
+        courseRequirements.add(populate("HALQ", "10", "119"));
+        courseRequirements.add(populate("HLT", "10", "119"));
+        courseRequirements.add(populate("HULQ", "10", "119"));
+        courseRequirements.add(populate("KWAK", "10", "119"));
+        courseRequirements.add(populate("LIKW", "10", "119"));
+        courseRequirements.add(populate("OK", "10", "119"));
+        courseRequirements.add(populate("NTE", "10", "119"));
+        courseRequirements.add(populate("NCN", "10", "119"));
+        courseRequirements.add(populate("SWP", "10", "119"));
+        courseRequirements.add(populate("SENC", "10", "119"));
+
+        courseRequirements.add(populate("SHLM", "10", "119"));
+        courseRequirements.add(populate("SN", "10", "119"));
+        courseRequirements.add(populate("SLGX", "10", "119"));
+        courseRequirements.add(populate("CETS", "10", "119"));
+        courseRequirements.add(populate("TSK", "10", "119"));
+        courseRequirements.add(populate("STA", "10", "119"));
+        courseRequirements.add(populate("AAY", "10", "119"));
+        courseRequirements.add(populate("EFLS", "10", "119"));
+        courseRequirements.add(populate("EFNM", "10", "119"));
+        courseRequirements.add(populate("EFSL", "10", "119"));
+        courseRequirements.add(populate("EFWR", "10", "119"));
+
+        courseRequirements.add(populate("GITX", "11", "119"));
+        courseRequirements.add(populate("GITI", "11", "119"));
+        courseRequirements.add(populate("HALQ", "11", "119"));
+        courseRequirements.add(populate("IHALQ", "11", "119"));
+        courseRequirements.add(populate("HLT", "11", "119"));
+        courseRequirements.add(populate("IHLT", "11", "119"));
+        courseRequirements.add(populate("HULQ", "11", "119"));
+        courseRequirements.add(populate("IHULQ", "11", "119"));
+        courseRequirements.add(populate("KWAK", "11", "119"));
+        courseRequirements.add(populate("IKWA", "11", "119"));
+        courseRequirements.add(populate("LIKW", "11", "119"));
+
+        courseRequirements.add(populate("ILIK", "11", "119"));
+        courseRequirements.add(populate("OK", "11", "119"));
+        courseRequirements.add(populate("IOK", "11", "119"));
+        courseRequirements.add(populate("INTE", "11", "119"));
+        courseRequirements.add(populate("NTE", "11", "119"));
+        courseRequirements.add(populate("INCN", "11", "119"));
+        courseRequirements.add(populate("NCN", "11", "119"));
+        courseRequirements.add(populate("ISWP", "11", "119"));
+        courseRequirements.add(populate("SWP", "11", "119"));
+        courseRequirements.add(populate("SENI", "11", "119"));
+        courseRequirements.add(populate("SENC", "11", "119"));
+
+        courseRequirements.add(populate("ISHLM", "11", "119"));
+        courseRequirements.add(populate("SHLM", "11", "119"));
+        courseRequirements.add(populate("ISN", "11", "119"));
+        courseRequirements.add(populate("SN", "11", "119"));
+        courseRequirements.add(populate("ISLGX", "11", "119"));
+        courseRequirements.add(populate("SLGX", "11", "119"));
+        courseRequirements.add(populate("CETS", "11", "119"));
+        courseRequirements.add(populate("CETI", "11", "119"));
+        courseRequirements.add(populate("ITSK", "11", "119"));
+        courseRequirements.add(populate("TSK", "11", "119"));
+        courseRequirements.add(populate("ISTA", "11", "119"));
+
+        courseRequirements.add(populate("STA", "11", "119"));
+        courseRequirements.add(populate("AAY", "11", "119"));
+        courseRequirements.add(populate("AAI", "11", "119"));
+        courseRequirements.add(populate("ELNM", "11", "119"));
+        courseRequirements.add(populate("ELSL", "11", "119"));
+        courseRequirements.add(populate("EFLS", "11", "119"));
+        courseRequirements.add(populate("GITX", "12", "119"));
+        courseRequirements.add(populate("HALQ", "12", "119"));
+        courseRequirements.add(populate("IHLT", "12", "119"));
+        courseRequirements.add(populate("HULQ", "12", "119"));
+        courseRequirements.add(populate("KWAK", "12", "119"));
+
+        courseRequirements.add(populate("LIKW", "12", "119"));
+        courseRequirements.add(populate("OK", "12", "119"));
+        courseRequirements.add(populate("NTE", "12", "119"));
+        courseRequirements.add(populate("NCN", "12", "119"));
+        courseRequirements.add(populate("SWP", "12", "119"));
+        courseRequirements.add(populate("SENC", "12", "119"));
+        courseRequirements.add(populate("SHLM", "12", "119"));
+        courseRequirements.add(populate("ISN", "12", "119"));
+        courseRequirements.add(populate("SN", "12", "119"));
+        courseRequirements.add(populate("SLGX", "12", "119"));
+        courseRequirements.add(populate("CETS", "12", "119"));
+
+        courseRequirements.add(populate("TSK", "12", "119"));
+        courseRequirements.add(populate("STA", "12", "119"));
+        courseRequirements.add(populate("AAY", "12", "119"));
+        courseRequirements.add(populate("ENFP", "12", "119"));
+        courseRequirements.add(populate("BCFP", "12", "119"));
+        courseRequirements.add(populate("BCFPF", "12", "119"));
+        courseRequirements.add(populate("INST", "12", "119"));
+        courseRequirements.add(populate("INSTF", "12", "119"));
 
         // GRAD2-2020
-        createCourseRequirement(populate("FNSY", "12", "119"), summary);
+        courseRequirements.add(populate("FNSY", "12", "119"));
 
         // GRAD2-2125
-        createCourseRequirement(populate("YILA", "10", "119"), summary);
-        createCourseRequirement(populate("YILA", "11", "119"), summary);
-        createCourseRequirement(populate("YILA", "12", "119"), summary);
-        createCourseRequirement(populate("YIHW", "10", "119"), summary);
-        createCourseRequirement(populate("YIHW", "11", "119"), summary);
-        createCourseRequirement(populate("YIHW", "12", "119"), summary);
-        createCourseRequirement(populate("YILB", "10", "119"), summary);
-        createCourseRequirement(populate("YILB", "11", "119"), summary);
-        createCourseRequirement(populate("YILB", "12", "119"), summary);
+        courseRequirements.add(populate("YILA", "10", "119"));
+        courseRequirements.add(populate("YILA", "11", "119"));
+        courseRequirements.add(populate("YILA", "12", "119"));
+        courseRequirements.add(populate("YIHW", "10", "119"));
+        courseRequirements.add(populate("YIHW", "11", "119"));
+        courseRequirements.add(populate("YIHW", "12", "119"));
+        courseRequirements.add(populate("YILB", "10", "119"));
+        courseRequirements.add(populate("YILB", "11", "119"));
+        courseRequirements.add(populate("YILB", "12", "119"));
 
         // GRAD2-2156
-        createCourseRequirement(populate("YFNC", "10", "119"), summary);
-        createCourseRequirement(populate("YFNC", "11", "119"), summary);
-        createCourseRequirement(populate("YFNC", "12", "119"), summary);
-        createCourseRequirement(populate("YFNB", "10", "119"), summary);
-        createCourseRequirement(populate("YFNB", "11", "119"), summary);
-        createCourseRequirement(populate("YFNB", "12", "119"), summary);
-        createCourseRequirement(populate("YFND", "10", "119"), summary);
-        createCourseRequirement(populate("YFND", "11", "119"), summary);
-        createCourseRequirement(populate("YFND", "12", "119"), summary);
+        courseRequirements.add(populate("YFNC", "10", "119"));
+        courseRequirements.add(populate("YFNC", "11", "119"));
+        courseRequirements.add(populate("YFNC", "12", "119"));
+        courseRequirements.add(populate("YFNB", "10", "119"));
+        courseRequirements.add(populate("YFNB", "11", "119"));
+        courseRequirements.add(populate("YFNB", "12", "119"));
+        courseRequirements.add(populate("YFND", "10", "119"));
+        courseRequirements.add(populate("YFND", "11", "119"));
+        courseRequirements.add(populate("YFND", "12", "119"));
 
         // GRAD2-2365
-        createCourseRequirement(populate("DAKE", "10", "119"), summary);
-        createCourseRequirement(populate("DAKE", "11", "119"), summary);
-        createCourseRequirement(populate("DAKE", "12", "119"), summary);
-        createCourseRequirement(populate("IDAKE", "11", "119"), summary);
+        courseRequirements.add(populate("DAKE", "10", "119"));
+        courseRequirements.add(populate("DAKE", "11", "119"));
+        courseRequirements.add(populate("DAKE", "12", "119"));
+        courseRequirements.add(populate("IDAKE", "11", "119"));
 
         // GRAD2-2402: Rule 200
-        createCourseRequirement(populate(QFRAP_STR, "12", "200"), summary);
-        createCourseRequirement(populate("FCTF", "12", "200"), summary);
-        createCourseRequirement(populate(FRALP_STR, "12", "200"), summary);
+        courseRequirements.add(populate(QFRAP_STR, "12", "200"));
+        courseRequirements.add(populate("FCTF", "12", "200"));
+        courseRequirements.add(populate(FRALP_STR, "12", "200"));
         // GRAD2-2402: Rule 201
-        createCourseRequirement(populate("ELNMF", "11", "201"), summary);
-        createCourseRequirement(populate("ELSLF", "11", "201"), summary);
-        createCourseRequirement(populate("EFLSF", "11", "201"), summary);
+        courseRequirements.add(populate("ELNMF", "11", "201"));
+        courseRequirements.add(populate("ELSLF", "11", "201"));
+        courseRequirements.add(populate("EFLSF", "11", "201"));
         // GRAD2-2402: Rule 202
-        createCourseRequirement(populate(QFRAP_STR, "10", "202"), summary);
-        createCourseRequirement(populate("LANMF", "10", "202"), summary);
-        createCourseRequirement(populate("LAEOF", "10", "202"), summary);
-        createCourseRequirement(populate("LACWF", "10", "202"), summary);
+        courseRequirements.add(populate(QFRAP_STR, "10", "202"));
+        courseRequirements.add(populate("LANMF", "10", "202"));
+        courseRequirements.add(populate("LAEOF", "10", "202"));
+        courseRequirements.add(populate("LACWF", "10", "202"));
         // GRAD2-2386: Rule 600
-        createCourseRequirement(populate(CPWE_STR, "12", "600"), summary);
-        createCourseRequirement(populate(CPWE_STR, "12A", "600"), summary);
-        createCourseRequirement(populate(CPWE_STR, "12B", "600"), summary);
-        createCourseRequirement(populate(CPWE_STR, "12C", "600"), summary);
-        createCourseRequirement(populate(CPWE_STR, "12D", "600"), summary);
-        createCourseRequirement(populate(CPCOW_STR, "12", "600"), summary);
-        createCourseRequirement(populate(CPCOW_STR, "12A", "600"), summary);
-        createCourseRequirement(populate(CPCOW_STR, "12B", "600"), summary);
-        createCourseRequirement(populate(CPSSA_STR, "11A", "600"), summary);
-        createCourseRequirement(populate(CPSSA_STR, "11B", "600"), summary);
-        createCourseRequirement(populate(CPSSA_STR, "12A", "600"), summary);
-        createCourseRequirement(populate(CPSSA_STR, "12B", "600"), summary);
+        courseRequirements.add(populate(CPWE_STR, "12", "600"));
+        courseRequirements.add(populate(CPWE_STR, "12A", "600"));
+        courseRequirements.add(populate(CPWE_STR, "12B", "600"));
+        courseRequirements.add(populate(CPWE_STR, "12C", "600"));
+        courseRequirements.add(populate(CPWE_STR, "12D", "600"));
+        courseRequirements.add(populate(CPCOW_STR, "12", "600"));
+        courseRequirements.add(populate(CPCOW_STR, "12A", "600"));
+        courseRequirements.add(populate(CPCOW_STR, "12B", "600"));
+        courseRequirements.add(populate(CPSSA_STR, "11A", "600"));
+        courseRequirements.add(populate(CPSSA_STR, "11B", "600"));
+        courseRequirements.add(populate(CPSSA_STR, "12A", "600"));
+        courseRequirements.add(populate(CPSSA_STR, "12B", "600"));
+
+        saveCourseRequirements(courseRequirements, summary);
+    }
+
+    /**
+     * Saves the given course requirements, skipping the ones in the removal list and the duplicates.
+     * They are upserted in batches of batch.course-requirement.batch-size; a requirement which the bulk upsert
+     * does not return is checked and saved one by one. A batch size of 0 saves every requirement one by one.
+     */
+    private void saveCourseRequirements(List<CourseRequirement> courseRequirements, ConversionCourseSummaryDTO summary) {
+        Map<String, CourseRequirement> requirements = new LinkedHashMap<>();
+        courseRequirements.forEach(courseRequirement -> {
+            if (!validateCourseRequirement(courseRequirement)) {
+                logger.info(" Skip CourseRequirement: course [{} / {}], rule [{}]", courseRequirement.getCourseCode(), courseRequirement.getCourseLevel(),
+                        courseRequirement.getRuleCode() != null? courseRequirement.getRuleCode().getCourseRequirementCode() : "");
+            } else {
+                requirements.putIfAbsent(getCourseRequirementKey(courseRequirement), courseRequirement);
+            }
+        });
+
+        int batchSize = constants.getCourseRequirementBatchSize();
+        if (batchSize <= 0) {
+            requirements.values().forEach(courseRequirement -> createCourseRequirement(courseRequirement, summary));
+            return;
+        }
+        List<CourseRequirement> list = new ArrayList<>(requirements.values());
+        for (int i = 0; i < list.size(); i += batchSize) {
+            upsertCourseRequirements(list.subList(i, Math.min(i + batchSize, list.size())), summary);
+        }
+    }
+
+    private void upsertCourseRequirements(List<CourseRequirement> batch, ConversionCourseSummaryDTO summary) {
+        Map<String, CourseRequirement> pending = new LinkedHashMap<>();
+        batch.forEach(courseRequirement -> pending.put(getCourseRequirementKey(courseRequirement), courseRequirement));
+        try {
+            List<CourseRequirement> results = restUtils.saveCourseRequirements(batch, summary.getAccessToken());
+            if (results != null) {
+                results.stream().filter(result -> pending.remove(getCourseRequirementKey(result)) != null).forEach(result -> {
+                    if (isUpdatedCourseRequirement(result)) {
+                        summary.setUpdatedCountForCourseRequirement(summary.getUpdatedCountForCourseRequirement() + 1L);
+                    } else {
+                        summary.setAddedCountForCourseRequirement(summary.getAddedCountForCourseRequirement() + 1L);
+                    }
+                });
+            }
+            logger.info(" Upserted {} CourseRequirements in bulk", batch.size() - pending.size());
+        } catch (Exception e) {
+            logger.warn("Bulk upsert of {} CourseRequirements is failed: {}", batch.size(), e.getLocalizedMessage());
+        }
+        pending.values().forEach(courseRequirement -> createCourseRequirement(courseRequirement, summary));
+    }
+
+    private String getCourseRequirementKey(CourseRequirement courseRequirement) {
+        return StringUtils.trimToEmpty(courseRequirement.getCourseCode()) + "/" + StringUtils.trimToEmpty(courseRequirement.getCourseLevel()) + "/"
+                + (courseRequirement.getRuleCode() != null? StringUtils.trimToEmpty(courseRequirement.getRuleCode().getCourseRequirementCode()) : "");
+    }
+
+    // an inserted requirement keeps its create date as the update date
+    private boolean isUpdatedCourseRequirement(CourseRequirement courseRequirement) {
+        return courseRequirement.getCreateDate() != null && courseRequirement.getUpdateDate() != null
+                && courseRequirement.getUpdateDate().after(courseRequirement.getCreateDate());
     }
 
     private CourseRequirement populate(String courseCode, String courseLevel, String courseRequirementCode) {
@@ -1233,22 +1007,8 @@ public class CourseProcess {
     }
 
     private boolean validateCourseRequirement(CourseRequirement courseRequirement) {
-        AtomicBoolean result = new AtomicBoolean(true);
-        REMOVAL_LIST.forEach(r -> {
-            if (StringUtils.equalsIgnoreCase(r.getCourseCode(), courseRequirement.getCourseCode()) &&
-                StringUtils.equalsIgnoreCase(r.getCourseLevel(), courseRequirement.getCourseLevel()) &&
-                StringUtils.equalsIgnoreCase(r.getRuleCode(), courseRequirement.getRuleCode() != null? courseRequirement.getRuleCode().getCourseRequirementCode() : "")) {
-                result.set(false);
-            }
-        });
-        return result.get();
-    }
-
-    private boolean isInvalidCourseForRule727(String courseCode, String courseLevel) {
-         return (StringUtils.equals(courseCode.trim(), "AC") && StringUtils.equals(courseLevel, "11 "))
-            || (StringUtils.equals(courseCode.trim(), "ACC") && StringUtils.equals(courseLevel, "12 "))
-            || (StringUtils.equals(courseCode.trim(), "COP") && StringUtils.equals(courseLevel, "11 "))
-            || (StringUtils.equals(courseCode.trim(), "COP") && StringUtils.equals(courseLevel, "12 "));
+        return !courseRequirementRemovals.contains(toKey(courseRequirement.getCourseCode(), courseRequirement.getCourseLevel(),
+                courseRequirement.getRuleCode() != null? courseRequirement.getRuleCode().getCourseRequirementCode() : ""));
     }
 
     public boolean hasFrenchLanguageCourse(String courseCode, String courseLevel, String accessToken) {
@@ -1271,20 +1031,18 @@ public class CourseProcess {
         return this.restUtils.checkFrenchImmersionCourseForEN(pen, courseLevelParam, accessToken);
     }
 
-    public List<StudentCourse> getStudentCourses(String pen, String accessToken) {
-        return this.restUtils.getStudentCoursesByPen(pen, accessToken);
+    public boolean hasFrenchLanguageCourse(String courseCode, String courseLevel, CourseCheckResults courseCheckResults, String accessToken) {
+        return courseCheckResults.get(CourseCheckResults.Check.FRENCH_LANGUAGE_COURSE, courseCode, courseLevel,
+                () -> hasFrenchLanguageCourse(courseCode, courseLevel, accessToken));
     }
 
-    private void handleExtras(GradCourse gradCourse, ConversionCourseSummaryDTO summary) {
-        // Indigenous Focused for 2023 GRAD Program
-        if ("2023".equalsIgnoreCase(gradCourse.getGradReqtYear())
-            && StringUtils.isNotBlank(gradCourse.getIndigenousFocused()) && StringUtils.equals(gradCourse.getIndigenousFocused(), "Y")) {
-            createCourseRequirement(populate(gradCourse.getCourseCode(), gradCourse.getCourseLevel(), "119"), summary);
-        }
+    public boolean hasBlankLanguageCourse(String courseCode, String courseLevel, CourseCheckResults courseCheckResults, String accessToken) {
+        return courseCheckResults.get(CourseCheckResults.Check.BLANK_LANGUAGE_COURSE, courseCode, courseLevel,
+                () -> hasBlankLanguageCourse(courseCode, courseLevel, accessToken));
     }
 
-    private boolean isRecentGradProgram(String gradReqtYear) {
-        return RECENT_GRAD_PROGRAMS.contains(gradReqtYear);
+    public List<StudentCourse> getStudentCourses(String pen, String accessToken) {
+        return this.restUtils.getStudentCoursesByPen(pen, accessToken);
     }
 
 }
@@ -0,0 +1,204 @@
+package ca.bc.gov.educ.api.dataconversion.process;
+
+import ca.bc.gov.educ.api.dataconversion.model.CourseCheckResults;
+import ca.bc.gov.educ.api.dataconversion.model.GradCourse;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Course requirement rules for the TRAX course flags, one row per rule: the flag that has to be "Y",
+ * the GRAD requirement years it applies to, and the rule code to create.
+ * A rule may also need the course to be a French / Blank language course, or may need an extra condition.
+ * The rows are compiled once into a map by GRAD requirement year. Row order is kept, so the requirements
+ * are created in the same order as before.
+ */
+public final class CourseRequirementRuleTable {
+
+    public enum Flag {
+        ENGLISH_10(GradCourse::getEnglish10),
+        ENGLISH_11(GradCourse::getEnglish11),
+        ENGLISH_12(GradCourse::getEnglish12),
+        SOCIALS_10(GradCourse::getSocials10),
+        SOCIALS(GradCourse::getSocials),
+        MATH_10(GradCourse::getMath10),
+        MATH(GradCourse::getMath),
+        SCIENCE_10(GradCourse::getScience10),
+        SCIENCE(GradCourse::getScience),
+        CAREER_PERSONAL_10(GradCourse::getCareerPersonal10),
+        CAREER_PERSONAL_11(GradCourse::getCareerPersonal11),
+        CAREER_PERSONAL_12(GradCourse::getCareerPersonal12),
+        PHYS_ED_10(GradCourse::getPhysEd10),
+        APPLIED_SKILLS(GradCourse::getAppliedSkills),
+        PORTFOLIO(GradCourse::getPortfolio),
+        CONS_ED(GradCourse::getConsEd),
+        FINE_ARTS(GradCourse::getFineArts),
+        CAREER_LIFE_CONNECTIONS(GradCourse::getCareerLifeConnections),
+        INDIGENOUS_FOCUSED(GradCourse::getIndigenousFocused);
+
+        private final Function<GradCourse, String> value;
+
+        Flag(Function<GradCourse, String> value) {
+            this.value = value;
+        }
+
+        public boolean isSet(GradCourse gradCourse) {
+            return "Y".equals(value.apply(gradCourse));
+        }
+    }
+
+    public enum Condition {
+        FINE_ARTS(Flag.FINE_ARTS::isSet),
+        NOT_FINE_ARTS_AND_VALID_FOR_RULE_727(c -> !Flag.FINE_ARTS.isSet(c) && !isInvalidCourseForRule727(c)),
+        NOT_APPLIED_SKILLS(c -> !Flag.APPLIED_SKILLS.isSet(c));
+
+        private final Predicate<GradCourse> predicate;
+
+        Condition(Predicate<GradCourse> predicate) {
+            this.predicate = predicate;
+        }
+
+        public boolean test(GradCourse gradCourse) {
+            return predicate.test(gradCourse);
+        }
+    }
+
+    /**
+     * @param languageCourseCheck French / Blank language course check of the course, or null
+     * @param condition           extra condition on the course, or null
+     */
+    public record Rule(Flag flag, String ruleCode, CourseCheckResults.Check languageCourseCheck, Condition condition) {
+
+        public boolean matches(GradCourse gradCourse) {
+            return flag.isSet(gradCourse) && (condition == null || condition.test(gradCourse));
+        }
+    }
+
+    private static final String RECENT = "2023,2018";
+    private static final CourseCheckResults.Check FRENCH = CourseCheckResults.Check.FRENCH_LANGUAGE_COURSE;
+    private static final CourseCheckResults.Check BLANK = CourseCheckResults.Check.BLANK_LANGUAGE_COURSE;
+
+    private static final Map<String, List<Rule>> RULES_BY_GRAD_REQT_YEAR = new HashMap<>();
+    static {
+        // english10
+        add(Flag.ENGLISH_10, RECENT, "101");
+        add(Flag.ENGLISH_10, "2004", "701");
+        add(Flag.ENGLISH_10, RECENT, "302", FRENCH, null);
+        add(Flag.ENGLISH_10, "2004", "815", FRENCH, null);
+        add(Flag.ENGLISH_10, RECENT, "400", BLANK, null);
+        add(Flag.ENGLISH_10, "2004", "850", BLANK, null);
+        // english11
+        add(Flag.ENGLISH_11, RECENT, "102");
+        add(Flag.ENGLISH_11, "2004", "702");
+        add(Flag.ENGLISH_11, "1996", "721");
+        add(Flag.ENGLISH_11, "1986", "740");
+        add(Flag.ENGLISH_11, RECENT, "301", FRENCH, null);
+        add(Flag.ENGLISH_11, "2004", "816", FRENCH, null);
+        add(Flag.ENGLISH_11, "1996", "818", FRENCH, null);
+        add(Flag.ENGLISH_11, RECENT, "401", BLANK, null);
+        add(Flag.ENGLISH_11, "2004", "851", BLANK, null);
+        // english12
+        add(Flag.ENGLISH_12, RECENT, "103");
+        add(Flag.ENGLISH_12, "2004", "703");
+        add(Flag.ENGLISH_12, "1950", "500");
+        add(Flag.ENGLISH_12, "1996", "722");
+        add(Flag.ENGLISH_12, "1986", "741");
+        add(Flag.ENGLISH_12, RECENT, "300", FRENCH, null);
+        add(Flag.ENGLISH_12, "2004", "817", FRENCH, null);
+        add(Flag.ENGLISH_12, "1996", "819", FRENCH, null);
+        add(Flag.ENGLISH_12, RECENT, "402", BLANK, null);
+        add(Flag.ENGLISH_12, "2004", "852", BLANK, null);
+        // socials10
+        add(Flag.SOCIALS_10, RECENT, "104");
+        add(Flag.SOCIALS_10, "2004", "704");
+        // socials
+        add(Flag.SOCIALS, RECENT, "105");
+        add(Flag.SOCIALS, "2004", "705");
+        add(Flag.SOCIALS, "1950", "502");
+        add(Flag.SOCIALS, "1996", "723");
+        add(Flag.SOCIALS, "1986", "742");
+        // math10
+        add(Flag.MATH_10, RECENT, "106");
+        add(Flag.MATH_10, "2004", "706");
+        // math
+        add(Flag.MATH, RECENT, "107");
+        add(Flag.MATH, "2004", "707");
+        add(Flag.MATH, "1950", "501");
+        add(Flag.MATH, "1996", "724");
+        add(Flag.MATH, "1986", "743");
+        // science10
+        add(Flag.SCIENCE_10, RECENT, "108");
+        add(Flag.SCIENCE_10, "2004", "708");
+        // science
+        add(Flag.SCIENCE, RECENT, "109");
+        add(Flag.SCIENCE, "2004", "709");
+        add(Flag.SCIENCE, "1996", "725");
+        add(Flag.SCIENCE, "1986", "744");
+        // careerPersonal10, 11, 12
+        add(Flag.CAREER_PERSONAL_10, RECENT, "112");
+        add(Flag.CAREER_PERSONAL_10, "2004", "710");
+        add(Flag.CAREER_PERSONAL_11, "1996", "728");
+        add(Flag.CAREER_PERSONAL_12, "1996", "729");
+        // physEd10
+        add(Flag.PHYS_ED_10, RECENT, "110");
+        add(Flag.PHYS_ED_10, "2004", "711");
+        // appliedSkills
+        add(Flag.APPLIED_SKILLS, RECENT, "111");
+        add(Flag.APPLIED_SKILLS, "2004", "712");
+        add(Flag.APPLIED_SKILLS, "1996", "732", null, Condition.FINE_ARTS);
+        add(Flag.APPLIED_SKILLS, "1996", "727", null, Condition.NOT_FINE_ARTS_AND_VALID_FOR_RULE_727);
+        // portfolio
+        add(Flag.PORTFOLIO, "2004", "713");
+        // consEd
+        add(Flag.CONS_ED, "1986", "745");
+        // fineArts
+        add(Flag.FINE_ARTS, "1996", "726", null, Condition.NOT_APPLIED_SKILLS);
+        // careerLifeConnections
+        add(Flag.CAREER_LIFE_CONNECTIONS, RECENT, "113");
+        // Indigenous Focused for 2023 GRAD Program
+        add(Flag.INDIGENOUS_FOCUSED, "2023", "119");
+    }
+
+    private CourseRequirementRuleTable() {
+    }
+
+    private static void add(Flag flag, String gradReqtYears, String ruleCode) {
+        add(flag, gradReqtYears, ruleCode, null, null);
+    }
+
+    private static void add(Flag flag, String gradReqtYears, String ruleCode, CourseCheckResults.Check languageCourseCheck, Condition condition) {
+        Rule rule = new Rule(flag, ruleCode, languageCourseCheck, condition);
+        for (String gradReqtYear : StringUtils.split(gradReqtYears, ',')) {
+            RULES_BY_GRAD_REQT_YEAR.computeIfAbsent(gradReqtYear, k -> new ArrayList<>()).add(rule);
+        }
+    }
+
+    /**
+     * @return the rules of the course's GRAD requirement year whose flag is set and whose condition is met,
+     * in table order; the language course checks are left to the caller
+     */
+    public static List<Rule> getRules(GradCourse gradCourse) {
+        List<Rule> rules = RULES_BY_GRAD_REQT_YEAR.get(gradCourse.getGradReqtYear());
+        if (rules == null) {
+            return Collections.emptyList();
+        }
+        List<Rule> result = new ArrayList<>();
+        for (Rule rule : rules) {
+            if (rule.matches(gradCourse)) {
+                result.add(rule);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isInvalidCourseForRule727(GradCourse gradCourse) {
+        String courseCode = StringUtils.trim(gradCourse.getCourseCode());
+        String courseLevel = gradCourse.getCourseLevel();
+        return (StringUtils.equals(courseCode, "AC") && StringUtils.equals(courseLevel, "11 "))
+            || (StringUtils.equals(courseCode, "ACC") && StringUtils.equals(courseLevel, "12 "))
+            || (StringUtils.equals(courseCode, "COP") && StringUtils.equals(courseLevel, "11 "))
+            || (StringUtils.equals(courseCode, "COP") && StringUtils.equals(courseLevel, "12 "));
+    }
+}
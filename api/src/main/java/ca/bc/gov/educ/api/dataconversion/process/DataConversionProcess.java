@@ -1,22 +1,31 @@
 package ca.bc.gov.educ.api.dataconversion.process;
 
 import ca.bc.gov.educ.api.dataconversion.model.*;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Component
 @Slf4j
 public class DataConversionProcess {
     private final RestUtils restUtils;
+    private final EducGradDataConversionApiConstants constants;
 
     @Autowired
-    public DataConversionProcess(RestUtils restUtils) {
+    public DataConversionProcess(RestUtils restUtils, EducGradDataConversionApiConstants constants) {
         this.restUtils = restUtils;
+        this.constants = constants;
     }
 
     public List<ConvGradStudent> getStudentMasterDataFromTrax(String pen, String accessToken) {
@@ -32,65 +41,154 @@ public class DataConversionProcess {
         try {
             String accessToken = summary.getAccessToken();
             Student penStudent = getPenStudent(traxStudentNo.getStudNo(), accessToken, summary);
-            if (penStudent == null) {
-                Student traxStudent = readTraxStudent(traxStudentNo.getStudNo(), accessToken);
-                if (traxStudent != null) {
-                    if (StringUtils.equals(traxStudent.getStatusCode(), "M") && StringUtils.isNotBlank(traxStudent.getTruePen())) {
-                        log.debug("Merged student is skipped: pen# {}", traxStudent.getPen());
-                        return traxStudentNo;
-//                        // MergedToStudent
-//                        Student penMergedToStudent = getPenStudent(traxStudent.getTruePen(), accessToken, summary);
-//                        if (penMergedToStudent == null) {
-//                            // Create MergedToStudent
-//                            penMergedToStudent = readTraxStudent(traxStudent.getTruePen());
-//                            if (penMergedToStudent != null) {
-//                                penMergedToStudent.setDemogCode("A");
-//                                penMergedToStudent = createNewPen(penMergedToStudent, accessToken, summary);
-//                            }
-//                        }
-//                        // TrueStudentID
-//                        traxStudent.setTrueStudentID(penMergedToStudent != null? penMergedToStudent.getStudentID() : null);
-//                        traxStudent.setDemogCode("A");
-                    }
-                    // MergedFromStudent
-                    createNewPen(traxStudent, accessToken, summary);
-                    saveTraxStudent(traxStudentNo.getStudNo(), "C", accessToken);
-                }
-            } else {
-                log.info("Student already exists : pen# {} => studentID {}", traxStudentNo.getStudNo(), penStudent.getStudentID());
-                saveTraxStudent(traxStudentNo.getStudNo(), "Y", accessToken);
+            String status = addNewPenIfMissing(traxStudentNo.getStudNo(), penStudent,
+                    () -> readTraxStudent(traxStudentNo.getStudNo(), accessToken), accessToken, summary);
+            if (status != null) {
+                saveTraxStudent(traxStudentNo.getStudNo(), status, accessToken);
             }
             return traxStudentNo;
         } catch (Exception e) {
-            ConversionAlert error = new ConversionAlert();
-            error.setItem(traxStudentNo.getStudNo());
-            error.setReason("Unexpected Exception is occurred: " + e.getLocalizedMessage());
-            summary.getErrors().add(error);
+            addError(traxStudentNo.getStudNo(), "Unexpected Exception is occurred: " + e.getLocalizedMessage(), summary);
+            return null;
+        }
+    }
+
+    /**
+     * Pipelined version of readTraxStudentAndAddNewPen for a page of PENs.
+     * The PEN Student API lookups and the new PENs are done maxInFlight at a time,
+     * the TRAX demographics of the missing students are read in one request,
+     * and the TRAX student statuses are saved in one request (TRAX bulk requests only).
+     * Falls back to the per PEN calls when a bulk request fails.
+     */
+    public void readTraxStudentsAndAddNewPens(List<String> pens, int maxInFlight, ConversionStudentSummaryDTO summary) {
+        String accessToken = summary.getAccessToken();
+        Map<String, Optional<Student>> penStudents = new ConcurrentHashMap<>();
+        inParallel(pens, maxInFlight, pen -> penStudents.put(pen, Optional.ofNullable(getPenStudent(pen, accessToken, summary))));
+
+        List<String> missingPens = pens.stream().filter(pen -> penStudents.get(pen).isEmpty()).toList();
+        Map<String, List<Student>> traxStudents = readTraxStudents(missingPens, accessToken);
+
+        Map<String, String> statuses = new ConcurrentHashMap<>();
+        inParallel(pens, maxInFlight, pen -> {
+            incrementProcessedCount(summary);
+            try {
+                String status = addNewPenIfMissing(pen, penStudents.get(pen).orElse(null),
+                        () -> traxStudents != null ? getFirst(traxStudents.get(pen)) : readTraxStudent(pen, accessToken),
+                        accessToken, summary);
+                if (status != null) {
+                    statuses.put(pen, status);
+                }
+            } catch (Exception e) {
+                addError(pen, "Unexpected Exception is occurred: " + e.getLocalizedMessage(), summary);
+            }
+        });
+        saveTraxStudents(pens, statuses, accessToken, summary);
+    }
+
+    /**
+     * @return the status to be saved for the TRAX student: C (new PEN is created) or Y (PEN already exists),
+     * or null when the student is skipped
+     */
+    private String addNewPenIfMissing(String pen, Student penStudent, Supplier<Student> traxStudentReader, String accessToken, ConversionStudentSummaryDTO summary) {
+        if (penStudent == null) {
+            Student traxStudent = traxStudentReader.get();
+            if (traxStudent != null) {
+                if (StringUtils.equals(traxStudent.getStatusCode(), "M") && StringUtils.isNotBlank(traxStudent.getTruePen())) {
+                    log.debug("Merged student is skipped: pen# {}", traxStudent.getPen());
+                    return null;
+//                    // MergedToStudent
+//                    Student penMergedToStudent = getPenStudent(traxStudent.getTruePen(), accessToken, summary);
+//                    if (penMergedToStudent == null) {
+//                        // Create MergedToStudent
+//                        penMergedToStudent = readTraxStudent(traxStudent.getTruePen());
+//                        if (penMergedToStudent != null) {
+//                            penMergedToStudent.setDemogCode("A");
+//                            penMergedToStudent = createNewPen(penMergedToStudent, accessToken, summary);
+//                        }
+//                    }
+//                    // TrueStudentID
+//                    traxStudent.setTrueStudentID(penMergedToStudent != null? penMergedToStudent.getStudentID() : null);
+//                    traxStudent.setDemogCode("A");
+                }
+                // MergedFromStudent
+                createNewPen(traxStudent, accessToken, summary);
+                return "C";
+            }
             return null;
         }
+        log.info("Student already exists : pen# {} => studentID {}", pen, penStudent.getStudentID());
+        return "Y";
     }
 
     private Student readTraxStudent(String pen, String accessToken) {
-        List<Student> students = getStudentDemographicsDataFromTrax(pen, accessToken);
-        if (students != null && !students.isEmpty()) {
-            return students.get(0);
+        return getFirst(getStudentDemographicsDataFromTrax(pen, accessToken));
+    }
+
+    /**
+     * @return TRAX demographics by pen, or null when they are to be read one by one
+     */
+    private Map<String, List<Student>> readTraxStudents(List<String> pens, String accessToken) {
+        if (pens.isEmpty()) {
+            return new HashMap<>();
+        }
+        if (!constants.isTraxBulkRequestsEnabled()) {
+            return null;
+        }
+        try {
+            List<Student> students = restUtils.getTraxStudentDemographicsDataByPenList(pens, accessToken);
+            Map<String, List<Student>> results = new HashMap<>();
+            if (students != null) {
+                students.forEach(s -> results.computeIfAbsent(s.getPen(), k -> new ArrayList<>()).add(s));
+            }
+            return results;
+        } catch (Exception e) {
+            log.warn("TRAX student demographics by pen list is failed, read them one by one: {}", e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+    private void saveTraxStudents(List<String> pens, Map<String, String> statuses, String accessToken, ConversionStudentSummaryDTO summary) {
+        List<TraxStudentNo> traxStudentNoList = new ArrayList<>();
+        for (String pen : pens) {
+            if (statuses.containsKey(pen)) {
+                TraxStudentNo traxStudentNo = new TraxStudentNo();
+                traxStudentNo.setStudNo(pen);
+                traxStudentNo.setStatus(statuses.get(pen));
+                traxStudentNoList.add(traxStudentNo);
+            }
+        }
+        if (traxStudentNoList.isEmpty()) {
+            return;
+        }
+        if (!constants.isTraxBulkRequestsEnabled()) {
+            saveTraxStudentsOneByOne(traxStudentNoList, accessToken, summary);
+            return;
+        }
+        try {
+            restUtils.saveTraxStudentNoList(traxStudentNoList, accessToken);
+        } catch (Exception e) {
+            log.warn("TRAX student status list is not saved, save them one by one: {}", e.getLocalizedMessage());
+            saveTraxStudentsOneByOne(traxStudentNoList, accessToken, summary);
+        }
+    }
+
+    private void saveTraxStudentsOneByOne(List<TraxStudentNo> traxStudentNoList, String accessToken, ConversionStudentSummaryDTO summary) {
+        for (TraxStudentNo traxStudentNo : traxStudentNoList) {
+            try {
+                restUtils.saveTraxStudentNo(traxStudentNo, accessToken);
+            } catch (Exception e) {
+                addError(traxStudentNo.getStudNo(), "Unexpected Exception is occurred: " + e.getLocalizedMessage(), summary);
+            }
         }
-        return null;
     }
 
     private Student getPenStudent(String pen, String accessToken, ConversionStudentSummaryDTO summary) {
         Student student = null;
         try {
             // Call PEN Student API
-            List<Student> students = restUtils.getStudentsByPen(pen, accessToken);
-            if (students != null && !students.isEmpty()) {
-                student = students.get(0);
-            }
+            student = getFirst(restUtils.getStudentsByPen(pen, accessToken));
         } catch (Exception e) {
-            ConversionAlert error = new ConversionAlert();
-            error.setItem(pen);
-            error.setReason("PEN Student API is failed: " + e.getLocalizedMessage());
-            summary.getErrors().add(error);
+            addError(pen, "PEN Student API is failed: " + e.getLocalizedMessage(), summary);
         }
         return student;
     }
@@ -105,11 +203,42 @@ public class DataConversionProcess {
         Student newStudent = restUtils.addNewPen(student, accessToken);
         if (newStudent != null) {
             log.info("Add missing student: pen# {} => studentID {}", student.getPen(), newStudent.getStudentID());
-            summary.setAddedCount(summary.getAddedCount() + 1L);
+            synchronized (summary) {
+                summary.setAddedCount(summary.getAddedCount() + 1L);
+            }
         }
         return newStudent;
     }
 
+    private Student getFirst(List<Student> students) {
+        if (students != null && !students.isEmpty()) {
+            return students.get(0);
+        }
+        return null;
+    }
+
+    // Runs the task for each pen, maxInFlight at a time, and waits for all of them
+    private void inParallel(List<String> pens, int maxInFlight, Consumer<String> task) {
+        Flux.fromIterable(pens)
+                .flatMap(pen -> Mono.fromRunnable(() -> task.accept(pen)).subscribeOn(Schedulers.boundedElastic()), Math.max(1, maxInFlight))
+                .blockLast();
+    }
+
+    private void incrementProcessedCount(ConversionStudentSummaryDTO summary) {
+        synchronized (summary) {
+            summary.setProcessedCount(summary.getProcessedCount() + 1L);
+        }
+    }
+
+    private void addError(String pen, String reason, ConversionStudentSummaryDTO summary) {
+        ConversionAlert error = new ConversionAlert();
+        error.setItem(pen);
+        error.setReason(reason);
+        synchronized (summary) {
+            summary.getErrors().add(error);
+        }
+    }
+
     public void saveTraxStudent(String studNo, String status, String accessToken) {
         TraxStudentNo traxStudentNo = new TraxStudentNo();
         traxStudentNo.setStudNo(studNo);
@@ -15,7 +15,11 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 import static ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants.DEFAULT_CREATED_BY;
 import static ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants.DEFAULT_UPDATED_BY;
@@ -27,18 +31,28 @@ public class StudentProcess extends StudentBaseService {
     private static final String GRAD_STUDENT_API_ERROR_MSG = "Grad Student API is failed for ";
     private static final String EXCEPTION_MSG = "Exception occurred: ";
 
+    private final EducGradDataConversionApiConstants constants;
     private final RestUtils restUtils;
+    private final ReactiveRestUtils reactiveRestUtils;
     private final AssessmentProcess assessmentProcess;
     private final CourseProcess courseProcess;
+    private final OptionalProgramCache optionalProgramCache;
 
     @Autowired
-    public StudentProcess(RestUtils restUtils,
+    public StudentProcess(EducGradDataConversionApiConstants constants,
+                          RestUtils restUtils,
+                          ReactiveRestUtils reactiveRestUtils,
                           AssessmentProcess assessmentProcess,
-                          CourseProcess courseProcess) {
-        super(restUtils);
+                          CourseProcess courseProcess,
+                          OptionalProgramCache optionalProgramCache,
+                          SchoolCache schoolCache) {
+        super(schoolCache);
+        this.constants = constants;
         this.restUtils = restUtils;
+        this.reactiveRestUtils = reactiveRestUtils;
         this.assessmentProcess = assessmentProcess;
         this.courseProcess = courseProcess;
+        this.optionalProgramCache = optionalProgramCache;
     }
 
     public ConvGradStudent convertStudent(ConvGradStudent convGradStudent, ConversionStudentSummaryDTO summary, boolean reload, boolean ongoingUpdate) throws Exception {
@@ -329,6 +343,24 @@ public class StudentProcess extends StudentBaseService {
      * @return
      */
     public StudentGradDTO loadStudentData(String pen, String accessToken) {
+        return loadStudentData(pen, EnumSet.allOf(StudentDataRequirement.class), accessToken);
+    }
+
+    /**
+     * Load Student Data in GRAD
+     *      for ongoing updates from TRAX to GRAD
+     * PEN Student & GRAD status are always loaded, the given sections are fetched up front,
+     * and the rest are fetched only when they are accessed.
+     *
+     * @param pen
+     * @param requirements  sections read by the caller
+     * @param accessToken
+     * @return
+     */
+    public StudentGradDTO loadStudentData(String pen, Set<StudentDataRequirement> requirements, String accessToken) {
+        if (constants.isConcurrentStudentLoadEnabled()) {
+            return loadStudentDataConcurrently(pen, requirements, accessToken);
+        }
         Student penStudent;
         // PEN Student
         try {
@@ -345,65 +377,169 @@ public class StudentProcess extends StudentBaseService {
             return null;
         }
 
-        UUID studentID = UUID.fromString(penStudent.getStudentID());
-        StudentGradDTO studentData = new StudentGradDTO();
-        studentData.setStudentID(studentID);
-        // populate Demographic data
-        studentData.setLastName(penStudent.getLegalLastName());
-        studentData.setFirstName(penStudent.getLegalFirstName());
-        studentData.setMiddleName(penStudent.getLegalMiddleNames());
-        studentData.setBirthday(penStudent.getDob());
+        StudentGradDTO studentData = populateDemographics(penStudent);
+        String studentID = studentData.getStudentID().toString();
 
         GraduationStudentRecord gradStudent = null;
         try {
-            gradStudent = restUtils.getStudentGradStatus(studentID.toString(), accessToken);
+            gradStudent = restUtils.getStudentGradStatus(studentID, accessToken);
         } catch (Exception e) {
             log.error(GRAD_STUDENT_API_ERROR_MSG + "getting a GraduationStudentRecord : " + e.getLocalizedMessage());
             return null;
         }
         if (gradStudent != null) {
-            studentData.setProgram(gradStudent.getProgram());
-            studentData.setGradDate(gradStudent.getProgramCompletionDate());
-            studentData.setStudentGrade(gradStudent.getStudentGrade());
-            studentData.setStudentStatus(gradStudent.getStudentStatus());
-            studentData.setSchoolOfRecordId(gradStudent.getSchoolOfRecordId());
-            studentData.setCitizenship(gradStudent.getStudentCitizenship());
-            studentData.setAdultStartDate(gradStudent.getAdultStartDate());
+            populateGradStatus(studentData, gradStudent);
         } else {
             log.error("GraduationStudentRecord is not found for pen# [{}], studentID [{}]", pen, studentID);
             return null;
         }
 
+        // optional & career programs
+        studentData.setProgramCodesLoader(() -> loadProgramCodes(
+                () -> restUtils.getStudentOptionalPrograms(studentID, accessToken),
+                () -> restUtils.getStudentCareerPrograms(studentID, accessToken)));
+        // courses
+        studentData.setCoursesLoader(() -> courseProcess.getStudentCourses(pen, accessToken));
+        // assessments
+        studentData.setAssessmentsLoader(() -> assessmentProcess.getStudentAssessments(pen, accessToken));
+
+        studentData.load(requirements);
+        return studentData;
+    }
+
+    /**
+     * Concurrent version of loadStudentData.
+     * Required courses & assessments are requested together with the PEN Student lookup, and required optional /
+     * career programs together with GRAD status as soon as studentID is known. Each call has its own timeout and the
+     * results are joined in the same order as the sequential load, so failures are handled the same way:
+     *   PEN Student / GRAD status  => null
+     *   optional / career programs => logged and skipped
+     *   courses / assessments      => thrown
+     */
+    private StudentGradDTO loadStudentDataConcurrently(String pen, Set<StudentDataRequirement> requirements, String accessToken) {
+        Duration timeout = Duration.ofSeconds(constants.getStudentLoadTimeout());
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        try {
+            final CompletableFuture<List<StudentCourse>> coursesFuture = requirements.contains(StudentDataRequirement.COURSES)
+                    ? start(inFlight, reactiveRestUtils.getStudentCoursesByPen(pen, accessToken).collectList().timeout(timeout).toFuture()) : null;
+            final CompletableFuture<List<StudentAssessment>> assessmentsFuture = requirements.contains(StudentDataRequirement.ASSESSMENTS)
+                    ? start(inFlight, reactiveRestUtils.getStudentAssessmentsByPen(pen, accessToken).collectList().timeout(timeout).toFuture()) : null;
+
+            Student penStudent;
+            // PEN Student
+            try {
+                // Call PEN Student API
+                List<Student> students = restUtils.getStudentsByPen(pen, accessToken);
+                penStudent = students.stream().filter(s -> s.getPen().compareTo(pen) == 0).findAny().orElse(null);
+            } catch (Exception e) {
+                log.error("PEN Student API is failed for pen[{}] : {} ", pen, e.getLocalizedMessage());
+                return null;
+            }
+
+            if (penStudent == null) {
+                log.error("Pen# [{}] is not found in PEN StudentAPI.", pen);
+                return null;
+            }
+
+            StudentGradDTO studentData = populateDemographics(penStudent);
+            String studentID = studentData.getStudentID().toString();
+
+            CompletableFuture<GraduationStudentRecord> gradStudentFuture = start(inFlight,
+                    reactiveRestUtils.getStudentGradStatus(studentID, accessToken).timeout(timeout).toFuture());
+            final boolean programCodesRequired = requirements.contains(StudentDataRequirement.PROGRAM_CODES);
+            final CompletableFuture<List<StudentOptionalProgram>> optionalProgramsFuture = programCodesRequired
+                    ? start(inFlight, reactiveRestUtils.getStudentOptionalPrograms(studentID, accessToken).collectList().timeout(timeout).toFuture()) : null;
+            final CompletableFuture<List<StudentCareerProgram>> careerProgramsFuture = programCodesRequired
+                    ? start(inFlight, reactiveRestUtils.getStudentCareerPrograms(studentID, accessToken).collectList().timeout(timeout).toFuture()) : null;
+
+            GraduationStudentRecord gradStudent;
+            try {
+                gradStudent = await(gradStudentFuture);
+            } catch (Exception e) {
+                log.error(GRAD_STUDENT_API_ERROR_MSG + "getting a GraduationStudentRecord : " + e.getLocalizedMessage());
+                return null;
+            }
+            if (gradStudent == null) {
+                log.error("GraduationStudentRecord is not found for pen# [{}], studentID [{}]", pen, studentID);
+                return null;
+            }
+            populateGradStatus(studentData, gradStudent);
+
+            // optional & career programs
+            studentData.setProgramCodesLoader(programCodesRequired
+                    ? () -> loadProgramCodes(() -> await(optionalProgramsFuture), () -> await(careerProgramsFuture))
+                    : () -> loadProgramCodes(
+                            () -> restUtils.getStudentOptionalPrograms(studentID, accessToken),
+                            () -> restUtils.getStudentCareerPrograms(studentID, accessToken)));
+            // courses
+            studentData.setCoursesLoader(coursesFuture != null
+                    ? () -> await(coursesFuture)
+                    : () -> courseProcess.getStudentCourses(pen, accessToken));
+            // assessments
+            studentData.setAssessmentsLoader(assessmentsFuture != null
+                    ? () -> await(assessmentsFuture)
+                    : () -> assessmentProcess.getStudentAssessments(pen, accessToken));
+
+            studentData.load(requirements);
+            return studentData;
+        } finally {
+            // cancel the calls whose results are no longer needed (no-op for the completed ones)
+            inFlight.forEach(f -> f.cancel(true));
+        }
+    }
+
+    private StudentGradDTO populateDemographics(Student penStudent) {
+        StudentGradDTO studentData = new StudentGradDTO();
+        studentData.setStudentID(UUID.fromString(penStudent.getStudentID()));
+        // populate Demographic data
+        studentData.setLastName(penStudent.getLegalLastName());
+        studentData.setFirstName(penStudent.getLegalFirstName());
+        studentData.setMiddleName(penStudent.getLegalMiddleNames());
+        studentData.setBirthday(penStudent.getDob());
+        return studentData;
+    }
+
+    private void populateGradStatus(StudentGradDTO studentData, GraduationStudentRecord gradStudent) {
+        studentData.setProgram(gradStudent.getProgram());
+        studentData.setGradDate(gradStudent.getProgramCompletionDate());
+        studentData.setStudentGrade(gradStudent.getStudentGrade());
+        studentData.setStudentStatus(gradStudent.getStudentStatus());
+        studentData.setSchoolOfRecordId(gradStudent.getSchoolOfRecordId());
+        studentData.setCitizenship(gradStudent.getStudentCitizenship());
+        studentData.setAdultStartDate(gradStudent.getAdultStartDate());
+    }
+
+    private List<String> loadProgramCodes(Supplier<List<StudentOptionalProgram>> optionalPrograms, Supplier<List<StudentCareerProgram>> careerPrograms) {
+        List<String> programCodes = new ArrayList<>();
         // optional programs
-        List<StudentOptionalProgram> optionalPrograms = new ArrayList<>();
         try {
-            optionalPrograms = restUtils.getStudentOptionalPrograms(studentID.toString(), accessToken);
+            programCodes.addAll(getOptionalProgramCodes(optionalPrograms.get()));
         } catch (Exception e) {
             log.error(GRAD_STUDENT_API_ERROR_MSG + "getting StudentOptionalPrograms : " + e.getLocalizedMessage());
         }
-        studentData.getProgramCodes().addAll(getOptionalProgramCodes(optionalPrograms));
-
         // career programs
-        List<StudentCareerProgram> careerPrograms = new ArrayList<>();
         try {
-            careerPrograms = restUtils.getStudentCareerPrograms(studentID.toString(), accessToken);
+            programCodes.addAll(getCareerProgramCodes(careerPrograms.get()));
         } catch (Exception e) {
             log.error(GRAD_STUDENT_API_ERROR_MSG + "getting StudentCareerPrograms : " + e.getLocalizedMessage());
         }
-        studentData.getProgramCodes().addAll(getCareerProgramCodes(careerPrograms));
+        return programCodes;
+    }
 
-        // courses
-        List<StudentCourse> courses = courseProcess.getStudentCourses(pen, accessToken);
-        if (courses != null && !courses.isEmpty()) {
-            studentData.getCourses().addAll(courses);
-        }
-        // assessments
-        List<StudentAssessment> assessments = assessmentProcess.getStudentAssessments(pen, accessToken);
-        if (assessments != null && !assessments.isEmpty()) {
-            studentData.getAssessments().addAll(assessments);
-        }
+    private <T> CompletableFuture<T> start(List<CompletableFuture<?>> inFlight, CompletableFuture<T> future) {
+        inFlight.add(future);
+        return future;
+    }
 
-        return studentData;
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     private List<String> getOptionalProgramCodes(List<StudentOptionalProgram> studentOptionalPrograms) {
@@ -542,7 +678,7 @@ public class StudentProcess extends StudentBaseService {
     }
 
     public void removeStudentOptionalProgram(String optionalProgramCode, StudentGradDTO gradStudent, String accessToken) {
-        OptionalProgram optionalProgram = restUtils.getOptionalProgram(gradStudent.getProgram(), optionalProgramCode, accessToken);
+        OptionalProgram optionalProgram = optionalProgramCache.getOptionalProgram(gradStudent.getProgram(), optionalProgramCode, accessToken);
         if (optionalProgram != null) {
             removeStudentOptionalProgram(optionalProgram.getOptionalProgramID(), gradStudent, accessToken);
         }
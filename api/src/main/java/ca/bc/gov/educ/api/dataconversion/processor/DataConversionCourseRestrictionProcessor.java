@@ -12,6 +12,8 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Map;
+
 @SuppressWarnings("ALL")
 public class DataConversionCourseRestrictionProcessor implements ItemProcessor<CourseRestriction, CourseRestriction> {
 
@@ -22,15 +24,33 @@ public class DataConversionCourseRestrictionProcessor implements ItemProcessor<C
 
 	private ConversionCourseSummaryDTO summaryDTO;
 
+	// course restrictions in GRAD, loaded once per step on the first item
+	private volatile Map<String, CourseRestriction> existingCourseRestrictions;
+	private volatile boolean existingCourseRestrictionsLoaded;
+
 	@BeforeStep
 	public void retrieveSummaryDto(StepExecution stepExecution) {
 		JobExecution jobExecution = stepExecution.getJobExecution();
 		ExecutionContext jobContext = jobExecution.getExecutionContext();
 		summaryDTO = (ConversionCourseSummaryDTO)jobContext.get("courseRestrictionSummaryDTO");
+		existingCourseRestrictions = null;
+		existingCourseRestrictionsLoaded = false;
 	}
 
 	@Override
 	public CourseRestriction process(CourseRestriction courseRestriction) throws Exception {
-		return courseProcess.convertCourseRestriction(courseRestriction, summaryDTO);
+		return courseProcess.prepareCourseRestriction(courseRestriction, getExistingCourseRestrictions(), summaryDTO);
+	}
+
+	private Map<String, CourseRestriction> getExistingCourseRestrictions() {
+		if (!existingCourseRestrictionsLoaded) {
+			synchronized (this) {
+				if (!existingCourseRestrictionsLoaded) {
+					existingCourseRestrictions = courseProcess.getCourseRestrictions(summaryDTO.getAccessToken());
+					existingCourseRestrictionsLoaded = true;
+				}
+			}
+		}
+		return existingCourseRestrictions;
 	}
 }
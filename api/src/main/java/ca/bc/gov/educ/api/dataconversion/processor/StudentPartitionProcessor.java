@@ -6,14 +6,18 @@ import ca.bc.gov.educ.api.dataconversion.model.ConversionAlert;
 import ca.bc.gov.educ.api.dataconversion.model.ConversionStudentSummaryDTO;
 import ca.bc.gov.educ.api.dataconversion.model.TraxStudentNo;
 import ca.bc.gov.educ.api.dataconversion.process.StudentProcess;
+import ca.bc.gov.educ.api.dataconversion.reader.StudentMasterDataPrefetcher;
+import ca.bc.gov.educ.api.dataconversion.util.JobProgressTracker;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class StudentPartitionProcessor implements ItemProcessor<String, ConvGradStudent> {
@@ -26,17 +30,33 @@ public class StudentPartitionProcessor implements ItemProcessor<String, ConvGrad
 	@Autowired
 	private RestUtils restUtils;
 
+	@Autowired
+	private StudentMasterDataPrefetcher studentMasterDataPrefetcher;
+
+	@Autowired
+	private JobProgressTracker jobProgressTracker;
+
 	@Value("#{stepExecutionContext['summary']}")
 	private ConversionStudentSummaryDTO summaryDTO;
 
 	@Value("#{stepExecutionContext['reload']}")
 	private String reload;
 
+	@Value("#{stepExecution.jobExecution}")
+	private JobExecution jobExecution;
+
+	@Value("#{stepExecution.stepName}")
+	private String partitionName;
+
 	@Override
 	public ConvGradStudent process(String pen) throws Exception {
 		ConvGradStudent responseStudent = null;
+		int errorCount = summaryDTO.getErrors().size();
 		try {
-			List<ConvGradStudent> students = restUtils.getTraxStudentMasterDataByPen(pen, summaryDTO.getAccessToken());
+			List<ConvGradStudent> students = studentMasterDataPrefetcher.take(pen);
+			if (students == null) {
+				students = restUtils.getTraxStudentMasterDataByPen(pen, summaryDTO.getAccessToken());
+			}
 			if (students != null && !students.isEmpty()) {
 				responseStudent = students.get(0);
 				if (responseStudent.getResult() != null &&
@@ -44,6 +64,7 @@ public class StudentPartitionProcessor implements ItemProcessor<String, ConvGrad
 					String reason = "ERROR-Bad data: unknown error from TRAX";
 					summaryDTO.setErroredCount(summaryDTO.getErroredCount() + 1L);
 					restUtils.saveTraxStudentNo(new TraxStudentNo(pen, "F", reason), summaryDTO.getAccessToken());
+					updateProgress(null);
 					return null;
 				}
 				// convert
@@ -62,6 +83,30 @@ public class StudentPartitionProcessor implements ItemProcessor<String, ConvGrad
 				responseStudent = ConvGradStudent.builder().pen(pen).result(ConversionResultType.FAILURE).build();
 			}
 		}
+		List<ConversionAlert> alerts = takeAlerts(errorCount);
+		if (responseStudent != null) {
+			responseStudent.setAlerts(alerts);
+		}
+		updateProgress(responseStudent);
 		return responseStudent;
 	}
+
+	// the alerts added to the summary by the conversion of this student are handed over to the writer with the student
+	private List<ConversionAlert> takeAlerts(int errorCount) {
+		List<ConversionAlert> added = summaryDTO.getErrors().subList(errorCount, summaryDTO.getErrors().size());
+		List<ConversionAlert> alerts = new ArrayList<>(added);
+		added.clear();
+		return alerts;
+	}
+
+	// a student which is not written (rejected by TRAX or not found) is counted in error here, the others by the writer
+	private void updateProgress(ConvGradStudent student) {
+		JobProgressTracker.PartitionCounters progressCounters = jobProgressTracker.getPartitionCounters(jobExecution, partitionName);
+		progressCounters.addProcessedCount(1L);
+		if (student == null) {
+			progressCounters.addErroredCount(1L);
+		} else if (student.getResult() != ConversionResultType.FAILURE && student.getProgram() != null) {
+			progressCounters.incrementProgramCount(student.getProgram());
+		}
+	}
 }
@@ -43,8 +43,9 @@ public class DataConversionCourseRestrictionReader implements ItemReader<CourseR
         indexForCourseRestriction = 0;
     }
 
+    // synchronized: the course restriction step reads from several threads
     @Override
-    public CourseRestriction read() {
+    public synchronized CourseRestriction read() {
         LOGGER.info("Reading the information of the next course restriction");
 
         if (indexForCourseRestriction % 100 == 0) {
@@ -63,10 +64,6 @@ public class DataConversionCourseRestrictionReader implements ItemReader<CourseR
             indexForCourseRestriction++;
             LOGGER.info("Found course restriction: {} in total {}", indexForCourseRestriction, summaryDTO.getReadCount());
         }
-        else {
-        	indexForCourseRestriction = 0;
-            courseRestrictionList = null;
-        }
         return nextCourseRestriction;
     }
 
@@ -0,0 +1,248 @@
+package ca.bc.gov.educ.api.dataconversion.reader;
+
+import ca.bc.gov.educ.api.dataconversion.model.StudentLoadDelta;
+import ca.bc.gov.educ.api.dataconversion.model.TraxStudentNo;
+import ca.bc.gov.educ.api.dataconversion.util.ReactiveRestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the PENs of a partition from TRAX one page at a time.
+ * A partition is the PEN range (lowerPen, upperPen] holding at most limit PENs, so only its boundaries
+ * are kept in the step ExecutionContext. Unless PEN range paging is enabled, a partition is the slice
+ * [fromOffset, toOffset) of the TRAX list instead, read with the paginated endpoint.
+ * The page after the current one is read ahead in the background.
+ * With dynamic partitioning, the pages are claimed from the {@link SharedPenCursor} of the job instead.
+ * PENs whose TRAX status is one of the skipped statuses are passed over.
+ * In delta mode, only the PENs selected by the delta are read.
+ */
+public class PartitionPenCursor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionPenCursor.class);
+
+    private final RestUtils restUtils;
+    private final ReactiveRestUtils reactiveRestUtils;
+    private final SharedPenCursor sharedCursor;
+    private final String upperPen;
+    private final boolean byOffset;
+    private final int toOffset;
+    private final int pageSize;
+    private int remaining;
+
+    // called with the PENs of each page as soon as they are read
+    private Consumer<List<String>> pageListener = pens -> {};
+
+    private Set<String> skippedStatuses = Collections.emptySet();
+
+    private StudentLoadDelta delta;
+
+    private final Deque<TraxStudentNo> currentPage = new ArrayDeque<>();
+    private CompletableFuture<List<TraxStudentNo>> nextPage;
+    private List<String> claimedPage;
+    private String lastPen;
+    private String readUpTo;
+    private int readOffset;
+    private int nextOffset;
+    private boolean lastPage;
+
+    public PartitionPenCursor(RestUtils restUtils, ReactiveRestUtils reactiveRestUtils,
+                              String lowerPen, String upperPen, int pageSize, int limit) {
+        this.restUtils = restUtils;
+        this.reactiveRestUtils = reactiveRestUtils;
+        this.sharedCursor = null;
+        this.lastPen = lowerPen;
+        this.readUpTo = lowerPen;
+        this.upperPen = upperPen;
+        this.byOffset = false;
+        this.toOffset = 0;
+        this.pageSize = pageSize;
+        this.remaining = limit;
+        this.lastPage = limit <= 0;
+    }
+
+    /**
+     * Reads the PENs at [fromOffset, toOffset) of the full TRAX list page by page.
+     */
+    public PartitionPenCursor(RestUtils restUtils, ReactiveRestUtils reactiveRestUtils,
+                              int fromOffset, int toOffset, int pageSize) {
+        this.restUtils = restUtils;
+        this.reactiveRestUtils = reactiveRestUtils;
+        this.sharedCursor = null;
+        this.upperPen = null;
+        this.byOffset = true;
+        this.readOffset = fromOffset;
+        this.nextOffset = fromOffset;
+        this.toOffset = toOffset;
+        this.pageSize = pageSize;
+        this.remaining = toOffset - fromOffset;
+        this.lastPage = remaining <= 0;
+    }
+
+    public PartitionPenCursor(SharedPenCursor sharedCursor) {
+        this.restUtils = null;
+        this.reactiveRestUtils = null;
+        this.sharedCursor = sharedCursor;
+        this.upperPen = null;
+        this.byOffset = false;
+        this.toOffset = 0;
+        this.pageSize = 0;
+        this.remaining = Integer.MAX_VALUE;
+    }
+
+    /**
+     * @return true when the PENs are claimed from the shared cursor, i.e. the partition size is not known up front
+     */
+    public boolean isShared() {
+        return sharedCursor != null;
+    }
+
+    public void setPageListener(Consumer<List<String>> pageListener) {
+        this.pageListener = pageListener;
+    }
+
+    public void setSkippedStatuses(Set<String> skippedStatuses) {
+        this.skippedStatuses = skippedStatuses;
+    }
+
+    public void setDelta(StudentLoadDelta delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * @return the next PEN of the partition, or null at the end
+     */
+    public String next(String accessToken) {
+        while (remaining > 0) {
+            if (currentPage.isEmpty()) {
+                if (lastPage) {
+                    return null;
+                }
+                if (isShared()) {
+                    claimNextPage(accessToken);
+                } else {
+                    readNextPage(accessToken);
+                }
+                continue;
+            }
+            // PENs with a skipped status still count against the partition
+            TraxStudentNo st = currentPage.poll();
+            remaining--;
+            nextOffset++;
+            if (!isSkipped(st)) {
+                lastPen = st.getStudNo();
+                return lastPen;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the last PEN returned (exclusive lower bound of the rest of the partition)
+     */
+    public String getLastPen() {
+        return lastPen;
+    }
+
+    /**
+     * @return the offset in the TRAX list of the rest of the partition, when it is read by offset
+     */
+    public int getNextOffset() {
+        return nextOffset;
+    }
+
+    private void readNextPage(String accessToken) {
+        // the first page read by offset may start in the middle of a TRAX page
+        int expected = byOffset ? pageSize - readOffset % pageSize : pageSize;
+        List<TraxStudentNo> page = nextPage != null ? awaitNextPage(accessToken) : readPage(accessToken);
+        lastPage = page.size() < expected || page.size() >= remaining;
+        if (!page.isEmpty()) {
+            readUpTo = page.get(page.size() - 1).getStudNo();
+            readOffset += page.size();
+        }
+        nextPage = lastPage ? null : readAhead(accessToken);
+        currentPage.addAll(page);
+    }
+
+    // The page after the current one is claimed up front, so that its master data is prefetched while the current one is processed
+    private void claimNextPage(String accessToken) {
+        List<String> pens = claimedPage != null ? claimedPage : claim(accessToken);
+        pens.forEach(pen -> currentPage.add(new TraxStudentNo(pen, null, null)));
+        lastPage = pens.isEmpty();
+        claimedPage = lastPage ? null : claim(accessToken);
+    }
+
+    private List<String> claim(String accessToken) {
+        List<String> pens = sharedCursor.claimPage(accessToken);
+        pageListener.accept(pens);
+        return pens;
+    }
+
+    private List<TraxStudentNo> readPage(String accessToken) {
+        List<TraxStudentNo> list;
+        if (byOffset) {
+            list = restUtils.getTraxStudentNoListByPage(readOffset / pageSize, pageSize, accessToken);
+        } else if (delta != null) {
+            list = restUtils.getTraxStudentNoDeltaListByPenRange(readUpTo, upperPen, pageSize, delta, accessToken);
+        } else {
+            list = restUtils.getTraxStudentNoListByPenRange(readUpTo, upperPen, pageSize, accessToken);
+        }
+        List<TraxStudentNo> page = cutToPartition(list == null ? new ArrayList<>() : list, readOffset);
+        pageListener.accept(toPens(page));
+        return page;
+    }
+
+    private CompletableFuture<List<TraxStudentNo>> readAhead(String accessToken) {
+        int fromOffset = readOffset;
+        Flux<TraxStudentNo> pens;
+        if (byOffset) {
+            pens = reactiveRestUtils.getTraxStudentNoListByPage(fromOffset / pageSize, pageSize, accessToken);
+        } else if (delta != null) {
+            pens = reactiveRestUtils.getTraxStudentNoDeltaListByPenRange(readUpTo, upperPen, pageSize, delta, accessToken);
+        } else {
+            pens = reactiveRestUtils.getTraxStudentNoListByPenRange(readUpTo, upperPen, pageSize, accessToken);
+        }
+        return pens.collectList()
+                .map(page -> cutToPartition(page, fromOffset))
+                .doOnNext(page -> pageListener.accept(toPens(page)))
+                .toFuture();
+    }
+
+    // A page read by offset is the TRAX page holding fromOffset: the PENs before fromOffset and from toOffset on are cut off
+    private List<TraxStudentNo> cutToPartition(List<TraxStudentNo> page, int fromOffset) {
+        if (!byOffset) {
+            return page;
+        }
+        int from = fromOffset % pageSize;
+        int to = Math.min(page.size(), from + toOffset - fromOffset);
+        return from < to ? new ArrayList<>(page.subList(from, to)) : new ArrayList<>();
+    }
+
+    private boolean isSkipped(TraxStudentNo st) {
+        return st.getStatus() != null && skippedStatuses.contains(st.getStatus());
+    }
+
+    private List<String> toPens(List<TraxStudentNo> page) {
+        return page.stream()
+                .filter(st -> !isSkipped(st))
+                .map(TraxStudentNo::getStudNo)
+                .collect(Collectors.toList());
+    }
+
+    private List<TraxStudentNo> awaitNextPage(String accessToken) {
+        try {
+            return nextPage.join();
+        } catch (Exception e) {
+            LOGGER.warn("Read ahead of PENs after {} is failed: {} => read again", readUpTo, e.getLocalizedMessage());
+            return readPage(accessToken);
+        } finally {
+            nextPage = null;
+        }
+    }
+}
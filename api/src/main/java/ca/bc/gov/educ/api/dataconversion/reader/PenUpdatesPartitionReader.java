@@ -0,0 +1,166 @@
+package ca.bc.gov.educ.api.dataconversion.reader;
+
+import ca.bc.gov.educ.api.dataconversion.model.ConversionStudentSummaryDTO;
+import ca.bc.gov.educ.api.dataconversion.model.ResponseObj;
+import ca.bc.gov.educ.api.dataconversion.service.ConversionAlertLogService;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import ca.bc.gov.educ.api.dataconversion.util.JobProgressTracker;
+import ca.bc.gov.educ.api.dataconversion.util.ReactiveRestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Reads the PENs of a PEN updates partition.
+ * The last PEN (and the offset) of each committed chunk is saved in the step ExecutionContext, so a restarted partition
+ * resumes after it and passes over the PENs whose TRAX status was already saved by the PEN updates.
+ */
+public class PenUpdatesPartitionReader implements ItemStreamReader<String>, StepExecutionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PenUpdatesPartitionReader.class);
+
+    private static final String LAST_PEN = "lastPen";
+    private static final String INDEX = "index";
+    private static final String NEXT_OFFSET = "nextOffset";
+
+    // TRAX statuses saved by the PEN updates: C (new PEN is created) or Y (PEN already exists)
+    private static final Set<String> PROCESSED_STATUSES = Set.of("C", "Y");
+
+    private final RestUtils restUtils;
+
+    @Autowired
+    private ReactiveRestUtils reactiveRestUtils;
+
+    @Autowired
+    private EducGradDataConversionApiConstants constants;
+
+    @Autowired
+    private PenWorkQueue penWorkQueue;
+
+    @Autowired
+    private JobProgressTracker jobProgressTracker;
+
+    @Autowired
+    private ConversionAlertLogService conversionAlertLogService;
+
+    @Value("#{stepExecutionContext['lowerPen']}")
+    private String lowerPen;
+
+    @Value("#{stepExecutionContext['upperPen']}")
+    private String upperPen;
+
+    // start of the partition in the TRAX list, or null when it is a PEN range
+    @Value("#{stepExecutionContext['offset']}")
+    private Integer offset;
+
+    @Value("#{stepExecutionContext['summary']}")
+    private ConversionStudentSummaryDTO summaryDTO;
+
+    @Value("#{stepExecution.jobExecution}")
+    JobExecution jobExecution;
+
+    @Value("#{stepExecution.stepName}")
+    private String partitionName;
+
+    private PartitionPenCursor penCursor;
+    private int index;
+    private JobProgressTracker.PartitionCounters progressCounters;
+
+    public PenUpdatesPartitionReader(RestUtils restUtils) {
+        this.restUtils = restUtils;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        boolean restarted = executionContext.containsKey(LAST_PEN);
+        index = executionContext.getInt(INDEX, 0);
+        progressCounters = jobProgressTracker.getPartitionCounters(jobExecution, partitionName);
+        if (constants.isDynamicPartitioningEnabled()) {
+            // the shared cursor decides once for the job whether it is restarted
+            penCursor = new PartitionPenCursor(penWorkQueue.getCursor(jobExecution, PROCESSED_STATUSES, null));
+        } else {
+            progressCounters.setTotalCount(summaryDTO.getReadCount() - index);
+            if (offset != null) {
+                int fromOffset = executionContext.getInt(NEXT_OFFSET, offset);
+                penCursor = new PartitionPenCursor(restUtils, reactiveRestUtils, fromOffset, offset + (int) summaryDTO.getReadCount(),
+                        constants.getStudentLoadPageSize());
+            } else {
+                String afterPen = restarted ? executionContext.getString(LAST_PEN) : lowerPen;
+                penCursor = new PartitionPenCursor(restUtils, reactiveRestUtils, afterPen, upperPen,
+                        constants.getStudentLoadPageSize(), (int) summaryDTO.getReadCount() - index);
+            }
+            penCursor.setSkippedStatuses(restarted ? PROCESSED_STATUSES : Collections.emptySet());
+        }
+        LOGGER.info("=======> {} partition : after PEN {}, read count = {}", restarted ? "restart" : "start",
+                penCursor.getLastPen(), summaryDTO.getReadCount());
+    }
+
+    @Override
+    public String read() {
+        fetchAccessToken();
+        String pen = penCursor.next(summaryDTO.getAccessToken());
+        if (pen != null) {
+            index++;
+            progressCounters.incrementReadCount();
+            if (penCursor.isShared()) {
+                summaryDTO.setReadCount(summaryDTO.getReadCount() + 1);
+            }
+            LOGGER.debug(" ==> pen = {}", pen);
+        }
+        return pen;
+    }
+
+    // called before each chunk is committed, with the PENs of the chunk already written
+    @Override
+    public void update(ExecutionContext executionContext) {
+        if (penCursor != null && penCursor.getLastPen() != null) {
+            executionContext.putString(LAST_PEN, penCursor.getLastPen());
+            if (offset != null) {
+                executionContext.putInt(NEXT_OFFSET, penCursor.getNextOffset());
+            }
+        }
+        executionContext.putInt(INDEX, index);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        LOGGER.info("=======> end partition : processed count = {}", summaryDTO.getProcessedCount());
+        aggregate();
+        return null;
+    }
+
+    // partitions end on their own threads: only the creation of the total summary and the errors are locked, the merge is thread-safe
+    private void aggregate() {
+        ExecutionContext jobContext = jobExecution.getExecutionContext();
+        ConversionStudentSummaryDTO totalSummaryDTO;
+        synchronized (jobContext) {
+            totalSummaryDTO = (ConversionStudentSummaryDTO)jobContext.get("penUpdatesSummaryDTO");
+            if (totalSummaryDTO == null) {
+                totalSummaryDTO = new ConversionStudentSummaryDTO();
+                totalSummaryDTO.setTableName("PEN_UPDATES");
+                jobContext.put("penUpdatesSummaryDTO", totalSummaryDTO);
+            }
+            totalSummaryDTO.getErrors().addAll(summaryDTO.getErrors());
+            conversionAlertLogService.trim(totalSummaryDTO.getErrors());
+        }
+        totalSummaryDTO.merge(summaryDTO);
+    }
+
+    private void fetchAccessToken() {
+        ResponseObj res = restUtils.getTokenResponseObject();
+        if (res != null) {
+            summaryDTO.setAccessToken(res.getAccess_token());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package ca.bc.gov.educ.api.dataconversion.reader;
+
+import ca.bc.gov.educ.api.dataconversion.model.StudentLoadDelta;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import ca.bc.gov.educ.api.dataconversion.util.ReactiveRestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link SharedPenCursor} of each running job execution when dynamic partitioning is enabled.
+ * The cursor is created by the first partition asking for it and released by the job completion listener.
+ * Whether the job execution is a restart is decided once for the job, when its cursor is created.
+ */
+@Component
+public class PenWorkQueue {
+
+    private final Map<Long, SharedPenCursor> cursors = new ConcurrentHashMap<>();
+
+    private final RestUtils restUtils;
+    private final ReactiveRestUtils reactiveRestUtils;
+    private final EducGradDataConversionApiConstants constants;
+    private final JobExplorer jobExplorer;
+
+    @Autowired
+    public PenWorkQueue(RestUtils restUtils, ReactiveRestUtils reactiveRestUtils, EducGradDataConversionApiConstants constants, JobExplorer jobExplorer) {
+        this.restUtils = restUtils;
+        this.reactiveRestUtils = reactiveRestUtils;
+        this.constants = constants;
+        this.jobExplorer = jobExplorer;
+    }
+
+    /**
+     * @param skippedStatusesOnRestart TRAX statuses of the PENs not to be handed out when the job execution restarts a failed one
+     * @param delta                    PENs selected by the delta, or null for all PENs
+     */
+    public SharedPenCursor getCursor(JobExecution jobExecution, Set<String> skippedStatusesOnRestart, StudentLoadDelta delta) {
+        return cursors.computeIfAbsent(jobExecution.getId(),
+                id -> createCursor(isRestart(jobExecution) ? skippedStatusesOnRestart : Collections.emptySet(), delta));
+    }
+
+    private SharedPenCursor createCursor(Set<String> skippedStatuses, StudentLoadDelta delta) {
+        // the delta list shrinks while the students are converted, so it can only be walked by PEN range
+        boolean penRangePaging = constants.isPenRangePagingEnabled() || delta != null;
+        return new SharedPenCursor(restUtils, reactiveRestUtils, constants.getStudentLoadPageSize(), penRangePaging, skippedStatuses, delta);
+    }
+
+    // a restart runs in the job instance of the failed job execution
+    private boolean isRestart(JobExecution jobExecution) {
+        return jobExplorer.getJobExecutions(jobExecution.getJobInstance()).size() > 1;
+    }
+
+    public void release(Long jobExecutionId) {
+        SharedPenCursor cursor = cursors.remove(jobExecutionId);
+        if (cursor != null) {
+            cursor.close();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ca.bc.gov.educ.api.dataconversion.reader;
+
+import ca.bc.gov.educ.api.dataconversion.model.StudentLoadDelta;
+import ca.bc.gov.educ.api.dataconversion.model.TraxStudentNo;
+import ca.bc.gov.educ.api.dataconversion.util.ReactiveRestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Central cursor over all PENs in TRAX, shared by every partition of a job execution.
+ * Each call hands out the next page of PENs to the partition asking for it, so a partition which is done
+ * with its page pulls another one instead of sitting idle while the others still have work.
+ * The pages are read with the paginated endpoint, or by PEN range when PEN range paging is enabled.
+ * The page after the one handed out is read ahead in the background.
+ * PENs whose TRAX status is one of the skipped statuses are not handed out.
+ * In delta mode, only the PENs selected by the delta are read.
+ */
+public class SharedPenCursor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedPenCursor.class);
+
+    private final RestUtils restUtils;
+    private final ReactiveRestUtils reactiveRestUtils;
+    private final int pageSize;
+    private final boolean penRangePaging;
+    private final Set<String> skippedStatuses;
+    private final StudentLoadDelta delta;
+
+    private CompletableFuture<List<TraxStudentNo>> nextPage;
+    private String lastPen;
+    private boolean exhausted;
+    private int pageNumber;
+
+    public SharedPenCursor(RestUtils restUtils, ReactiveRestUtils reactiveRestUtils, int pageSize) {
+        this(restUtils, reactiveRestUtils, pageSize, false, Collections.emptySet(), null);
+    }
+
+    /**
+     * @param penRangePaging pages are read by PEN range instead of by page number
+     * @param delta          PENs selected by the delta, or null for all PENs
+     */
+    public SharedPenCursor(RestUtils restUtils, ReactiveRestUtils reactiveRestUtils, int pageSize, boolean penRangePaging,
+                           Set<String> skippedStatuses, StudentLoadDelta delta) {
+        this.restUtils = restUtils;
+        this.reactiveRestUtils = reactiveRestUtils;
+        this.pageSize = pageSize;
+        this.penRangePaging = penRangePaging;
+        this.skippedStatuses = skippedStatuses;
+        this.delta = delta;
+    }
+
+    /**
+     * @return the next page of PENs, or an empty list when all PENs are handed out
+     */
+    public synchronized List<String> claimPage(String accessToken) {
+        // a page may be skipped as a whole
+        while (!exhausted) {
+            List<TraxStudentNo> page = nextPage != null ? awaitNextPage(accessToken) : readPage(accessToken);
+            exhausted = page.size() < pageSize;
+            if (!page.isEmpty()) {
+                lastPen = page.get(page.size() - 1).getStudNo();
+                LOGGER.debug("Page {} of PENs up to {} is claimed by {}", pageNumber, lastPen, Thread.currentThread().getName());
+            }
+            pageNumber++;
+            nextPage = exhausted ? null : readAhead(accessToken);
+            List<String> pens = toPens(page);
+            if (!pens.isEmpty()) {
+                return pens;
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    public synchronized void close() {
+        if (nextPage != null) {
+            nextPage.cancel(true);
+            nextPage = null;
+        }
+        exhausted = true;
+    }
+
+    private List<TraxStudentNo> readPage(String accessToken) {
+        List<TraxStudentNo> list;
+        if (!penRangePaging) {
+            list = restUtils.getTraxStudentNoListByPage(pageNumber, pageSize, accessToken);
+        } else if (delta != null) {
+            list = restUtils.getTraxStudentNoDeltaListByPenRange(lastPen, null, pageSize, delta, accessToken);
+        } else {
+            list = restUtils.getTraxStudentNoListByPenRange(lastPen, null, pageSize, accessToken);
+        }
+        return list == null ? new ArrayList<>() : list;
+    }
+
+    private CompletableFuture<List<TraxStudentNo>> readAhead(String accessToken) {
+        Flux<TraxStudentNo> page;
+        if (!penRangePaging) {
+            page = reactiveRestUtils.getTraxStudentNoListByPage(pageNumber, pageSize, accessToken);
+        } else if (delta != null) {
+            page = reactiveRestUtils.getTraxStudentNoDeltaListByPenRange(lastPen, null, pageSize, delta, accessToken);
+        } else {
+            page = reactiveRestUtils.getTraxStudentNoListByPenRange(lastPen, null, pageSize, accessToken);
+        }
+        return page.collectList()
+                .toFuture();
+    }
+
+    private List<String> toPens(List<TraxStudentNo> page) {
+        return page.stream()
+                .filter(st -> st.getStatus() == null || !skippedStatuses.contains(st.getStatus()))
+                .map(TraxStudentNo::getStudNo)
+                .collect(Collectors.toList());
+    }
+
+    private List<TraxStudentNo> awaitNextPage(String accessToken) {
+        try {
+            return nextPage.join();
+        } catch (Exception e) {
+            LOGGER.warn("Read ahead of PENs after {} is failed: {} => read again", lastPen, e.getLocalizedMessage());
+            return readPage(accessToken);
+        } finally {
+            nextPage = null;
+        }
+    }
+}
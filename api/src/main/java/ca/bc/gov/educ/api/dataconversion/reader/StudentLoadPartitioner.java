@@ -2,7 +2,9 @@ package ca.bc.gov.educ.api.dataconversion.reader;
 
 import ca.bc.gov.educ.api.dataconversion.model.ConversionStudentSummaryDTO;
 import ca.bc.gov.educ.api.dataconversion.model.ResponseObj;
+import ca.bc.gov.educ.api.dataconversion.model.StudentLoadDelta;
 import ca.bc.gov.educ.api.dataconversion.model.TraxStudentNo;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,11 +13,9 @@ import org.springframework.batch.core.partition.support.SimplePartitioner;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.beans.factory.annotation.Value;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class StudentLoadPartitioner extends SimplePartitioner {
 
@@ -25,45 +25,83 @@ public class StudentLoadPartitioner extends SimplePartitioner {
     JobExecution jobExecution;
 
     private final RestUtils restUtils;
+    private final EducGradDataConversionApiConstants constants;
 
-    public StudentLoadPartitioner(RestUtils restUtils) {
+    public StudentLoadPartitioner(RestUtils restUtils, EducGradDataConversionApiConstants constants) {
         this.restUtils = restUtils;
+        this.constants = constants;
     }
 
     @Override
     public Map<String, ExecutionContext> partition(int gridSize) {
+        String reload = jobExecution.getJobParameters().getString("reload");
+        if (constants.isDynamicPartitioningEnabled()) {
+            // No fixed ranges: every partition pulls pages of PENs from the shared cursor until all are handed out
+            LOGGER.info("Partition setup: {} partitions claim pages of {} PENs from the shared cursor", gridSize, constants.getStudentLoadPageSize());
+            Map<String, ExecutionContext> map = new HashMap<>(gridSize);
+            for (int i = 0; i < gridSize; i++) {
+                map.put("partition" + i, createExecutionContext(null, null, 0, reload));
+            }
+            return map;
+        }
+
         ResponseObj res = restUtils.getTokenResponseObject();
         String accessToken = null;
         if (res != null) {
             accessToken = res.getAccess_token();
         }
 
-        String reload = jobExecution.getJobParameters().getString("reload");
-        Integer total = restUtils.getTotalNumberOfTraxStudentNoList(accessToken);
-        Integer pageSize = (total / gridSize) + 1;
-        LOGGER.info("Partition setup: total number of records = {}, partition size = {}, page size = {}", total, gridSize, pageSize);
+        // Delta mode: the partitions are made over the PENs selected by the delta only
+        StudentLoadDelta delta = StudentLoadDelta.fromJobParameters(jobExecution.getJobParameters());
+        Integer total = delta != null
+                ? restUtils.getTotalNumberOfTraxStudentNoDeltaList(delta, accessToken)
+                : restUtils.getTotalNumberOfTraxStudentNoList(accessToken);
+        int partitionSize = (total / gridSize) + 1;
+        LOGGER.info("Partition setup: total number of records = {}, partition size = {}, page size = {}, delta = {}", total, gridSize, partitionSize, delta);
 
+        // Only the PEN range of each partition is stored: (lowerPen, upperPen]
+        // Without PEN range paging, the start offset of each partition is stored instead.
+        // The delta list shrinks while the students are converted, so it can only be split by PEN range.
+        boolean penRangePaging = constants.isPenRangePagingEnabled() || delta != null;
         Map<String, ExecutionContext> map = new HashMap<>(gridSize);
+        String lowerPen = null;
         for (int i = 0; i < gridSize; i++) {
-            ExecutionContext executionContext = new ExecutionContext();
-            ConversionStudentSummaryDTO summaryDTO = new ConversionStudentSummaryDTO();
-            List<String> data = loadPenNumbers(i, pageSize, accessToken);
-            executionContext.put("data", data);
-            summaryDTO.setReadCount(data.size());
-            executionContext.put("summary", summaryDTO);
-            executionContext.put("index", Integer.valueOf(0));
-            executionContext.put("reload", reload);
+            int offset = i * partitionSize;
+            int count = Math.max(0, Math.min(partitionSize, total - offset));
+
             String key = "partition" + i;
-            map.put(key, executionContext);
+            if (penRangePaging) {
+                String upperPen = offset + partitionSize < total ? loadPenAt(offset + partitionSize - 1, delta, accessToken) : null;
+                map.put(key, createExecutionContext(lowerPen, upperPen, count, reload));
+                lowerPen = upperPen;
+            } else {
+                ExecutionContext executionContext = createExecutionContext(null, null, count, reload);
+                executionContext.put("offset", Integer.valueOf(offset));
+                map.put(key, executionContext);
+            }
         }
         return map;
     }
 
-    private List<String> loadPenNumbers(int pageNumber, int pageSize, String accessToken) {
-        List<TraxStudentNo> list = restUtils.getTraxStudentNoListByPage(pageNumber, pageSize, accessToken);
+    private ExecutionContext createExecutionContext(String lowerPen, String upperPen, int count, String reload) {
+        ExecutionContext executionContext = new ExecutionContext();
+        ConversionStudentSummaryDTO summaryDTO = new ConversionStudentSummaryDTO();
+        executionContext.put("lowerPen", lowerPen);
+        executionContext.put("upperPen", upperPen);
+        summaryDTO.setReadCount(count);
+        executionContext.put("summary", summaryDTO);
+        executionContext.put("index", Integer.valueOf(0));
+        executionContext.put("reload", reload);
+        return executionContext;
+    }
+
+    private String loadPenAt(int offset, StudentLoadDelta delta, String accessToken) {
+        List<TraxStudentNo> list = delta != null
+                ? restUtils.getTraxStudentNoDeltaListByPage(offset, 1, delta, accessToken)
+                : restUtils.getTraxStudentNoListByPage(offset, 1, accessToken);
         if (list != null && !list.isEmpty()) {
-            return list.stream().map(r -> r.getStudNo()).collect(Collectors.toList());
+            return list.get(0).getStudNo();
         }
-        return new ArrayList<>();
+        return null;
     }
 }
@@ -0,0 +1,70 @@
+package ca.bc.gov.educ.api.dataconversion.reader;
+
+import ca.bc.gov.educ.api.dataconversion.model.ConvGradStudent;
+import ca.bc.gov.educ.api.dataconversion.util.ReactiveRestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Holds TRAX student master data fetched in bulk, one page of PENs per request, for a partition of the student load.
+ * The reader requests pages ahead of the processor, and the processor takes the master data of each PEN from here.
+ * A PEN that is not available (bulk request failed) is left to the processor to fetch one by one.
+ */
+public class StudentMasterDataPrefetcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StudentMasterDataPrefetcher.class);
+
+    private final ReactiveRestUtils reactiveRestUtils;
+
+    // pen => master data of the page the pen belongs to
+    private final Map<String, CompletableFuture<Map<String, List<ConvGradStudent>>>> pages = new ConcurrentHashMap<>();
+
+    public StudentMasterDataPrefetcher(ReactiveRestUtils reactiveRestUtils) {
+        this.reactiveRestUtils = reactiveRestUtils;
+    }
+
+    public boolean isRequested(String pen) {
+        return pages.containsKey(pen);
+    }
+
+    /**
+     * Request the master data of the given PENs in the background.
+     */
+    public void prefetch(List<String> pens, String accessToken) {
+        if (pens.isEmpty() || isRequested(pens.get(0))) {
+            return;
+        }
+        LOGGER.debug("Prefetching TRAX student master data: {} PENs from {}", pens.size(), pens.get(0));
+        CompletableFuture<Map<String, List<ConvGradStudent>>> page = reactiveRestUtils.getTraxStudentMasterDataByPenList(pens, accessToken)
+                .collect(Collectors.groupingBy(ConvGradStudent::getPen))
+                .onErrorResume(e -> {
+                    LOGGER.warn("Bulk read of TRAX student master data is failed for {} PENs from {} : {}", pens.size(), pens.get(0), e.getLocalizedMessage());
+                    return Mono.empty();
+                })
+                .toFuture();
+        pens.forEach(pen -> pages.put(pen, page));
+    }
+
+    /**
+     * Take the master data of the given PEN, waiting for its page if it is still in flight.
+     *
+     * @return master data (empty if TRAX has none), or null if it was not prefetched
+     */
+    public List<ConvGradStudent> take(String pen) {
+        CompletableFuture<Map<String, List<ConvGradStudent>>> page = pages.remove(pen);
+        if (page == null) {
+            return null;
+        }
+        Map<String, List<ConvGradStudent>> students = page.join();
+        if (students == null) {
+            return null;
+        }
+        return students.getOrDefault(pen, new ArrayList<>());
+    }
+}
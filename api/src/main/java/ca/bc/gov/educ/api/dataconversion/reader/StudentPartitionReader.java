@@ -1,28 +1,68 @@
 package ca.bc.gov.educ.api.dataconversion.reader;
 
+import ca.bc.gov.educ.api.dataconversion.constant.ConversionResultType;
 import ca.bc.gov.educ.api.dataconversion.model.ConversionStudentSummaryDTO;
 import ca.bc.gov.educ.api.dataconversion.model.ResponseObj;
+import ca.bc.gov.educ.api.dataconversion.model.StudentLoadDelta;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import ca.bc.gov.educ.api.dataconversion.util.JobProgressTracker;
+import ca.bc.gov.educ.api.dataconversion.util.ReactiveRestUtils;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.item.*;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
-import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
-public class StudentPartitionReader implements ItemReader<String> {
+/**
+ * Reads the PENs of a student load partition.
+ * The index and the last PEN (or the offset) of each committed chunk are saved in the step ExecutionContext,
+ * so a restarted partition resumes after the students already converted.
+ */
+public class StudentPartitionReader implements ItemStreamReader<String> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StudentPartitionReader.class);
 
+    private static final String INDEX = "index";
+    private static final String LAST_PEN = "lastPen";
+    private static final String NEXT_OFFSET = "nextOffset";
+
+    // TRAX statuses of the students converted by the load: passed over by the shared cursor of a restarted job execution
+    private static final Set<String> CONVERTED_STATUSES = Set.of(ConversionResultType.SUCCESS.toString(), ConversionResultType.WARNING.toString());
+
     private final RestUtils restUtils;
 
-    @Value("#{stepExecutionContext['index']}")
+    @Autowired
+    private ReactiveRestUtils reactiveRestUtils;
+
+    @Autowired
+    private StudentMasterDataPrefetcher studentMasterDataPrefetcher;
+
+    @Autowired
+    private EducGradDataConversionApiConstants constants;
+
+    @Autowired
+    private PenWorkQueue penWorkQueue;
+
+    @Autowired
+    private JobProgressTracker jobProgressTracker;
+
     private int indexForStudent;
 
-    @Value("#{stepExecutionContext['data']}")
-    private List<String> studentList;
+    @Value("#{stepExecutionContext['lowerPen']}")
+    private String lowerPen;
+
+    @Value("#{stepExecutionContext['upperPen']}")
+    private String upperPen;
+
+    // start of the partition in the TRAX list, or null when it is a PEN range
+    @Value("#{stepExecutionContext['offset']}")
+    private Integer offset;
+
+    private int nextOffset;
 
     @Value("#{stepExecutionContext['summary']}")
     private ConversionStudentSummaryDTO summaryDTO;
@@ -30,29 +70,58 @@ public class StudentPartitionReader implements ItemReader<String> {
     @Value("#{stepExecution.jobExecution}")
     JobExecution jobExecution;
 
+    @Value("#{stepExecution.stepName}")
+    private String partitionName;
+
+    private PartitionPenCursor penCursor;
+
+    private JobProgressTracker.PartitionCounters progressCounters;
+
     public StudentPartitionReader(RestUtils restUtils) {
         this.restUtils = restUtils;
     }
 
-    public void aggregate() {
-        ExecutionContext jobContext = jobExecution.getExecutionContext();
-        ConversionStudentSummaryDTO totalSummaryDTO = (ConversionStudentSummaryDTO)jobContext.get("studentSummaryDTO");
-        if (totalSummaryDTO == null) {
-            totalSummaryDTO = new ConversionStudentSummaryDTO();
-            totalSummaryDTO.setTableName("LOAD_STUDENT");
-            jobContext.put("studentSummaryDTO", totalSummaryDTO);
+    @Override
+    public void open(ExecutionContext executionContext) {
+        indexForStudent = executionContext.getInt(INDEX, 0);
+        if (executionContext.containsKey(LAST_PEN)) {
+            lowerPen = executionContext.getString(LAST_PEN);
+            LOGGER.info("Restart partition after PEN {}: {} students already read", lowerPen, indexForStudent);
+        }
+        if (offset != null) {
+            nextOffset = executionContext.getInt(NEXT_OFFSET, offset);
         }
+        progressCounters = jobProgressTracker.getPartitionCounters(jobExecution, partitionName);
+        if (!constants.isDynamicPartitioningEnabled()) {
+            progressCounters.setTotalCount(summaryDTO.getReadCount() - indexForStudent);
+        }
+    }
 
-        // merge
-        totalSummaryDTO.setReadCount(totalSummaryDTO.getReadCount() + summaryDTO.getReadCount());
-        totalSummaryDTO.setProcessedCount(totalSummaryDTO.getProcessedCount() + summaryDTO.getProcessedCount());
-        totalSummaryDTO.setAddedCount(totalSummaryDTO.getAddedCount() + summaryDTO.getAddedCount());
-        totalSummaryDTO.setUpdatedCount(totalSummaryDTO.getUpdatedCount() + summaryDTO.getUpdatedCount());
-        totalSummaryDTO.setErroredCount(totalSummaryDTO.getErroredCount() + summaryDTO.getErroredCount());
+    // called before each chunk is committed, with the students of the chunk already converted
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putInt(INDEX, indexForStudent);
+        if (penCursor != null && penCursor.getLastPen() != null) {
+            executionContext.putString(LAST_PEN, penCursor.getLastPen());
+            if (offset != null) {
+                executionContext.putInt(NEXT_OFFSET, penCursor.getNextOffset());
+            }
+        }
+    }
 
-        mergeMapCounts(totalSummaryDTO.getProgramCountMap(), summaryDTO.getProgramCountMap());
-        mergeMapCounts(totalSummaryDTO.getOptionalProgramCountMap(), summaryDTO.getOptionalProgramCountMap());
-        mergeMapCounts(totalSummaryDTO.getCareerProgramCountMap(), summaryDTO.getCareerProgramCountMap());
+    // partitions end on their own threads: only the creation of the total summary is locked, the merge is thread-safe
+    public void aggregate() {
+        ExecutionContext jobContext = jobExecution.getExecutionContext();
+        ConversionStudentSummaryDTO totalSummaryDTO;
+        synchronized (jobContext) {
+            totalSummaryDTO = (ConversionStudentSummaryDTO)jobContext.get("studentSummaryDTO");
+            if (totalSummaryDTO == null) {
+                totalSummaryDTO = new ConversionStudentSummaryDTO();
+                totalSummaryDTO.setTableName("LOAD_STUDENT");
+                jobContext.put("studentSummaryDTO", totalSummaryDTO);
+            }
+        }
+        totalSummaryDTO.merge(summaryDTO);
     }
 
     @Override
@@ -60,11 +129,14 @@ public class StudentPartitionReader implements ItemReader<String> {
         LOGGER.debug("Reading the information of the next student");
 
         fetchAccessToken();
-        String nextStudent = null;
+        String nextStudent = getPenCursor().next(summaryDTO.getAccessToken());
 
-        if (indexForStudent < studentList.size()) {
-            nextStudent = studentList.get(indexForStudent);
+        if (nextStudent != null) {
             indexForStudent++;
+            progressCounters.incrementReadCount();
+            if (penCursor.isShared()) {
+                summaryDTO.setReadCount(summaryDTO.getReadCount() + 1);
+            }
             LOGGER.debug("Found student[{}] - PEN: {} in total {}", indexForStudent, nextStudent, summaryDTO.getReadCount());
         } else {
             aggregate();
@@ -72,6 +144,27 @@ public class StudentPartitionReader implements ItemReader<String> {
         return nextStudent;
     }
 
+    // PENs are read page by page, and the master data of each page is prefetched as soon as its PENs are known (TRAX bulk requests only)
+    private PartitionPenCursor getPenCursor() {
+        if (penCursor == null) {
+            StudentLoadDelta delta = StudentLoadDelta.fromJobParameters(jobExecution.getJobParameters());
+            if (constants.isDynamicPartitioningEnabled()) {
+                penCursor = new PartitionPenCursor(penWorkQueue.getCursor(jobExecution, CONVERTED_STATUSES, delta));
+            } else if (offset != null) {
+                penCursor = new PartitionPenCursor(restUtils, reactiveRestUtils, nextOffset, offset + (int) summaryDTO.getReadCount(),
+                        constants.getStudentLoadPageSize());
+            } else {
+                penCursor = new PartitionPenCursor(restUtils, reactiveRestUtils, lowerPen, upperPen,
+                        constants.getStudentLoadPageSize(), (int) summaryDTO.getReadCount() - indexForStudent);
+                penCursor.setDelta(delta);
+            }
+            if (constants.isTraxBulkRequestsEnabled()) {
+                penCursor.setPageListener(pens -> studentMasterDataPrefetcher.prefetch(pens, summaryDTO.getAccessToken()));
+            }
+        }
+        return penCursor;
+    }
+
     private void fetchAccessToken() {
         ResponseObj res = restUtils.getTokenResponseObject();
         if (res != null) {
@@ -79,14 +172,4 @@ public class StudentPartitionReader implements ItemReader<String> {
             LOGGER.debug("Setting the new access token in summaryDTO.");
         }
     }
-
-    private void mergeMapCounts(Map<String, Long> total, Map<String, Long> current) {
-        current.forEach((k,v) -> {
-            if (total.containsKey(k)) {
-                total.put(k, total.get(k) + v);
-            } else {
-                total.put(k, v);
-            }
-        });
-    }
 }
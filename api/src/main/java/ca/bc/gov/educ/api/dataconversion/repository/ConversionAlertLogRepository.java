@@ -0,0 +1,19 @@
+package ca.bc.gov.educ.api.dataconversion.repository;
+
+import ca.bc.gov.educ.api.dataconversion.entity.ConversionAlertLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface ConversionAlertLogRepository extends JpaRepository<ConversionAlertLog, UUID> {
+    @Transactional
+    @Modifying
+    @Query("delete from ConversionAlertLog where createDate <= :createDate")
+    void deleteByCreateDateBefore(LocalDateTime createDate);
+}
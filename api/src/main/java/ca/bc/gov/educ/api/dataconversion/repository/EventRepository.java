@@ -1,6 +1,7 @@
 package ca.bc.gov.educ.api.dataconversion.repository;
 
 import ca.bc.gov.educ.api.dataconversion.entity.Event;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,7 +17,19 @@ import java.util.UUID;
 public interface EventRepository extends JpaRepository<Event, UUID> {
     Optional<Event> findByEventId(UUID eventId);
 
-    List<Event> findAllByEventStatusOrderByCreateDate(String eventStatus);
+    /**
+     * The ids and types of the events in the given status which are not updated since updateDate, oldest first:
+     * the payloads are only loaded for the events which are dispatched.
+     */
+    @Query("select e.replicationEventId as replicationEventId, e.eventType as eventType from Event e " +
+            "where e.eventStatus = :eventStatus and e.updateDate < :updateDate order by e.createDate")
+    List<EventHeader> findEventHeadersByEventStatusAndUpdateDateBefore(String eventStatus, LocalDateTime updateDate, Pageable pageable);
+
+    interface EventHeader {
+        UUID getReplicationEventId();
+
+        String getEventType();
+    }
 
     @Transactional
     @Modifying
@@ -0,0 +1,33 @@
+package ca.bc.gov.educ.api.dataconversion.scheduler;
+
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renews the shared access token before it expires.
+ * Each instance keeps its own token, so no scheduler lock is taken.
+ */
+@Component
+@Slf4j
+public class AccessTokenRefreshScheduler {
+    private final RestUtils restUtils;
+    private final EducGradDataConversionApiConstants constants;
+
+    public AccessTokenRefreshScheduler(final RestUtils restUtils,
+                                       final EducGradDataConversionApiConstants constants) {
+        this.restUtils = restUtils;
+        this.constants = constants;
+    }
+
+    @Scheduled(fixedDelayString = "${batch.token-expiry.refresh-check-interval}")
+    public void refreshAccessToken() {
+        try {
+            restUtils.refreshTokenIfExpiring(constants.getTokenRefreshAhead());
+        } catch (Exception e) {
+            log.warn("Background refresh of the access token is failed: {}", e.getLocalizedMessage());
+        }
+    }
+}
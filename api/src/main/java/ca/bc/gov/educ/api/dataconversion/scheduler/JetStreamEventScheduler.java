@@ -7,10 +7,12 @@ import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.core.LockAssert;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static ca.bc.gov.educ.api.dataconversion.constant.EventStatus.DB_COMMITTED;
 
@@ -50,17 +52,26 @@ public class JetStreamEventScheduler {
     public void findAndProcessEvents() {
         LockAssert.assertLocked();
         log.debug("PROCESS_CHOREOGRAPHED_EVENTS_FROM_JET_STREAM: started - cron {}, lockAtMostFor {}", constants.getTraxToGradCronRun(), constants.getTraxToGradLockAtMostFor());
-        final var results = this.eventRepository.findAllByEventStatusOrderByCreateDate(DB_COMMITTED.toString());
+        final int threshold = constants.getTraxToGradProcessingThreshold();
+        if (threshold <= 0) {
+            log.debug("PROCESS_CHOREOGRAPHED_EVENTS_FROM_JET_STREAM: skipped - processing threshold is {}", threshold);
+            return;
+        }
+        // the age filter and the threshold are applied by the query, and only the ids and types are read
+        final var results = this.eventRepository.findEventHeadersByEventStatusAndUpdateDateBefore(DB_COMMITTED.toString(),
+                LocalDateTime.now().minusMinutes(5), PageRequest.of(0, threshold));
         if (!results.isEmpty()) {
-            var filteredList = results.stream().filter(el -> el.getUpdateDate().isBefore(LocalDateTime.now().minusMinutes(5))).toList();
-            int cnt = 0;
-            for (Event e : filteredList) {
-                if (cnt++ >= constants.getTraxToGradProcessingThreshold()) {
-                    log.info(" ==> Reached the processing threshold of {}", constants.getTraxToGradProcessingThreshold());
-                    break;
-                }
+            if (results.size() >= threshold) {
+                log.info(" ==> Processing {} events, the threshold: any other events are left to the next run", threshold);
+            }
+            for (EventRepository.EventHeader header : results) {
                 try {
-                    choreographer.handleEvent(e);
+                    // the event with its payload is loaded only when it is dispatched
+                    final Optional<Event> event = this.eventRepository.findById(header.getReplicationEventId());
+                    if (event.isPresent() && DB_COMMITTED.toString().equals(event.get().getEventStatus())) {
+                        log.debug("Redelivering {} event {}", header.getEventType(), header.getReplicationEventId());
+                        choreographer.handleEvent(event.get());
+                    }
                 } catch (final Exception ex) {
                     log.error("Exception while trying to handle message", ex);
                 }
@@ -1,5 +1,6 @@
 package ca.bc.gov.educ.api.dataconversion.scheduler;
 
+import ca.bc.gov.educ.api.dataconversion.repository.ConversionAlertLogRepository;
 import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 import jakarta.transaction.Transactional;
@@ -15,11 +16,14 @@ import java.time.LocalDateTime;
 @Slf4j
 public class PurgeOldRecordsScheduler {
     private final EventRepository eventRepository;
+    private final ConversionAlertLogRepository conversionAlertLogRepository;
     private final EducGradDataConversionApiConstants constants;
 
     public PurgeOldRecordsScheduler(final EventRepository eventRepository,
+                                    final ConversionAlertLogRepository conversionAlertLogRepository,
                                     final EducGradDataConversionApiConstants constants) {
         this.eventRepository = eventRepository;
+        this.conversionAlertLogRepository = conversionAlertLogRepository;
         this.constants = constants;
     }
 
@@ -31,6 +35,7 @@ public class PurgeOldRecordsScheduler {
         LockAssert.assertLocked();
         final LocalDateTime createDateToCompare = this.calculateCreateDateBasedOnStaleEventInDays();
         this.eventRepository.deleteByCreateDateBefore(createDateToCompare);
+        this.conversionAlertLogRepository.deleteByCreateDateBefore(createDateToCompare);
     }
 
 
@@ -0,0 +1,60 @@
+package ca.bc.gov.educ.api.dataconversion.service;
+
+import ca.bc.gov.educ.api.dataconversion.entity.ConversionAlertLog;
+import ca.bc.gov.educ.api.dataconversion.model.ConversionAlert;
+import ca.bc.gov.educ.api.dataconversion.repository.ConversionAlertLogRepository;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants.DEFAULT_CREATED_BY;
+
+/**
+ * Error log of the batch jobs: every alert is saved in CONVERSION_ALERT_LOG,
+ * and only the first batch.error-log.max-in-context alerts are kept in the summaries saved in the execution contexts.
+ */
+@Service
+@Slf4j
+public class ConversionAlertLogService {
+    private static final int MAX_REASON_LENGTH = 4000;
+
+    private final ConversionAlertLogRepository conversionAlertLogRepository;
+    private final EducGradDataConversionApiConstants constants;
+
+    @Autowired
+    public ConversionAlertLogService(ConversionAlertLogRepository conversionAlertLogRepository, EducGradDataConversionApiConstants constants) {
+        this.conversionAlertLogRepository = conversionAlertLogRepository;
+        this.constants = constants;
+    }
+
+    public void save(Long jobExecutionId, List<ConversionAlert> alerts) {
+        if (alerts.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        conversionAlertLogRepository.saveAll(alerts.stream().map(alert -> ConversionAlertLog.builder()
+                .jobExecutionId(jobExecutionId)
+                .item(alert.getItem())
+                .alertLevel(alert.getLevel().name())
+                .reason(StringUtils.truncate(alert.getReason(), MAX_REASON_LENGTH))
+                .createUser(DEFAULT_CREATED_BY)
+                .createDate(now)
+                .build()).toList());
+    }
+
+    /**
+     * Drops the alerts beyond batch.error-log.max-in-context, which are only in the error log.
+     */
+    public void trim(List<ConversionAlert> alerts) {
+        int max = constants.getErrorLogMaxInContext();
+        if (alerts.size() > max) {
+            log.debug("{} alerts are only kept in the error log", alerts.size() - max);
+            alerts.subList(max, alerts.size()).clear();
+        }
+    }
+}
@@ -1,10 +1,22 @@
 package ca.bc.gov.educ.api.dataconversion.service;
 
+import ca.bc.gov.educ.api.dataconversion.constant.StudentDataRequirement;
 import ca.bc.gov.educ.api.dataconversion.entity.Event;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public interface EventService {
 
   <T extends Object> void processEvent(T request, Event event);
 
   String getEventType();
+
+  /**
+   * Sections of the student data read by this event, fetched up front.
+   * Anything else is fetched only on first access.
+   */
+  default Set<StudentDataRequirement> getStudentDataRequirements() {
+    return EnumSet.allOf(StudentDataRequirement.class);
+  }
 }
@@ -8,6 +8,7 @@ import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
 import ca.bc.gov.educ.api.dataconversion.service.EventService;
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.SchoolCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -32,8 +33,9 @@ public class NewStudentEventService extends StudentBaseService implements EventS
     public NewStudentEventService(EventRepository eventRepository,
                                   StudentProcess studentProcess,
                                   RestUtils restUtils,
-                                  EducGradDataConversionApiConstants constants) {
-        super(restUtils);
+                                  EducGradDataConversionApiConstants constants,
+                                  SchoolCache schoolCache) {
+        super(schoolCache);
         this.eventRepository = eventRepository;
         this.studentProcess = studentProcess;
         this.restUtils = restUtils;
@@ -6,7 +6,7 @@ import ca.bc.gov.educ.api.dataconversion.model.ConversionAlert;
 import ca.bc.gov.educ.api.dataconversion.model.ConversionStudentSummaryDTO;
 import ca.bc.gov.educ.api.dataconversion.model.StudentGradDTO;
 import ca.bc.gov.educ.api.dataconversion.model.institute.School;
-import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.SchoolCache;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Arrays;
@@ -30,10 +30,10 @@ public abstract class StudentBaseService {
     private static final List<String> OPTIONAL_PROGRAM_CODES_FOR_RECREATION = Arrays.asList("AD", "BC", "BD", "CP");
     private static final List<String> OPTIONAL_PROGRAM_CODES_FOR_SCCP_RECREATION = Arrays.asList("FR", "CP");
 
-    private final RestUtils restUtils;
+    private final SchoolCache schoolCache;
 
-    protected StudentBaseService(RestUtils restUtils) {
-        this.restUtils = restUtils;
+    protected StudentBaseService(SchoolCache schoolCache) {
+        this.schoolCache = schoolCache;
     }
 
     protected void handleException(ConvGradStudent convGradStudent, ConversionStudentSummaryDTO summary, String pen, ConversionResultType type, String reason) {
@@ -154,8 +154,7 @@ public abstract class StudentBaseService {
     }
 
     protected boolean isSchoolForProgramFrancophone(UUID schoolOfRecordId) {
-        String accessToken = restUtils.fetchAccessToken();
-        School school = restUtils.getSchool(schoolOfRecordId, accessToken);
+        School school = schoolCache.getSchool(schoolOfRecordId);
         return school != null && "CSF".equalsIgnoreCase(school.getSchoolReportingRequirementCode());
     }
 
@@ -1,5 +1,6 @@
 package ca.bc.gov.educ.api.dataconversion.service.student;
 
+import ca.bc.gov.educ.api.dataconversion.constant.StudentDataRequirement;
 import ca.bc.gov.educ.api.dataconversion.entity.Event;
 import ca.bc.gov.educ.api.dataconversion.model.StudentGradDTO;
 import ca.bc.gov.educ.api.dataconversion.model.TraxStudentUpdateDTO;
@@ -8,11 +9,14 @@ import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
 import ca.bc.gov.educ.api.dataconversion.service.EventService;
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.SchoolCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 
 import static ca.bc.gov.educ.api.dataconversion.constant.EventStatus.PROCESSED;
 import static ca.bc.gov.educ.api.dataconversion.constant.EventType.COURSE;
@@ -32,8 +36,9 @@ public class StudentCourseUpdateEventService extends StudentBaseService implemen
     public StudentCourseUpdateEventService(EventRepository eventRepository,
                                            StudentProcess studentProcess,
                                            RestUtils restUtils,
-                                           EducGradDataConversionApiConstants constants) {
-        super(restUtils);
+                                           EducGradDataConversionApiConstants constants,
+                                           SchoolCache schoolCache) {
+        super(schoolCache);
         this.eventRepository = eventRepository;
         this.studentProcess = studentProcess;
         this.restUtils = restUtils;
@@ -47,7 +52,7 @@ public class StudentCourseUpdateEventService extends StudentBaseService implemen
             // Get Access Token
             String accessToken = restUtils.fetchAccessToken();
             // Load grad student
-            StudentGradDTO currentStudent = studentProcess.loadStudentData(studentCourseUpdate.getPen(), accessToken);
+            StudentGradDTO currentStudent = studentProcess.loadStudentData(studentCourseUpdate.getPen(), getStudentDataRequirements(), accessToken);
             if (currentStudent != null) {
                 processCourse(studentCourseUpdate, currentStudent, accessToken);
             } else {
@@ -76,4 +81,9 @@ public class StudentCourseUpdateEventService extends StudentBaseService implemen
     public String getEventType() {
         return COURSE.toString();
     }
+
+    @Override
+    public Set<StudentDataRequirement> getStudentDataRequirements() {
+        return EnumSet.noneOf(StudentDataRequirement.class);
+    }
 }
@@ -1,5 +1,6 @@
 package ca.bc.gov.educ.api.dataconversion.service.student;
 
+import ca.bc.gov.educ.api.dataconversion.constant.StudentDataRequirement;
 import ca.bc.gov.educ.api.dataconversion.entity.Event;
 import ca.bc.gov.educ.api.dataconversion.model.*;
 import ca.bc.gov.educ.api.dataconversion.process.StudentProcess;
@@ -7,11 +8,14 @@ import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
 import ca.bc.gov.educ.api.dataconversion.service.EventService;
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.SchoolCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 
 import static ca.bc.gov.educ.api.dataconversion.constant.EventStatus.PROCESSED;
 import static ca.bc.gov.educ.api.dataconversion.constant.EventType.FI10ADD;
@@ -31,8 +35,9 @@ public class StudentFrenchImmersionEventService extends StudentBaseService imple
     public StudentFrenchImmersionEventService(EventRepository eventRepository,
                                               StudentProcess studentProcess,
                                               RestUtils restUtils,
-                                              EducGradDataConversionApiConstants constants) {
-        super(restUtils);
+                                              EducGradDataConversionApiConstants constants,
+                                              SchoolCache schoolCache) {
+        super(schoolCache);
         this.eventRepository = eventRepository;
         this.studentProcess = studentProcess;
         this.restUtils = restUtils;
@@ -46,7 +51,7 @@ public class StudentFrenchImmersionEventService extends StudentBaseService imple
             // Get Access Token
             String accessToken = restUtils.fetchAccessToken();
             // Load grad student
-            StudentGradDTO currentStudent = studentProcess.loadStudentData(frenchImmersionUpdate.getPen(), accessToken);
+            StudentGradDTO currentStudent = studentProcess.loadStudentData(frenchImmersionUpdate.getPen(), getStudentDataRequirements(), accessToken);
             if (currentStudent != null) {
                 processFrenchImmersion(frenchImmersionUpdate, currentStudent, accessToken);
             } else {
@@ -79,4 +84,9 @@ public class StudentFrenchImmersionEventService extends StudentBaseService imple
     public String getEventType() {
         return FI10ADD.toString();
     }
+
+    @Override
+    public Set<StudentDataRequirement> getStudentDataRequirements() {
+        return EnumSet.noneOf(StudentDataRequirement.class);
+    }
 }
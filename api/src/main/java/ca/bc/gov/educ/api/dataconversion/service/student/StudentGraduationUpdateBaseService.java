@@ -2,7 +2,7 @@ package ca.bc.gov.educ.api.dataconversion.service.student;
 
 import ca.bc.gov.educ.api.dataconversion.model.StudentGradDTO;
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiUtils;
-import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.SchoolCache;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.DateUtils;
 
@@ -11,8 +11,8 @@ import java.util.UUID;
 
 public abstract class StudentGraduationUpdateBaseService extends StudentBaseService {
 
-    protected StudentGraduationUpdateBaseService(RestUtils restUtils) {
-        super(restUtils);
+    protected StudentGraduationUpdateBaseService(SchoolCache schoolCache) {
+        super(schoolCache);
     }
 
     protected abstract boolean hasAnyFrenchImmersionCourse(String gradProgramCode, String pen, String accessToken);
@@ -1,5 +1,6 @@
 package ca.bc.gov.educ.api.dataconversion.service.student;
 
+import ca.bc.gov.educ.api.dataconversion.constant.StudentDataRequirement;
 import ca.bc.gov.educ.api.dataconversion.entity.Event;
 import ca.bc.gov.educ.api.dataconversion.model.*;
 import ca.bc.gov.educ.api.dataconversion.process.StudentProcess;
@@ -7,12 +8,15 @@ import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
 import ca.bc.gov.educ.api.dataconversion.service.EventService;
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.SchoolCache;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 
 import static ca.bc.gov.educ.api.dataconversion.constant.EventStatus.PROCESSED;
 import static ca.bc.gov.educ.api.dataconversion.constant.EventType.UPD_GRAD;
@@ -32,8 +36,9 @@ public class StudentGraduationUpdateEventService extends StudentGraduationUpdate
     public StudentGraduationUpdateEventService(EventRepository eventRepository,
                                                StudentProcess studentProcess,
                                                RestUtils restUtils,
-                                               EducGradDataConversionApiConstants constants) {
-        super(restUtils);
+                                               EducGradDataConversionApiConstants constants,
+                                               SchoolCache schoolCache) {
+        super(schoolCache);
         this.eventRepository = eventRepository;
         this.studentProcess = studentProcess;
         this.restUtils = restUtils;
@@ -51,7 +56,7 @@ public class StudentGraduationUpdateEventService extends StudentGraduationUpdate
                 accessToken = res.getAccess_token();
             }
             // Load grad student
-            StudentGradDTO currentStudent = studentProcess.loadStudentData(updateGrad.getPen(), accessToken);
+            StudentGradDTO currentStudent = studentProcess.loadStudentData(updateGrad.getPen(), getStudentDataRequirements(), accessToken);
             if (currentStudent != null) {
                 processStudent(updateGrad, currentStudent, accessToken);
             } else {
@@ -126,6 +131,11 @@ public class StudentGraduationUpdateEventService extends StudentGraduationUpdate
         return UPD_GRAD.toString();
     }
 
+    @Override
+    public Set<StudentDataRequirement> getStudentDataRequirements() {
+        return EnumSet.noneOf(StudentDataRequirement.class);
+    }
+
     @Override
     public boolean hasAnyFrenchImmersionCourse(String gradProgramCode, String pen, String accessToken) {
         return studentProcess.hasAnyFrenchImmersionCourse(gradProgramCode, pen, accessToken);
@@ -1,5 +1,6 @@
 package ca.bc.gov.educ.api.dataconversion.service.student;
 
+import ca.bc.gov.educ.api.dataconversion.constant.StudentDataRequirement;
 import ca.bc.gov.educ.api.dataconversion.entity.Event;
 import ca.bc.gov.educ.api.dataconversion.model.*;
 import ca.bc.gov.educ.api.dataconversion.process.StudentProcess;
@@ -7,13 +8,16 @@ import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
 import ca.bc.gov.educ.api.dataconversion.service.EventService;
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.SchoolCache;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import static ca.bc.gov.educ.api.dataconversion.constant.EventStatus.PROCESSED;
 import static ca.bc.gov.educ.api.dataconversion.constant.EventType.XPROGRAM;
@@ -33,8 +37,9 @@ public class StudentXProgramEventService extends StudentBaseService implements E
     public StudentXProgramEventService(EventRepository eventRepository,
                                        StudentProcess studentProcess,
                                        RestUtils restUtils,
-                                       EducGradDataConversionApiConstants constants) {
-        super(restUtils);
+                                       EducGradDataConversionApiConstants constants,
+                                       SchoolCache schoolCache) {
+        super(schoolCache);
         this.eventRepository = eventRepository;
         this.studentProcess = studentProcess;
         this.restUtils = restUtils;
@@ -48,7 +53,7 @@ public class StudentXProgramEventService extends StudentBaseService implements E
             // Get Access Token
             String accessToken = restUtils.fetchAccessToken();
             // Load grad student
-            StudentGradDTO currentStudent = studentProcess.loadStudentData(xprogram.getPen(), accessToken);
+            StudentGradDTO currentStudent = studentProcess.loadStudentData(xprogram.getPen(), getStudentDataRequirements(), accessToken);
             if (currentStudent != null) {
                 processOptionalAndCareerPrograms(xprogram, currentStudent, accessToken);
             } else {
@@ -127,4 +132,9 @@ public class StudentXProgramEventService extends StudentBaseService implements E
     public String getEventType() {
         return XPROGRAM.toString();
     }
+
+    @Override
+    public Set<StudentDataRequirement> getStudentDataRequirements() {
+        return EnumSet.of(StudentDataRequirement.PROGRAM_CODES);
+    }
 }
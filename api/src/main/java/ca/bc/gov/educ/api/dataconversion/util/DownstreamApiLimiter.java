@@ -0,0 +1,105 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import ca.bc.gov.educ.api.dataconversion.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of concurrent requests to each downstream API (scheme, host and port of the request URL),
+ * so that more partitions or event threads can not overwhelm the GRAD services.
+ */
+@Slf4j
+@Component
+public class DownstreamApiLimiter {
+
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    private final EducGradDataConversionApiConstants constants;
+
+    @Autowired
+    public DownstreamApiLimiter(EducGradDataConversionApiConstants constants) {
+        this.constants = constants;
+    }
+
+    /**
+     * Subscribes to the request once a permit of its downstream API is acquired, and releases the permit when it is done.
+     * Fails with a ServiceException (429) if no permit is available within the permit timeout.
+     */
+    public <T> Mono<T> limit(URI uri, Supplier<Mono<T>> request) {
+        return acquire(uri, release -> request.get().doFinally(signal -> release.run()));
+    }
+
+    /**
+     * Exchanges the request once a permit of its downstream API is acquired. The response headers arrive before the body,
+     * so the permit is released when the response body is read (or discarded), or when the exchange fails or is cancelled.
+     */
+    public Mono<ClientResponse> limitExchange(ClientRequest request, ExchangeFunction next) {
+        return acquire(request.url(), release -> {
+            AtomicBoolean responded = new AtomicBoolean();
+            return next.exchange(request)
+                    .map(response -> {
+                        responded.set(true);
+                        return response.mutate().body(body -> body.doFinally(signal -> release.run())).build();
+                    })
+                    .doFinally(signal -> {
+                        if (!responded.get()) {
+                            release.run();
+                        }
+                    });
+        });
+    }
+
+    // the request is given the release of its permit, which may be run more than once
+    private <T> Mono<T> acquire(URI uri, Function<Runnable, Mono<T>> request) {
+        if (constants.getMaxConcurrentDownstreamRequests() <= 0) {
+            return Mono.defer(() -> request.apply(() -> {}));
+        }
+        String api = uri.getScheme() + "://" + uri.getAuthority();
+        Semaphore semaphore = permits.computeIfAbsent(api, k -> new Semaphore(constants.getMaxConcurrentDownstreamRequests(), true));
+        return Mono.defer(() -> {
+            if (semaphore.tryAcquire()) {
+                return request.apply(releaseOnce(semaphore));
+            }
+            // wait for a permit off the subscribing thread, which may be a Netty event loop
+            log.debug("Waiting for a permit of {}", api);
+            return Mono.fromCallable(() -> semaphore.tryAcquire(constants.getDownstreamPermitTimeout(), TimeUnit.SECONDS))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(acquired -> {
+                        if (Boolean.FALSE.equals(acquired)) {
+                            return Mono.error(new ServiceException("Too many concurrent requests to " + api, HttpStatus.TOO_MANY_REQUESTS.value()));
+                        }
+                        return request.apply(releaseOnce(semaphore));
+                    });
+        });
+    }
+
+    private static Runnable releaseOnce(Semaphore semaphore) {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        };
+    }
+
+    public int getAvailablePermits(URI uri) {
+        Semaphore semaphore = permits.get(uri.getScheme() + "://" + uri.getAuthority());
+        return semaphore != null ? semaphore.availablePermits() : constants.getMaxConcurrentDownstreamRequests();
+    }
+}
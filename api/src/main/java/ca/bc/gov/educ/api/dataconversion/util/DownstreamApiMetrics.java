@@ -0,0 +1,161 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.*;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Micrometer meters of the downstream API calls, tagged by operation:
+ * latency histogram (downstream.requests), errors (downstream.errors) and response size (downstream.response.size).
+ * The latency is measured up to the response headers, so it does not include reading the response body.
+ * Retries of the resilience4j rt-* instances (downstream.retries) are tagged by retry instance instead.
+ * The operation of a request is the endpoint property in {@link EducGradDataConversionApiConstants} whose URL matches
+ * the request URL, e.g. traxStudentNoListByPenRange for the property traxStudentNoListByPenRangeUrl.
+ */
+@Slf4j
+@Component
+public class DownstreamApiMetrics {
+
+    public static final String REQUESTS = "downstream.requests";
+    public static final String ERRORS = "downstream.errors";
+    public static final String RESPONSE_SIZE = "downstream.response.size";
+    public static final String RETRIES = "downstream.retries";
+
+    private static final String OPERATION = "operation";
+    private static final String RETRY = "retry";
+    private static final String OTHER = "other";
+
+    private record Endpoint(String operation, Pattern pattern, int literalLength) {}
+
+    private final MeterRegistry meterRegistry;
+    private final List<Endpoint> endpoints;
+
+    @Autowired
+    public DownstreamApiMetrics(EducGradDataConversionApiConstants constants, ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<RetryRegistry> retryRegistry) {
+        this(constants, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), retryRegistry.getIfAvailable());
+    }
+
+    public DownstreamApiMetrics(EducGradDataConversionApiConstants constants, MeterRegistry meterRegistry, RetryRegistry retryRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.endpoints = loadEndpoints(constants);
+        if (retryRegistry != null) {
+            retryRegistry.getAllRetries().forEach(this::countRetries);
+            retryRegistry.getEventPublisher().onEntryAdded(event -> countRetries(event.getAddedEntry()));
+        }
+    }
+
+    /**
+     * Records the latency up to the response headers, the error if any, and the size of the response body once it is read.
+     */
+    public Mono<ClientResponse> record(ClientRequest request, ExchangeFunction next) {
+        String operation = getOperation(request.url());
+        String method = request.method().name();
+        long start = System.nanoTime();
+        return next.exchange(request)
+                .doOnNext(response -> {
+                    String status = String.valueOf(response.statusCode().value());
+                    recordLatency(operation, method, status, start);
+                    if (response.statusCode().isError()) {
+                        countError(operation, method, status);
+                    }
+                })
+                .doOnError(e -> {
+                    recordLatency(operation, method, e.getClass().getSimpleName(), start);
+                    countError(operation, method, e.getClass().getSimpleName());
+                })
+                .map(response -> measureBody(response, operation));
+    }
+
+    /**
+     * @return the operation of the most specific endpoint matching the URL, or "other"
+     */
+    public String getOperation(URI uri) {
+        String url = uri.toString();
+        Endpoint found = null;
+        for (Endpoint endpoint : endpoints) {
+            if ((found == null || endpoint.literalLength() > found.literalLength()) && endpoint.pattern().matcher(url).lookingAt()) {
+                found = endpoint;
+            }
+        }
+        return found != null ? found.operation() : OTHER;
+    }
+
+    private void recordLatency(String operation, String method, String status, long start) {
+        Timer.builder(REQUESTS)
+                .tag(OPERATION, operation)
+                .tag("method", method)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void countError(String operation, String method, String error) {
+        Counter.builder(ERRORS)
+                .tag(OPERATION, operation)
+                .tag("method", method)
+                .tag("error", error)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private ClientResponse measureBody(ClientResponse response, String operation) {
+        AtomicLong size = new AtomicLong();
+        return response.mutate()
+                .body(body -> body
+                        .doOnNext(buffer -> size.addAndGet(buffer.readableByteCount()))
+                        .doOnComplete(() -> DistributionSummary.builder(RESPONSE_SIZE)
+                                .baseUnit("bytes")
+                                .tag(OPERATION, operation)
+                                .register(meterRegistry)
+                                .record(size.get())))
+                .build();
+    }
+
+    private void countRetries(Retry retry) {
+        Counter counter = Counter.builder(RETRIES).tag(RETRY, retry.getName()).register(meterRegistry);
+        retry.getEventPublisher().onRetry(event -> counter.increment());
+    }
+
+    // every http(s) URL property of the constants, with its %s placeholders matching one path segment or parameter value
+    private static List<Endpoint> loadEndpoints(EducGradDataConversionApiConstants constants) {
+        List<Endpoint> endpoints = new ArrayList<>();
+        ReflectionUtils.doWithFields(constants.getClass(), field -> {
+            ReflectionUtils.makeAccessible(field);
+            String url = (String) ReflectionUtils.getField(field, constants);
+            if (StringUtils.startsWithAny(url, "http://", "https://")) {
+                String[] parts = StringUtils.splitByWholeSeparatorPreserveAllTokens(url, "%s");
+                StringBuilder regex = new StringBuilder();
+                int literalLength = 0;
+                for (int i = 0; i < parts.length; i++) {
+                    if (i > 0) {
+                        regex.append("[^/?&]*");
+                    }
+                    regex.append(Pattern.quote(parts[i]));
+                    literalLength += parts[i].length();
+                }
+                endpoints.add(new Endpoint(StringUtils.removeEnd(field.getName(), "Url"), Pattern.compile(regex.toString()), literalLength));
+            }
+        }, field -> field.getType() == String.class && !Modifier.isStatic(field.getModifiers()));
+        log.debug("{} downstream endpoints are measured", endpoints.size());
+        return endpoints;
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @Getter
 @Setter
@@ -28,6 +30,8 @@ public class EducGradDataConversionApiConstants {
 
     // Util
     public static final String PEN_UPDATES_PARALLEL_BATCH_JOB = "/penUpdates/parallel";
+    public static final String RESTART_BATCH_JOB = "/batch/{batchId}/restart";
+    public static final String BATCH_JOB_PROGRESS = "/jobs/{batchId}/progress";
 
     //Default Date format constants
     public static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd";
@@ -121,15 +125,24 @@ public class EducGradDataConversionApiConstants {
     @Value("${endpoint.grad-course-api.course-restriction.url}")
     private String gradCourseRestrictionApiUrl;
 
+    @Value("${endpoint.grad-course-api.course-restrictions.url}")
+    private String gradCourseRestrictionsApiUrl;
+
     @Value("${endpoint.grad-course-api.save-course-restriction.url}")
     private String saveCourseRestrictionApiUrl;
 
+    @Value("${endpoint.grad-course-api.save-course-restrictions.url}")
+    private String saveCourseRestrictionsApiUrl;
+
     @Value("${endpoint.grad-course-api.check-course-requirement.url}")
     private String checkCourseRequirementApiUrl;
 
     @Value("${endpoint.grad-course-api.save-course-requirement.url}")
     private String saveCourseRequirementApiUrl;
 
+    @Value("${endpoint.grad-course-api.save-course-requirements.url}")
+    private String saveCourseRequirementsApiUrl;
+
     @Value("${endpoint.grad-course-api.check-french-immersion-course.url}")
     private String checkFrenchImmersionCourse;
 
@@ -145,15 +158,33 @@ public class EducGradDataConversionApiConstants {
     @Value("${endpoint.grad-trax-api.student.get-student-no-list-by-page.url}")
     private String traxStudentNoListByPageUrl;
 
+    @Value("${endpoint.grad-trax-api.student.get-student-no-list-by-pen-range.url}")
+    private String traxStudentNoListByPenRangeUrl;
+
     @Value("${endpoint.grad-trax-api.student.get-total-number-of-student-no-list.url}")
     private String totalNumberOfTraxStudentNoListUrl;
 
+    @Value("${endpoint.grad-trax-api.student.get-student-no-delta-list-by-page.url}")
+    private String traxStudentNoDeltaListByPageUrl;
+
+    @Value("${endpoint.grad-trax-api.student.get-student-no-delta-list-by-pen-range.url}")
+    private String traxStudentNoDeltaListByPenRangeUrl;
+
+    @Value("${endpoint.grad-trax-api.student.get-total-number-of-student-no-delta-list.url}")
+    private String totalNumberOfTraxStudentNoDeltaListUrl;
+
     @Value("${endpoint.grad-trax-api.student.get-student-demog-data.url}")
     private String traxStudentDemogDataByPenUrl;
 
+    @Value("${endpoint.grad-trax-api.student.get-student-demog-data-by-pen-list.url}")
+    private String traxStudentDemogDataByPenListUrl;
+
     @Value("${endpoint.grad-trax-api.student.get-student-master-data.url}")
     private String traxStudentMasterDataByPenUrl;
 
+    @Value("${endpoint.grad-trax-api.student.get-student-master-data-by-pen-list.url}")
+    private String traxStudentMasterDataByPenListUrl;
+
     @Value("${endpoint.grad-trax-api.course.get-course-restrictions.url}")
     private String traxCourseRestrictionsUrl;
 
@@ -163,6 +194,9 @@ public class EducGradDataConversionApiConstants {
     @Value("${endpoint.grad-trax-api.student.save-trax-student-no.url}")
     private String saveTraxStudentNoUrl;
 
+    @Value("${endpoint.grad-trax-api.student.save-trax-student-no-list.url}")
+    private String saveTraxStudentNoListUrl;
+
     @Value("${endpoint.grad-trax-api.student.delete-trax-student-no.url}")
     private String deleteTraxStudentNoUrl;
 
@@ -172,18 +206,120 @@ public class EducGradDataConversionApiConstants {
     @Value("${endpoint.grad-trax-api.student.school-by-school-id.url}")
     private String schoolBySchoolIdUrl;
 
+    @Value("${endpoint.grad-trax-api.student.all-schools.url}")
+    private String allSchoolsUrl;
+
     // Incremental Grad Update
     @Value("${grad.update.enabled}")
     private boolean gradUpdateEnabled;
 
+    // Load student data for ongoing updates with concurrent downstream calls
+    @Value("${grad.update.concurrent-load.enabled}")
+    private boolean concurrentStudentLoadEnabled;
+
+    // Timeout (seconds) per downstream call in concurrent student load
+    @Value("${grad.update.concurrent-load.timeout}")
+    private int studentLoadTimeout;
+
     // Number of Partitions
     @Value("${batch.partitions.number}")
     private int numberOfPartitions;
 
+    // Number of course restrictions per chunk in the course restriction load
+    @Value("${batch.course-restriction.chunk-size}")
+    private int courseRestrictionChunkSize;
+
+    // Each chunk of course restrictions is saved in one request - needs the GRAD Course API to provide save-course-restrictions
+    @Value("${batch.course-restriction.bulk-save}")
+    private boolean courseRestrictionBulkSaveEnabled;
+
+    // Course requirements never to be created: course code / level / rule code
+    @Value("${batch.course-requirement.removal-list}")
+    private List<String> courseRequirementRemovalList;
+
+    // Course restrictions never to be converted: main course code / restricted course code
+    @Value("${batch.course-restriction.ignore-list}")
+    private List<String> courseRestrictionIgnoreList;
+
+    // Number of course requirements upserted at a time by the course requirement load (0 = one by one)
+    // Keep 0 until the GRAD Course API provides save-course-requirements: a batch is posted to that endpoint
+    @Value("${batch.course-requirement.batch-size}")
+    private int courseRequirementBatchSize;
+
+    // Number of PENs read from TRAX at a time in the student load
+    @Value("${batch.student-load.page-size}")
+    private int studentLoadPageSize;
+
+    // Commit interval (number of students per chunk) in the student load
+    @Value("${batch.student-load.chunk-size}")
+    private int studentLoadChunkSize;
+
+    // Partitions pull pages of PENs from a shared cursor instead of owning a fixed PEN range
+    @Value("${batch.student-load.dynamic-partitioning}")
+    private boolean dynamicPartitioningEnabled;
+
+    // PENs are read by PEN range (student-no-list/pen-range) instead of by page number - needs the TRAX API to provide the endpoint
+    @Value("${batch.student-load.pen-range-paging}")
+    private boolean penRangePagingEnabled;
+
+    // Student master data / demographics are read from TRAX one page of PENs per request, and the statuses of a chunk are saved in one request
+    // - needs the TRAX API to provide student-master/pen-list, student-demog/pen-list and trax-student-no/list
+    @Value("${batch.trax-bulk-requests}")
+    private boolean traxBulkRequestsEnabled;
+
+    // Commit interval (number of PENs per chunk) in the PEN updates, i.e. how often a partition saves its position
+    @Value("${batch.pen-updates.chunk-size}")
+    private int penUpdatesChunkSize;
+
+    // Number of PENs processed at once by each partition of the PEN updates (1 = one by one)
+    @Value("${batch.pen-updates.max-in-flight}")
+    private int penUpdatesMaxInFlight;
+
+    // Number of alerts kept in the job summaries, the others are only saved in CONVERSION_ALERT_LOG
+    @Value("${batch.error-log.max-in-context}")
+    private int errorLogMaxInContext;
+
+    // Platform thread pool sizes
+    @Value("${executor.subscriber.pool-size}")
+    private int subscriberPoolSize;
+
+    @Value("${executor.event-handler.core-pool-size}")
+    private int eventHandlerCorePoolSize;
+
+    @Value("${executor.event-handler.max-pool-size}")
+    private int eventHandlerMaxPoolSize;
+
+    // School cache: max number of schools, time to live (minutes) and warm-up of all schools at job start
+    @Value("${cache.school.max-size}")
+    private int schoolCacheMaxSize;
+
+    @Value("${cache.school.ttl}")
+    private int schoolCacheTtl;
+
+    // Warm-up reads all schools from the TRAX API (all-schools) in one request at job start - off by default
+    @Value("${cache.school.warm-up}")
+    private boolean schoolCacheWarmUpEnabled;
+
+    // Load the optional program catalogue at startup
+    @Value("${cache.optional-program.preload}")
+    private boolean optionalProgramCachePreloadEnabled;
+
+    // Max number of concurrent requests to each downstream API (0: no limit)
+    @Value("${downstream.max-concurrent-requests}")
+    private int maxConcurrentDownstreamRequests;
+
+    // Timeout (seconds) to wait for a downstream API permit
+    @Value("${downstream.permit-timeout}")
+    private int downstreamPermitTimeout;
+
     // Token expiry offset (seconds)
     @Value("${batch.token-expiry.offset}")
     private int tokenExpiryOffset;
 
+    // Renew the token in the background when it expires within [seconds] (on top of the offset)
+    @Value("${batch.token-expiry.refresh-ahead}")
+    private int tokenRefreshAhead;
+
     // Splunk LogHelper Enabled
     @Value("${splunk.log-helper.enabled}")
     private boolean splunkLogHelperEnabled;
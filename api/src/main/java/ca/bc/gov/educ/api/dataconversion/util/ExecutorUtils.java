@@ -0,0 +1,22 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.jboss.threads.EnhancedQueueExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Creates the bounded thread pools of the JetStream subscriber and event handler, sized by configuration.
+ */
+public final class ExecutorUtils {
+
+    private ExecutorUtils() {
+    }
+
+    public static ExecutorService createExecutor(String nameFormat, int corePoolSize, int maxPoolSize) {
+        return new EnhancedQueueExecutor.Builder()
+                .setThreadFactory(new ThreadFactoryBuilder().setNameFormat(nameFormat).build())
+                .setCorePoolSize(corePoolSize).setMaximumPoolSize(maxPoolSize).setKeepAliveTime(Duration.ofSeconds(60)).build();
+    }
+}
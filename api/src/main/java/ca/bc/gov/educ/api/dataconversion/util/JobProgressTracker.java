@@ -0,0 +1,163 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import ca.bc.gov.educ.api.dataconversion.model.JobProgress;
+import ca.bc.gov.educ.api.dataconversion.model.PartitionProgress;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.stereotype.Component;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Live progress of the partitioned jobs, served by the /jobs/{batchId}/progress endpoint while they are running.
+ * The partition readers, processors and writers bump LongAdder counters, so the partitions do not contend with each other
+ * nor with a progress request: the counters are only summed up when the progress is read.
+ * The counts are those of the current job execution, i.e. a restarted job only counts the PENs left over.
+ */
+@Component
+public class JobProgressTracker {
+
+    // the progress of the last finished jobs can still be read after they end
+    private static final int MAX_FINISHED_JOBS = 10;
+
+    private final Map<Long, JobCounters> jobs = new ConcurrentHashMap<>();
+    private final Deque<Long> finishedJobs = new ConcurrentLinkedDeque<>();
+    private final LongSupplier clock;
+
+    public JobProgressTracker() {
+        this(System::currentTimeMillis);
+    }
+
+    JobProgressTracker(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return the counters of the partition, which are created with the job counters on first use
+     */
+    public PartitionCounters getPartitionCounters(JobExecution jobExecution, String partitionName) {
+        JobCounters job = jobs.computeIfAbsent(jobExecution.getId(), id ->
+                new JobCounters(jobExecution.getJobInstance() != null ? jobExecution.getJobInstance().getJobName() : null, clock.getAsLong()));
+        return job.partitions.computeIfAbsent(partitionName, name -> new PartitionCounters(job.programCounts));
+    }
+
+    public void finish(Long jobExecutionId) {
+        JobCounters job = jobs.get(jobExecutionId);
+        if (job == null || job.finishedAt != 0) {
+            return;
+        }
+        job.finishedAt = clock.getAsLong();
+        finishedJobs.add(jobExecutionId);
+        while (finishedJobs.size() > MAX_FINISHED_JOBS) {
+            Long oldest = finishedJobs.poll();
+            if (oldest != null) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    /**
+     * @return the progress of the job, or null if no partition of the job has started in this instance
+     */
+    public JobProgress getProgress(Long jobExecutionId) {
+        JobCounters job = jobs.get(jobExecutionId);
+        if (job == null) {
+            return null;
+        }
+        boolean running = job.finishedAt == 0;
+        long elapsedMillis = Math.max((running ? clock.getAsLong() : job.finishedAt) - job.startedAt, 0L);
+
+        JobProgress progress = new JobProgress();
+        progress.setBatchId(jobExecutionId);
+        progress.setJobType(job.jobName);
+        progress.setRunning(running);
+        progress.setElapsedSeconds(elapsedMillis / 1000);
+
+        Long totalCount = 0L;
+        for (Map.Entry<String, PartitionCounters> entry : new TreeMap<>(job.partitions).entrySet()) {
+            PartitionProgress partition = entry.getValue().toPartitionProgress(entry.getKey());
+            progress.getPartitions().add(partition);
+            totalCount = totalCount != null && partition.getTotalCount() != null ? totalCount + partition.getTotalCount() : null;
+            progress.setReadCount(progress.getReadCount() + partition.getReadCount());
+            progress.setProcessedCount(progress.getProcessedCount() + partition.getProcessedCount());
+            progress.setErroredCount(progress.getErroredCount() + partition.getErroredCount());
+        }
+        job.programCounts.forEach((program, count) -> progress.getProgramCountMap().put(program, count.sum()));
+
+        long processedCount = progress.getProcessedCount();
+        double studentsPerSecond = elapsedMillis > 0 ? processedCount * 1000.0 / elapsedMillis : 0.0;
+        progress.setTotalCount(totalCount);
+        progress.setStudentsPerSecond(studentsPerSecond);
+        progress.setErrorRate(processedCount > 0 ? (double) progress.getErroredCount() / processedCount : 0.0);
+        if (!running) {
+            progress.setEtaSeconds(0L);
+        } else if (totalCount != null && studentsPerSecond > 0) {
+            progress.setEtaSeconds((long) Math.ceil(Math.max(totalCount - processedCount, 0L) / studentsPerSecond));
+        }
+        return progress;
+    }
+
+    private static class JobCounters {
+        private final String jobName;
+        private final long startedAt;
+        private volatile long finishedAt;
+        private final Map<String, PartitionCounters> partitions = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> programCounts = new ConcurrentHashMap<>();
+
+        private JobCounters(String jobName, long startedAt) {
+            this.jobName = jobName;
+            this.startedAt = startedAt;
+        }
+    }
+
+    public static class PartitionCounters {
+        private final LongAdder readCount = new LongAdder();
+        private final LongAdder processedCount = new LongAdder();
+        private final LongAdder erroredCount = new LongAdder();
+        private final Map<String, LongAdder> programCounts;
+        private volatile Long totalCount;
+
+        private PartitionCounters(Map<String, LongAdder> programCounts) {
+            this.programCounts = programCounts;
+        }
+
+        // number of PENs the partition has to go through in this job execution, if known
+        public void setTotalCount(Long totalCount) {
+            this.totalCount = totalCount;
+        }
+
+        public void incrementReadCount() {
+            readCount.increment();
+        }
+
+        public void addProcessedCount(long count) {
+            processedCount.add(count);
+        }
+
+        public void addErroredCount(long count) {
+            erroredCount.add(count);
+        }
+
+        public void incrementProgramCount(String program) {
+            programCounts.computeIfAbsent(program, p -> new LongAdder()).increment();
+        }
+
+        private PartitionProgress toPartitionProgress(String partitionName) {
+            PartitionProgress progress = new PartitionProgress();
+            progress.setPartitionName(partitionName);
+            progress.setTotalCount(totalCount);
+            progress.setReadCount(readCount.sum());
+            progress.setProcessedCount(processedCount.sum());
+            progress.setErroredCount(erroredCount.sum());
+            if (totalCount != null) {
+                progress.setPercentComplete(totalCount > 0 ? Math.min(100.0, progress.getProcessedCount() * 100.0 / totalCount) : 100.0);
+            }
+            return progress;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import ca.bc.gov.educ.api.dataconversion.model.OptionalProgram;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the optional program catalogue of the GRAD Program API,
+ * looked up by graduation program and optional program code, or by optionalProgramID.
+ * It is loaded at startup and reloaded through the actuator endpoint "optionalprograms".
+ * An optional program which is not in memory is fetched from the API and kept.
+ */
+@Slf4j
+@Component
+public class OptionalProgramCache {
+
+    private final RestUtils restUtils;
+    private final EducGradDataConversionApiConstants constants;
+
+    // replaced as a whole on reload, so that a lookup never sees a half loaded catalogue
+    private volatile Map<String, OptionalProgram> optionalProgramsByCode = new ConcurrentHashMap<>();
+    private volatile Map<UUID, OptionalProgram> optionalProgramsByID = new ConcurrentHashMap<>();
+    private volatile LocalDateTime loadedAt;
+
+    @Autowired
+    public OptionalProgramCache(RestUtils restUtils, EducGradDataConversionApiConstants constants) {
+        this.restUtils = restUtils;
+        this.constants = constants;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        if (constants.isOptionalProgramCachePreloadEnabled()) {
+            try {
+                reload();
+            } catch (Exception e) {
+                log.warn("Preload of optional programs is failed: {} => they will be looked up one by one", e.getLocalizedMessage());
+            }
+        }
+    }
+
+    /**
+     * @return the number of optional programs loaded
+     */
+    public int reload() {
+        List<OptionalProgram> optionalPrograms = restUtils.getOptionalPrograms(restUtils.fetchAccessToken());
+        Map<String, OptionalProgram> byCode = new ConcurrentHashMap<>();
+        Map<UUID, OptionalProgram> byID = new ConcurrentHashMap<>();
+        if (optionalPrograms != null) {
+            optionalPrograms.forEach(op -> put(op, byCode, byID));
+        }
+        this.optionalProgramsByCode = byCode;
+        this.optionalProgramsByID = byID;
+        this.loadedAt = LocalDateTime.now();
+        log.info("{} optional programs are loaded", byID.size());
+        return byID.size();
+    }
+
+    public OptionalProgram getOptionalProgram(String programCode, String optionalProgramCode, String accessToken) {
+        OptionalProgram optionalProgram = optionalProgramsByCode.get(key(programCode, optionalProgramCode));
+        if (optionalProgram == null) {
+            optionalProgram = restUtils.getOptionalProgram(programCode, optionalProgramCode, accessToken);
+            put(optionalProgram, optionalProgramsByCode, optionalProgramsByID);
+        }
+        return optionalProgram;
+    }
+
+    public OptionalProgram getOptionalProgramByID(UUID optionalProgramID, String accessToken) {
+        OptionalProgram optionalProgram = optionalProgramID != null ? optionalProgramsByID.get(optionalProgramID) : null;
+        if (optionalProgram == null) {
+            optionalProgram = restUtils.getOptionalProgramByID(optionalProgramID, accessToken);
+            put(optionalProgram, optionalProgramsByCode, optionalProgramsByID);
+        }
+        return optionalProgram;
+    }
+
+    public int size() {
+        return optionalProgramsByID.size();
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    private void put(OptionalProgram optionalProgram, Map<String, OptionalProgram> byCode, Map<UUID, OptionalProgram> byID) {
+        if (optionalProgram == null || optionalProgram.getOptionalProgramID() == null) {
+            return;
+        }
+        if (optionalProgram.getGraduationProgramCode() != null && optionalProgram.getOptProgramCode() != null) {
+            byCode.put(key(optionalProgram.getGraduationProgramCode(), optionalProgram.getOptProgramCode()), optionalProgram);
+        }
+        byID.put(optionalProgram.getOptionalProgramID(), optionalProgram);
+    }
+
+    private String key(String programCode, String optionalProgramCode) {
+        return programCode + "/" + optionalProgramCode;
+    }
+}
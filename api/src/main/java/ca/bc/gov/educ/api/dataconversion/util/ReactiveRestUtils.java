@@ -0,0 +1,254 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import ca.bc.gov.educ.api.dataconversion.model.*;
+import ca.bc.gov.educ.api.dataconversion.model.StudentAssessment;
+import ca.bc.gov.educ.api.dataconversion.model.StudentCourse;
+import ca.bc.gov.educ.api.dataconversion.model.institute.School;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link RestUtils}.
+ * Every call returns a cold {@link Mono} / {@link Flux} so that independent downstream requests can be composed
+ * (zip, merge, flatMap with bounded concurrency) and subscribed once instead of being chained with block().
+ * Access token handling stays with {@link RestUtils#fetchAccessToken()}.
+ * Where {@link RestUtils} has a resilience4j retry with a fallback, the same retry instance configures a retryWhen here.
+ */
+@Slf4j
+@Component
+public class ReactiveRestUtils {
+
+    private final EducGradDataConversionApiConstants constants;
+
+    private final WebClient webClient;
+
+    private final RetryRegistry retryRegistry;
+
+    @Autowired
+    public ReactiveRestUtils(final EducGradDataConversionApiConstants constants, final WebClient webClient, final ObjectProvider<RetryRegistry> retryRegistry) {
+        this.constants = constants;
+        this.webClient = webClient;
+        this.retryRegistry = retryRegistry.getIfAvailable();
+    }
+
+    // PEN Student API ---------------------------------------------------------------------------------------------
+    public Flux<Student> getStudentsByPen(String pen, String accessToken) {
+        return this.webClient.get()
+                .uri(String.format(constants.getPenStudentApiByPenUrl(), pen))
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToFlux(Student.class);
+    }
+
+    public Mono<Student> addNewPen(Student student, String accessToken) {
+        return webClient.post()
+                .uri(constants.getAddNewPenFromGradStudentApiUrl())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .body(BodyInserters.fromValue(student))
+                .retrieve().bodyToMono(Student.class);
+    }
+
+    // GRAD Program API --------------------------------------------------------------------------------------------
+    public Mono<OptionalProgram> getOptionalProgram(String programCode, String specialProgramCode, String accessToken) {
+        return this.webClient.get()
+                .uri(constants.getGradOptionalProgramUrl(), uri -> uri.path("/{programCode}/{specialProgramCode}").build(programCode, specialProgramCode))
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToMono(OptionalProgram.class);
+    }
+
+    public Mono<OptionalProgram> getOptionalProgramByID(UUID optionalProgramID, String accessToken) {
+        return this.webClient.get()
+                .uri(constants.getGradOptionalProgramByIDUrl(), uri -> uri.path("/{optionalProgramID}").build(optionalProgramID))
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToMono(OptionalProgram.class);
+    }
+
+    // GRAD Student Course / Assessment API ------------------------------------------------------------------------
+    public Flux<StudentCourse> getStudentCoursesByPen(String pen, String accessToken) {
+        return this.webClient.get()
+                .uri(constants.getStudentCoursesByPenApiUrl(), uri -> uri.path("/{pen}").build(pen))
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToFlux(StudentCourse.class);
+    }
+
+    public Flux<StudentAssessment> getStudentAssessmentsByPen(String pen, String accessToken) {
+        return this.webClient.get()
+                .uri(String.format(constants.getStudentAssessmentsByPenApiUrl(), pen))
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToFlux(StudentAssessment.class);
+    }
+
+    public Mono<Boolean> checkFrenchImmersionCourse(String pen, String courseLevel, String accessToken) {
+        return this.webClient.get()
+                .uri(constants.getCheckFrenchImmersionCourse(),
+                        uri -> uri.queryParam("pen", pen)
+                                .queryParam("courseLevel", courseLevel)
+                                .build())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToMono(Boolean.class);
+    }
+
+    public Mono<Boolean> checkFrenchImmersionCourseForEN(String pen, String courseLevel, String accessToken) {
+        return this.webClient.get()
+                .uri(constants.getCheckFrenchImmersionCourseForEN(),
+                        uri -> uri.queryParam("pen", pen)
+                                .queryParam("courseLevel", courseLevel)
+                                .build())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToMono(Boolean.class);
+    }
+
+    // TRAX API ----------------------------------------------------------------------------------------------------
+    public Flux<ConvGradStudent> getTraxStudentMasterDataByPen(String pen, String accessToken) {
+        return this.webClient.get()
+                .uri(constants.getTraxStudentMasterDataByPenUrl(), uri -> uri.path("/{pen}").build(pen))
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToFlux(ConvGradStudent.class);
+    }
+
+    public Flux<ConvGradStudent> getTraxStudentMasterDataByPenList(List<String> pens, String accessToken) {
+        return this.webClient.post()
+                .uri(constants.getTraxStudentMasterDataByPenListUrl())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .body(BodyInserters.fromValue(pens))
+                .retrieve().bodyToFlux(ConvGradStudent.class);
+    }
+
+    public Flux<Student> getTraxStudentDemographicsDataByPen(String pen, String accessToken) {
+        return this.webClient.get()
+                .uri(constants.getTraxStudentDemogDataByPenUrl(), uri -> uri.path("/{pen}").build(pen))
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToFlux(Student.class);
+    }
+
+    public Flux<TraxStudentNo> getTraxStudentNoListByPage(int pageNumber, int pageSize, String accessToken) {
+        return this.webClient.get()
+                .uri(constants.getTraxStudentNoListByPageUrl(),
+                        uri -> uri.queryParam("pageNumber", pageNumber)
+                                .queryParam("pageSize", pageSize)
+                                .build())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToFlux(TraxStudentNo.class);
+    }
+
+    public Flux<TraxStudentNo> getTraxStudentNoListByPenRange(String afterPen, String upToPen, int pageSize, String accessToken) {
+        return this.webClient.get()
+                .uri(constants.getTraxStudentNoListByPenRangeUrl(),
+                        uri -> uri.queryParamIfPresent("afterPen", Optional.ofNullable(afterPen))
+                                .queryParamIfPresent("upToPen", Optional.ofNullable(upToPen))
+                                .queryParam("pageSize", pageSize)
+                                .build())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToFlux(TraxStudentNo.class);
+    }
+
+    public Flux<TraxStudentNo> getTraxStudentNoDeltaListByPenRange(String afterPen, String upToPen, int pageSize, StudentLoadDelta delta, String accessToken) {
+        return this.webClient.get()
+                .uri(constants.getTraxStudentNoDeltaListByPenRangeUrl(),
+                        uri -> uri.queryParamIfPresent("afterPen", Optional.ofNullable(afterPen))
+                                .queryParamIfPresent("upToPen", Optional.ofNullable(upToPen))
+                                .queryParam("pageSize", pageSize)
+                                .queryParamIfPresent("updatedSince", Optional.ofNullable(delta.getUpdatedSince()))
+                                .build())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToFlux(TraxStudentNo.class);
+    }
+
+    public Mono<TraxStudentNo> saveTraxStudentNo(TraxStudentNo traxStudentNo, String accessToken) {
+        return webClient.post()
+                .uri(constants.getSaveTraxStudentNoUrl())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .body(BodyInserters.fromValue(traxStudentNo))
+                .retrieve().bodyToMono(TraxStudentNo.class);
+    }
+
+    // GRAD Student API --------------------------------------------------------------------------------------------
+    // Read GraduationStudentRecord  - GET /student/studentid/{id}/algorithm
+    // Same as rt-getStudentGradStatus with rtGetStudentGradStatusFallback: empty when the server errors persist
+    public Mono<GraduationStudentRecord> getStudentGradStatus(String studentID, String accessToken) {
+        return webClient.get().uri(String.format(constants.getReadGraduationStudentRecord(), studentID))
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToMono(GraduationStudentRecord.class)
+                .retryWhen(retryOnServerError("rt-getStudentGradStatus"))
+                .onErrorResume(this::isServerError, e -> {
+                    log.error("STUDENT GRAD STATUS NOT Retrievable after many attempts: {}", e.getLocalizedMessage());
+                    return Mono.empty();
+                });
+    }
+
+    // Update GraduationStudentRecord  - POST /student/conv/studentid/{id}?ongoingUpdate=true&eventType=UPD_GRAD
+    public Mono<GraduationStudentRecord> updateStudentGradStatusByFields(OngoingUpdateRequestDTO requestDTO, String accessToken) {
+        return webClient.post()
+                .uri(constants.getSaveGraduationStudentRecordForOngoingUpdates())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .body(BodyInserters.fromValue(requestDTO)).retrieve().bodyToMono(GraduationStudentRecord.class);
+    }
+
+    // READ StudentOptionalProgram - GET /student/optionalprogram/studentid/{id}
+    public Flux<StudentOptionalProgram> getStudentOptionalPrograms(String studentID, String accessToken) {
+        return this.webClient.get().uri(String.format(constants.getReadStudentOptionalPrograms(), studentID))
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToFlux(StudentOptionalProgram.class);
+    }
+
+    // Save StudentOptionalProgram - POST /student/conv/studentoptionalprogram
+    public Mono<StudentOptionalProgram> saveStudentOptionalProgram(StudentOptionalProgramRequestDTO toBeSaved, String accessToken) {
+        return webClient.post().uri(constants.getSaveStudentOptionalProgram())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .body(BodyInserters.fromValue(toBeSaved)).retrieve().bodyToMono(StudentOptionalProgram.class);
+    }
+
+    // READ StudentCareerProgram - GET /student/studentcareerprogram/studentid/{id}
+    public Flux<StudentCareerProgram> getStudentCareerPrograms(String studentID, String accessToken) {
+        return this.webClient.get().uri(String.format(constants.getReadStudentCareerPrograms(), studentID))
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToFlux(StudentCareerProgram.class);
+    }
+
+    // Save StudentCareerProgram - NEW - POST /student/conv/studentcareerprogram
+    public Mono<StudentCareerProgram> saveStudentCareerProgram(StudentCareerProgram toBeSaved, String accessToken) {
+        return webClient.post().uri(constants.getSaveStudentCareerProgram())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .body(BodyInserters.fromValue(toBeSaved)).retrieve().bodyToMono(StudentCareerProgram.class);
+    }
+
+    // Institute API -----------------------------------------------------------------------------------------------
+    public Mono<School> getSchool(UUID schoolId, String accessToken) {
+        if (schoolId == null) return Mono.empty();
+        final String correlationID = ThreadLocalStateUtil.getCorrelationID();
+        return this.webClient.get().uri(String.format(constants.getSchoolBySchoolIdUrl(), schoolId))
+                .headers(h -> {
+                    h.setBearerAuth(accessToken);
+                    h.set(EducGradDataConversionApiConstants.CORRELATION_ID, correlationID);
+                }).retrieve().bodyToMono(School.class);
+    }
+
+    // Retries the server errors as many times and as often as the resilience4j retry instance of the given name
+    private Retry retryOnServerError(String name) {
+        if (retryRegistry == null) {
+            return Retry.max(0);
+        }
+        RetryConfig config = retryRegistry.retry(name).getRetryConfig();
+        return Retry.fixedDelay(config.getMaxAttempts() - 1L, Duration.ofMillis(config.getIntervalFunction().apply(1)))
+                .filter(this::isServerError)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private boolean isServerError(Throwable e) {
+        return e instanceof WebClientResponseException ex && ex.getStatusCode().is5xxServerError();
+    }
+}
@@ -20,7 +20,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Slf4j
 @Component
@@ -30,6 +32,8 @@ public class RestUtils {
 
     private final ResponseObjCache responseObjCache;
 
+    private final ReentrantLock tokenLock = new ReentrantLock();
+
     private final WebClient webClient;
 
     @Autowired
@@ -41,11 +45,36 @@ public class RestUtils {
 
     public ResponseObj getTokenResponseObject() {
         if(responseObjCache.isExpired()){
-            responseObjCache.setResponseObj(getTokenResponseObj());
+            refreshToken(0);
         }
         return responseObjCache.getResponseObj();
     }
 
+    /**
+     * Renews the token ahead of its expiry, so that the callers of getTokenResponseObject never wait for KeyCloak.
+     * Nothing is done until a token is requested for the first time.
+     */
+    public void refreshTokenIfExpiring(int refreshAhead) {
+        if (responseObjCache.getResponseObj() != null && responseObjCache.isExpiringWithin(refreshAhead)) {
+            refreshToken(refreshAhead);
+        }
+    }
+
+    // Single flight: one thread calls KeyCloak, the others wait for it and reuse the new token
+    private void refreshToken(int refreshAhead) {
+        tokenLock.lock();
+        try {
+            if (responseObjCache.isExpiringWithin(refreshAhead)) {
+                ResponseObj res = getTokenResponseObj();
+                if (res != null) {
+                    responseObjCache.setResponseObj(res);
+                }
+            }
+        } finally {
+            tokenLock.unlock();
+        }
+    }
+
     public String fetchAccessToken() {
         log.info("Fetching the access token from KeyCloak API");
         ResponseObj res = getTokenResponseObject();
@@ -102,6 +131,15 @@ public class RestUtils {
                 .retrieve().bodyToMono(OptionalProgram.class).block();
     }
 
+    public List<OptionalProgram> getOptionalPrograms(String accessToken) {
+        final ParameterizedTypeReference<List<OptionalProgram>> responseType = new ParameterizedTypeReference<>() {
+        };
+        return this.webClient.get()
+                .uri(constants.getGradOptionalProgramUrl())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToMono(responseType).block();
+    }
+
     public OptionalProgram getOptionalProgramByID(UUID optionalProgramID, String accessToken) {
         return this.webClient.get()
                 .uri(constants.getGradOptionalProgramByIDUrl(), uri -> uri.path("/{optionalProgramID}").build(optionalProgramID))
@@ -159,6 +197,25 @@ public class RestUtils {
                 .retrieve().bodyToMono(CourseRestriction.class).block();
     }
 
+    public List<CourseRestriction> getCourseRestrictions(String accessToken) {
+        final ParameterizedTypeReference<List<CourseRestriction>> responseType = new ParameterizedTypeReference<>() {
+        };
+        return this.webClient.get()
+                .uri(constants.getGradCourseRestrictionsApiUrl())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToMono(responseType).block();
+    }
+
+    public List<CourseRestriction> saveCourseRestrictions(List<CourseRestriction> courseRestrictions, String accessToken) {
+        final ParameterizedTypeReference<List<CourseRestriction>> responseType = new ParameterizedTypeReference<>() {
+        };
+        return webClient.post()
+                .uri(constants.getSaveCourseRestrictionsApiUrl())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .body(BodyInserters.fromValue(courseRestrictions))
+                .retrieve().bodyToMono(responseType).block();
+    }
+
     public CourseRestriction saveCourseRestriction(CourseRestriction courseRestriction, String accessToken) {
         return webClient.post()
                 .uri(constants.getSaveCourseRestrictionApiUrl())
@@ -175,6 +232,16 @@ public class RestUtils {
                 .retrieve().bodyToMono(CourseRequirement.class).block();
     }
 
+    public List<CourseRequirement> saveCourseRequirements(List<CourseRequirement> courseRequirements, String accessToken) {
+        final ParameterizedTypeReference<List<CourseRequirement>> responseType = new ParameterizedTypeReference<>() {
+        };
+        return webClient.post()
+                .uri(constants.getSaveCourseRequirementsApiUrl())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .body(BodyInserters.fromValue(courseRequirements))
+                .retrieve().bodyToMono(responseType).block();
+    }
+
     public Boolean checkCourseRequirementExists (
             String courseCode, String courseLevel, String ruleCode,
             String accessToken) {
@@ -256,6 +323,16 @@ public class RestUtils {
                 .retrieve().bodyToMono(responseType).block();
     }
 
+    public List<Student> getTraxStudentDemographicsDataByPenList(List<String> pens, String accessToken) {
+        final ParameterizedTypeReference<List<Student>> responseType = new ParameterizedTypeReference<>() {
+        };
+        return this.webClient.post()
+                .uri(constants.getTraxStudentDemogDataByPenListUrl())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .body(BodyInserters.fromValue(pens))
+                .retrieve().bodyToMono(responseType).block();
+    }
+
     public List<TraxStudentNo> getTraxStudentNoListByPage(int pageNumber, int pageSize, String accessToken) {
         final ParameterizedTypeReference<List<TraxStudentNo>> responseType = new ParameterizedTypeReference<>() {
         };
@@ -268,6 +345,20 @@ public class RestUtils {
                 .retrieve().bodyToMono(responseType).block();
     }
 
+    // PENs in (afterPen, upToPen] ordered by PEN, at most pageSize of them - no bound when afterPen / upToPen is null
+    public List<TraxStudentNo> getTraxStudentNoListByPenRange(String afterPen, String upToPen, int pageSize, String accessToken) {
+        final ParameterizedTypeReference<List<TraxStudentNo>> responseType = new ParameterizedTypeReference<>() {
+        };
+        return this.webClient.get()
+                .uri(constants.getTraxStudentNoListByPenRangeUrl(),
+                        uri -> uri.queryParamIfPresent("afterPen", Optional.ofNullable(afterPen))
+                                .queryParamIfPresent("upToPen", Optional.ofNullable(upToPen))
+                                .queryParam("pageSize", pageSize)
+                                .build())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToMono(responseType).block();
+    }
+
     public Integer getTotalNumberOfTraxStudentNoList(String accessToken) {
         return webClient.get()
                 .uri(constants.getTotalNumberOfTraxStudentNoListUrl())
@@ -275,6 +366,42 @@ public class RestUtils {
                 .retrieve().bodyToMono(Integer.class).block();
     }
 
+    // Delta student load: PENs whose status is null, F or W, or changed since delta.updatedSince
+    public List<TraxStudentNo> getTraxStudentNoDeltaListByPage(int pageNumber, int pageSize, StudentLoadDelta delta, String accessToken) {
+        final ParameterizedTypeReference<List<TraxStudentNo>> responseType = new ParameterizedTypeReference<>() {
+        };
+        return this.webClient.get()
+                .uri(constants.getTraxStudentNoDeltaListByPageUrl(),
+                        uri -> uri.queryParam("pageNumber", pageNumber)
+                                .queryParam("pageSize", pageSize)
+                                .queryParamIfPresent("updatedSince", Optional.ofNullable(delta.getUpdatedSince()))
+                                .build())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToMono(responseType).block();
+    }
+
+    public List<TraxStudentNo> getTraxStudentNoDeltaListByPenRange(String afterPen, String upToPen, int pageSize, StudentLoadDelta delta, String accessToken) {
+        final ParameterizedTypeReference<List<TraxStudentNo>> responseType = new ParameterizedTypeReference<>() {
+        };
+        return this.webClient.get()
+                .uri(constants.getTraxStudentNoDeltaListByPenRangeUrl(),
+                        uri -> uri.queryParamIfPresent("afterPen", Optional.ofNullable(afterPen))
+                                .queryParamIfPresent("upToPen", Optional.ofNullable(upToPen))
+                                .queryParam("pageSize", pageSize)
+                                .queryParamIfPresent("updatedSince", Optional.ofNullable(delta.getUpdatedSince()))
+                                .build())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToMono(responseType).block();
+    }
+
+    public Integer getTotalNumberOfTraxStudentNoDeltaList(StudentLoadDelta delta, String accessToken) {
+        return webClient.get()
+                .uri(constants.getTotalNumberOfTraxStudentNoDeltaListUrl(),
+                        uri -> uri.queryParamIfPresent("updatedSince", Optional.ofNullable(delta.getUpdatedSince())).build())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve().bodyToMono(Integer.class).block();
+    }
+
     public List<CourseRestriction> getTraxCourseRestrictions(String accessToken) {
         final ParameterizedTypeReference<List<CourseRestriction>> responseType = new ParameterizedTypeReference<>() {
         };
@@ -302,6 +429,17 @@ public class RestUtils {
                 .retrieve().bodyToMono(TraxStudentNo.class).block();
     }
 
+    @Retry(name = "rt-conversionStatus")
+    public List<TraxStudentNo> saveTraxStudentNoList(List<TraxStudentNo> traxStudentNoList, String accessToken) {
+        final ParameterizedTypeReference<List<TraxStudentNo>> responseType = new ParameterizedTypeReference<>() {
+        };
+        return webClient.post()
+                .uri(constants.getSaveTraxStudentNoListUrl())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .body(BodyInserters.fromValue(traxStudentNoList))
+                .retrieve().bodyToMono(responseType).block();
+    }
+
     public TraxStudentNo deleteTraxStudentNo(TraxStudentNo traxStudentNo, String accessToken) {
         return webClient.delete()
                 .uri(String.format(constants.getDeleteTraxStudentNoUrl(),traxStudentNo))
@@ -359,6 +497,16 @@ public class RestUtils {
                 }).retrieve().bodyToMono(School.class).block();
     }
 
+    public List<School> getAllSchools(String accessToken) {
+        final ParameterizedTypeReference<List<School>> responseType = new ParameterizedTypeReference<>() {
+        };
+        return this.webClient.get().uri(constants.getAllSchoolsUrl())
+                .headers(h -> {
+                    h.setBearerAuth(accessToken);
+                    h.set(EducGradDataConversionApiConstants.CORRELATION_ID, ThreadLocalStateUtil.getCorrelationID());
+                }).retrieve().bodyToMono(responseType).block();
+    }
+
     // READ StudentOptionalProgram - GET /student/optionalprogram/studentid/{id}
     public List<StudentOptionalProgram> getStudentOptionalPrograms(String studentID, String accessToken) {
         final ParameterizedTypeReference<List<StudentOptionalProgram>> responseType = new ParameterizedTypeReference<>() {
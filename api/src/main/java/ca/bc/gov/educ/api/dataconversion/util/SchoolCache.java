@@ -0,0 +1,72 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import ca.bc.gov.educ.api.dataconversion.model.institute.School;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Bounded, time-limited cache of schools keyed by schoolId.
+ * A school is looked up once per TTL no matter how many students or events refer to it.
+ * Concurrent misses on the same school share one call, and failed calls are not cached.
+ */
+@Slf4j
+@Component
+public class SchoolCache {
+
+    private final RestUtils restUtils;
+
+    // Optional.empty() is kept for a school which is not found, so that it is not looked up again and again
+    private final Cache<UUID, Optional<School>> schools;
+
+    @Autowired
+    public SchoolCache(RestUtils restUtils, EducGradDataConversionApiConstants constants) {
+        this.restUtils = restUtils;
+        this.schools = CacheBuilder.newBuilder()
+                .maximumSize(constants.getSchoolCacheMaxSize())
+                .expireAfterWrite(Duration.ofMinutes(constants.getSchoolCacheTtl()))
+                .build();
+    }
+
+    public School getSchool(UUID schoolId) {
+        if (schoolId == null) return null;
+        try {
+            return schools.get(schoolId, () -> Optional.ofNullable(restUtils.getSchool(schoolId, restUtils.fetchAccessToken()))).orElse(null);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Loads all schools at once, e.g. at the start of a job.
+     * A failure is only logged: the schools are then looked up one by one.
+     */
+    public void warmUp(String accessToken) {
+        try {
+            List<School> list = restUtils.getAllSchools(accessToken);
+            if (list != null) {
+                list.stream().filter(s -> s.getSchoolId() != null)
+                        .forEach(s -> schools.put(UUID.fromString(s.getSchoolId()), Optional.of(s)));
+            }
+            log.info("School cache is warmed up with {} schools", schools.size());
+        } catch (Exception e) {
+            log.warn("Warm-up of the school cache is failed: {}", e.getLocalizedMessage());
+        }
+    }
+
+    public long size() {
+        return schools.size();
+    }
+}
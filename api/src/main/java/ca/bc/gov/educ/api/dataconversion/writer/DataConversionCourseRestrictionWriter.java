@@ -2,6 +2,7 @@ package ca.bc.gov.educ.api.dataconversion.writer;
 
 import ca.bc.gov.educ.api.dataconversion.model.ConversionCourseSummaryDTO;
 import ca.bc.gov.educ.api.dataconversion.model.CourseRestriction;
+import ca.bc.gov.educ.api.dataconversion.process.CourseProcess;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.JobExecution;
@@ -10,13 +11,15 @@ import org.springframework.batch.core.annotation.BeforeStep;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemWriter;
-
-import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
 
 public class DataConversionCourseRestrictionWriter implements ItemWriter<CourseRestriction> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DataConversionCourseRestrictionWriter.class);
 
+    @Autowired
+    private CourseProcess courseProcess;
+
     private ConversionCourseSummaryDTO summaryDTO;
 
     @BeforeStep
@@ -29,7 +32,7 @@ public class DataConversionCourseRestrictionWriter implements ItemWriter<CourseR
     @Override
     public void write(Chunk<? extends CourseRestriction> chunk) throws Exception {
         if (!chunk.isEmpty()) {
-            CourseRestriction courseRestriction = chunk.getItems().get(0);
+            courseProcess.saveCourseRestrictions(chunk.getItems(), summaryDTO);
             LOGGER.info("Processed course restriction: {} in total {}", summaryDTO.getProcessedCount(), summaryDTO.getReadCount());
             LOGGER.info("-------------------------------------------------------");
         }
@@ -0,0 +1,94 @@
+package ca.bc.gov.educ.api.dataconversion.writer;
+
+import ca.bc.gov.educ.api.dataconversion.model.ConversionAlert;
+import ca.bc.gov.educ.api.dataconversion.model.ConversionStudentSummaryDTO;
+import ca.bc.gov.educ.api.dataconversion.model.TraxStudentNo;
+import ca.bc.gov.educ.api.dataconversion.process.DataConversionProcess;
+import ca.bc.gov.educ.api.dataconversion.service.ConversionAlertLogService;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import ca.bc.gov.educ.api.dataconversion.util.JobProgressTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adds the missing PENs of a chunk and saves their TRAX statuses,
+ * with up to batch.pen-updates.max-in-flight PENs at once.
+ * The errors of the chunk are saved in the error log.
+ */
+public class PenUpdatesPartitionWriter implements ItemWriter<String> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PenUpdatesPartitionWriter.class);
+
+    @Autowired
+    private DataConversionProcess dataConversionProcess;
+
+    @Autowired
+    private EducGradDataConversionApiConstants constants;
+
+    @Autowired
+    private JobProgressTracker jobProgressTracker;
+
+    @Autowired
+    private ConversionAlertLogService conversionAlertLogService;
+
+    @Value("#{stepExecutionContext['summary']}")
+    private ConversionStudentSummaryDTO summaryDTO;
+
+    @Value("#{stepExecution.jobExecution}")
+    private JobExecution jobExecution;
+
+    @Value("#{stepExecution.stepName}")
+    private String partitionName;
+
+    @Override
+    public void write(Chunk<? extends String> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<String> pens = new ArrayList<>(chunk.getItems());
+        int errorCount = summaryDTO.getErrors().size();
+        if (constants.getPenUpdatesMaxInFlight() > 1) {
+            try {
+                dataConversionProcess.readTraxStudentsAndAddNewPens(pens, constants.getPenUpdatesMaxInFlight(), summaryDTO);
+            } catch (Exception e) {
+                pens.forEach(pen -> addError(pen, e));
+            }
+        } else {
+            for (String pen : pens) {
+                TraxStudentNo st = new TraxStudentNo();
+                st.setStudNo(pen);
+                try {
+                    dataConversionProcess.readTraxStudentAndAddNewPen(st, summaryDTO);
+                } catch (Exception e) {
+                    addError(pen, e);
+                }
+            }
+        }
+        List<ConversionAlert> errors = summaryDTO.getErrors().subList(errorCount, summaryDTO.getErrors().size());
+        summaryDTO.setErroredCount(summaryDTO.getErroredCount() + errors.size());
+        JobProgressTracker.PartitionCounters progressCounters = jobProgressTracker.getPartitionCounters(jobExecution, partitionName);
+        progressCounters.addProcessedCount(pens.size());
+        progressCounters.addErroredCount(errors.size());
+
+        // the summary is saved in the step context with every chunk: the errors are kept in the error log instead
+        conversionAlertLogService.save(jobExecution.getId(), errors);
+        conversionAlertLogService.trim(summaryDTO.getErrors());
+        LOGGER.info("Processed {} PENs - last PEN: {}, processed {} in total {}", pens.size(), pens.get(pens.size() - 1), summaryDTO.getProcessedCount(), summaryDTO.getReadCount());
+    }
+
+    private void addError(String pen, Exception e) {
+        ConversionAlert error = new ConversionAlert();
+        error.setItem(pen);
+        error.setReason("Unexpected Exception is occurred: " + e.getLocalizedMessage());
+        summaryDTO.getErrors().add(error);
+        LOGGER.error("unknown exception: " + e.getLocalizedMessage());
+    }
+}
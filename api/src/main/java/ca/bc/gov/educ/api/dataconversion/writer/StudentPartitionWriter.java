@@ -2,17 +2,20 @@ package ca.bc.gov.educ.api.dataconversion.writer;
 
 import ca.bc.gov.educ.api.dataconversion.constant.ConversionResultType;
 import ca.bc.gov.educ.api.dataconversion.model.*;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import ca.bc.gov.educ.api.dataconversion.util.JobProgressTracker;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class StudentPartitionWriter implements ItemWriter<ConvGradStudent> {
 
@@ -21,24 +24,41 @@ public class StudentPartitionWriter implements ItemWriter<ConvGradStudent> {
     @Autowired
     private RestUtils restUtils;
 
+    @Autowired
+    private JobProgressTracker jobProgressTracker;
+
+    @Autowired
+    private EducGradDataConversionApiConstants constants;
+
     @Value("#{stepExecutionContext['summary']}")
     private ConversionStudentSummaryDTO summaryDTO;
 
+    @Value("#{stepExecution.jobExecution}")
+    private JobExecution jobExecution;
+
+    @Value("#{stepExecution.stepName}")
+    private String partitionName;
+
     @Override
     public void write(Chunk<? extends ConvGradStudent> chunk) throws Exception {
         if (!chunk.isEmpty()) {
-            ConvGradStudent student = chunk.getItems().get(0);
             fetchAccessToken();
-            saveConversionStatus(student, summaryDTO.getErrors());
-            LOGGER.info("Processed student[{}] - PEN: {} in total {}", summaryDTO.getProcessedCount(), student.getPen(), summaryDTO.getReadCount());
+            List<TraxStudentNo> conversionStatusList = new ArrayList<>();
+            for (ConvGradStudent student : chunk) {
+                conversionStatusList.add(populateConversionStatus(student));
+            }
+            saveConversionStatus(conversionStatusList);
+            jobProgressTracker.getPartitionCounters(jobExecution, partitionName)
+                    .addErroredCount(conversionStatusList.stream().filter(st -> !ConversionResultType.SUCCESS.toString().equals(st.getStatus())).count());
+            LOGGER.info("Processed {} students - last PEN: {}, processed {} in total {}", chunk.size(), conversionStatusList.get(conversionStatusList.size() - 1).getStudNo(), summaryDTO.getProcessedCount(), summaryDTO.getReadCount());
         }
     }
 
-    private void saveConversionStatus(ConvGradStudent student, List<ConversionAlert> errors) {
+    private TraxStudentNo populateConversionStatus(ConvGradStudent student) {
         TraxStudentNo traxStudentNo = new TraxStudentNo();
         traxStudentNo.setStudNo(student.getPen());
 
-        List<ConversionAlert> list = errors.stream().filter(a -> StringUtils.equals(a.getItem(), traxStudentNo.getStudNo())).collect(Collectors.toList());
+        List<ConversionAlert> list = student.getAlerts() != null ? student.getAlerts() : Collections.emptyList();
         ConversionResultType status = student.getResult();
         if (status != ConversionResultType.SUCCESS || !list.isEmpty()) {
             StringBuilder msg = new StringBuilder();
@@ -57,8 +77,20 @@ public class StudentPartitionWriter implements ItemWriter<ConvGradStudent> {
             summaryDTO.setErroredCount(summaryDTO.getErroredCount() + 1L);
         }
         traxStudentNo.setStatus(status.toString());
-        restUtils.saveTraxStudentNo(traxStudentNo, summaryDTO.getAccessToken());
-        summaryDTO.getErrors().clear();
+        return traxStudentNo;
+    }
+
+    private void saveConversionStatus(List<TraxStudentNo> conversionStatusList) {
+        if (conversionStatusList.size() == 1 || !constants.isTraxBulkRequestsEnabled()) {
+            conversionStatusList.forEach(traxStudentNo -> restUtils.saveTraxStudentNo(traxStudentNo, summaryDTO.getAccessToken()));
+            return;
+        }
+        try {
+            restUtils.saveTraxStudentNoList(conversionStatusList, summaryDTO.getAccessToken());
+        } catch (Exception e) {
+            LOGGER.warn("Bulk update of conversion status is failed for {} students : {} => saving one by one", conversionStatusList.size(), e.getLocalizedMessage());
+            conversionStatusList.forEach(traxStudentNo -> restUtils.saveTraxStudentNo(traxStudentNo, summaryDTO.getAccessToken()));
+        }
     }
 
     private void fetchAccessToken() {
@@ -0,0 +1,22 @@
+-- API_GRAD_DATA_CONV.CONVERSION_ALERT_LOG definition
+
+CREATE TABLE "CONVERSION_ALERT_LOG"
+   (	"CONVERSION_ALERT_LOG_ID" RAW(16) NOT NULL ENABLE,
+	"JOB_EXECUTION_ID" NUMBER(19,0) NOT NULL ENABLE,
+	"ITEM" VARCHAR2(100),
+	"ALERT_LEVEL" VARCHAR2(10) NOT NULL ENABLE,
+	"REASON" VARCHAR2(4000),
+	"CREATE_USER" VARCHAR2(32),
+	"CREATE_DATE" TIMESTAMP (6) DEFAULT CURRENT_TIMESTAMP,
+	 CONSTRAINT "CONVERSION_ALERT_LOG_PK" PRIMARY KEY ("CONVERSION_ALERT_LOG_ID")
+  USING INDEX TABLESPACE "API_GRAD_IDX"  ENABLE
+   ) SEGMENT CREATION IMMEDIATE
+ NOCOMPRESS LOGGING
+  TABLESPACE "API_GRAD_DATA"   NO INMEMORY ;
+
+CREATE INDEX "CONVERSION_ALERT_LOG_JOB_IDX" ON "CONVERSION_ALERT_LOG" ("JOB_EXECUTION_ID")
+  TABLESPACE "API_GRAD_IDX" ;
+
+COMMENT ON TABLE CONVERSION_ALERT_LOG IS 'This table is used to store the alerts of the batch jobs, which are not all kept in the job execution context.';
+
+GRANT SELECT ON CONVERSION_ALERT_LOG TO GRAD_READONLY;
@@ -0,0 +1,77 @@
+package ca.bc.gov.educ.api.dataconversion.config;
+
+import ca.bc.gov.educ.api.dataconversion.listener.SkipSQLTransactionExceptionsListener;
+import ca.bc.gov.educ.api.dataconversion.listener.StudentDataConversionJobCompletionNotificationListener;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StudentLoadJobTest {
+
+    private EmbeddedDatabase dataSource;
+    private JobRepository jobRepository;
+    private DataSourceTransactionManager transactionManager;
+    private TaskExecutorJobLauncher jobLauncher;
+
+    @Before
+    public void setUp() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("/org/springframework/batch/core/schema-h2.sql")
+                .build();
+        transactionManager = new DataSourceTransactionManager(dataSource);
+
+        JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setTransactionManager(transactionManager);
+        factory.afterPropertiesSet();
+        jobRepository = factory.getObject();
+
+        jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.afterPropertiesSet();
+    }
+
+    @After
+    public void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    public void testStudentLoadJob_whenMasterStepFails_canBeRestarted() throws Exception {
+        EducGradDataConversionApiConstants constants = mock(EducGradDataConversionApiConstants.class);
+        when(constants.getNumberOfPartitions()).thenReturn(2);
+        when(constants.getStudentLoadChunkSize()).thenReturn(1);
+
+        // The partitioner is not step scoped outside of the application context, so the master step fails on it
+        Job job = new BatchJobConfig().studentLoadJob(jobRepository, transactionManager, mock(RestUtils.class), constants,
+                mock(StudentDataConversionJobCompletionNotificationListener.class), mock(SkipSQLTransactionExceptionsListener.class));
+        JobParameters jobParameters = new JobParametersBuilder().addLong("time", 1L).toJobParameters();
+
+        JobExecution failed = jobLauncher.run(job, jobParameters);
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+
+        JobExecution restarted = jobLauncher.run(job, failed.getJobParameters());
+        assertThat(restarted.getId()).isNotEqualTo(failed.getId());
+        assertThat(restarted.getJobInstance().getInstanceId()).isEqualTo(failed.getJobInstance().getInstanceId());
+    }
+}
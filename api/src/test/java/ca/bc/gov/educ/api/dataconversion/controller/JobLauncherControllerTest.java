@@ -1,17 +1,31 @@
 package ca.bc.gov.educ.api.dataconversion.controller;
 
+import ca.bc.gov.educ.api.dataconversion.model.JobProgress;
+import ca.bc.gov.educ.api.dataconversion.util.JobProgressTracker;
 import org.junit.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +37,12 @@ public class JobLauncherControllerTest {
     @Mock
     private JobRegistry jobRegistry;
 
+    @Mock
+    private JobExplorer jobExplorer;
+
+    @Mock
+    private JobProgressTracker jobProgressTracker;
+
     @InjectMocks
     private JobLauncherController jobLauncherController;
 
@@ -30,7 +50,7 @@ public class JobLauncherControllerTest {
     public void testLaunchGradStudentWithPartitions_DataConversionJob_thenReturnError() {
         boolean exceptionIsThrown = false;
         try {
-            jobLauncherController.launchStudentDataConversionPartitionJob(true);
+            jobLauncherController.launchStudentDataConversionPartitionJob(true, false, null);
         } catch (Exception e) {
             exceptionIsThrown = true;
         }
@@ -75,4 +95,71 @@ public class JobLauncherControllerTest {
 
         assertThat(exceptionIsThrown).isTrue();
     }
+
+    @Test
+    public void testLaunchGradStudentWithPartitions_inDeltaMode_whenUpdatedSinceIsInvalid() {
+        var response = jobLauncherController.launchStudentDataConversionPartitionJob(false, true, "2024-13-01");
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    public void testLaunchGradStudentWithPartitions_inDeltaMode() throws Exception {
+        Job job = mock(Job.class);
+        JobExecution jobExecution = new JobExecution(new JobInstance(10L, "studentLoadJob"), 1L, new JobParameters());
+        when(jobRegistry.getJob("studentLoadJob")).thenReturn(job);
+        when(jobLauncher.run(eq(job), any(JobParameters.class))).thenReturn(jobExecution);
+
+        var response = jobLauncherController.launchStudentDataConversionPartitionJob(false, false, "2024-01-31T18:00:00");
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+
+        ArgumentCaptor<JobParameters> captor = ArgumentCaptor.forClass(JobParameters.class);
+        verify(jobLauncher).run(eq(job), captor.capture());
+        assertThat(captor.getValue().getString("delta")).isEqualTo("Y");
+        assertThat(captor.getValue().getString("updatedSince")).isEqualTo("2024-01-31T18:00:00");
+    }
+
+    @Test
+    public void testRestartJob_whenJobExecutionIsNotFound() {
+        when(jobExplorer.getJobExecution(1L)).thenReturn(null);
+
+        var response = jobLauncherController.restartJob(1L);
+        assertThat(response.getStatusCode().value()).isEqualTo(404);
+    }
+
+    @Test
+    public void testRestartJob_withSameJobParameters() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder().addLong("time", 123L).addString("job", "studentLoadJob").toJobParameters();
+        JobExecution failedJobExecution = new JobExecution(new JobInstance(10L, "studentLoadJob"), 1L, jobParameters);
+        JobExecution restartedJobExecution = new JobExecution(new JobInstance(10L, "studentLoadJob"), 2L, jobParameters);
+        Job job = mock(Job.class);
+
+        when(jobExplorer.getJobExecution(1L)).thenReturn(failedJobExecution);
+        when(jobRegistry.getJob("studentLoadJob")).thenReturn(job);
+        when(jobLauncher.run(job, jobParameters)).thenReturn(restartedJobExecution);
+
+        var response = jobLauncherController.restartJob(1L);
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody().getBatchId()).isEqualTo(2L);
+        assertThat(response.getBody().getJobType()).isEqualTo("studentLoadJob");
+    }
+
+    @Test
+    public void testGetJobProgress_whenJobIsNotTracked() {
+        when(jobProgressTracker.getProgress(1L)).thenReturn(null);
+
+        var response = jobLauncherController.getJobProgress(1L);
+        assertThat(response.getStatusCode().value()).isEqualTo(404);
+    }
+
+    @Test
+    public void testGetJobProgress() {
+        JobProgress progress = new JobProgress();
+        progress.setBatchId(1L);
+        progress.setProcessedCount(100L);
+        when(jobProgressTracker.getProgress(1L)).thenReturn(progress);
+
+        var response = jobLauncherController.getJobProgress(1L);
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody().getProcessedCount()).isEqualTo(100L);
+    }
 }
@@ -0,0 +1,81 @@
+package ca.bc.gov.educ.api.dataconversion.model;
+
+import org.junit.Test;
+import org.springframework.util.SerializationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class ConversionStudentSummaryDTOTest {
+
+    @Test
+    public void testIncrement() {
+        ConversionStudentSummaryDTO summary = new ConversionStudentSummaryDTO();
+        summary.increment("2018-EN", false);
+        summary.increment("2018-EN", true);
+        summary.increment("UNKNOWN", false);
+        summary.incrementOptionalProgram("FI");
+        summary.incrementOptionalProgram("DD");
+        summary.incrementCareerProgram("XC");
+
+        assertThat(summary.getProgramCountMap()).hasSize(20).containsEntry("2018-EN", 1L).containsEntry("2018-EN Grad", 1L).doesNotContainKey("UNKNOWN");
+        assertThat(summary.getProgramCountMap().keySet().iterator().next()).isEqualTo("2018-EN");
+        assertThat(summary.getOptionalProgramCountMap()).containsEntry("FI", 1L).containsEntry("AD", 0L).containsEntry("DD", 1L);
+        assertThat(summary.getCareerProgramCountMap()).containsExactly(entry("XC", 1L));
+    }
+
+    @Test
+    public void testMerge_fromConcurrentPartitions() throws Exception {
+        ConversionStudentSummaryDTO total = new ConversionStudentSummaryDTO();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> {
+                    ConversionStudentSummaryDTO partition = new ConversionStudentSummaryDTO();
+                    partition.setReadCount(10L);
+                    partition.setProcessedCount(10L);
+                    partition.setErroredCount(1L);
+                    partition.increment("1950", true);
+                    partition.incrementOptionalProgram("BD");
+                    partition.incrementCareerProgram("XC");
+                    total.merge(partition);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(total.getReadCount()).isEqualTo(1000L);
+        assertThat(total.getProcessedCount()).isEqualTo(1000L);
+        assertThat(total.getErroredCount()).isEqualTo(100L);
+        assertThat(total.getProgramCountMap()).containsEntry("1950 Grad", 100L);
+        assertThat(total.getOptionalProgramCountMap()).containsEntry("BD", 100L);
+        assertThat(total.getCareerProgramCountMap()).containsEntry("XC", 100L);
+    }
+
+    @Test
+    public void testSerialization_keepsCounts() {
+        ConversionStudentSummaryDTO summary = new ConversionStudentSummaryDTO();
+        summary.setReadCount(5L);
+        summary.increment("SCCP", false);
+        ConversionAlert alert = new ConversionAlert();
+        alert.setItem("123456789");
+        summary.getErrors().add(alert);
+
+        ConversionStudentSummaryDTO copy = (ConversionStudentSummaryDTO) SerializationUtils.deserialize(SerializationUtils.serialize(summary));
+
+        assertThat(copy.getReadCount()).isEqualTo(5L);
+        assertThat(copy.getProgramCountMap()).containsEntry("SCCP", 1L);
+        assertThat(copy.getErrors()).hasSize(1);
+    }
+}
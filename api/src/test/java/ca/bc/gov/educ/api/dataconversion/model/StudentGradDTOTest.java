@@ -0,0 +1,71 @@
+package ca.bc.gov.educ.api.dataconversion.model;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StudentGradDTOTest {
+
+    @Test
+    public void testGetCourses_whenLoaderFails_loadsAgainOnNextAccess() {
+        StudentCourse studentCourse = new StudentCourse();
+        studentCourse.setCourseCode("MAIN");
+        AtomicInteger calls = new AtomicInteger();
+
+        StudentGradDTO studentData = new StudentGradDTO();
+        studentData.setCoursesLoader(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("GRAD Course API is failed");
+            }
+            return List.of(studentCourse);
+        });
+
+        assertThatThrownBy(studentData::getCourses).isInstanceOf(IllegalStateException.class);
+        assertThat(studentData.getCourses()).containsExactly(studentCourse);
+        assertThat(studentData.getCourses()).containsExactly(studentCourse);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testGetProgramCodes_loadsOnlyOnce() {
+        AtomicInteger calls = new AtomicInteger();
+
+        StudentGradDTO studentData = new StudentGradDTO();
+        studentData.setProgramCodesLoader(() -> {
+            calls.incrementAndGet();
+            return List.of("FI");
+        });
+
+        assertThat(studentData.getProgramCodes()).containsExactly("FI");
+        assertThat(studentData.getProgramCodes()).containsExactly("FI");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testToStringEqualsAndHashCode_doNotLoadTheSections() {
+        AtomicInteger calls = new AtomicInteger();
+
+        StudentGradDTO studentData = new StudentGradDTO();
+        studentData.setProgramCodesLoader(() -> {
+            calls.incrementAndGet();
+            return List.of("FI");
+        });
+        studentData.setCoursesLoader(() -> {
+            calls.incrementAndGet();
+            return List.of(new StudentCourse());
+        });
+        studentData.setAssessmentsLoader(() -> {
+            calls.incrementAndGet();
+            return List.of(new StudentAssessment());
+        });
+
+        assertThat(studentData.toString()).isNotBlank();
+        assertThat(studentData).isEqualTo(new StudentGradDTO());
+        assertThat(studentData.hashCode()).isEqualTo(new StudentGradDTO().hashCode());
+        assertThat(calls.get()).isZero();
+    }
+}
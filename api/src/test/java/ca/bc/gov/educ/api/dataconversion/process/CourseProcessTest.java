@@ -22,6 +22,13 @@ import org.springframework.web.reactive.function.client.WebClient;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
@@ -106,6 +113,57 @@ public class CourseProcessTest {
         assertThat(summary.getUpdatedCountForCourseRestriction()).isEqualTo(1L);
     }
 
+    @Test
+    public void testPrepareAndSaveCourseRestrictions_withPrefetchedCourseRestrictions() {
+        ConversionCourseSummaryDTO summary = new ConversionCourseSummaryDTO();
+        summary.setAccessToken("123");
+
+        CourseRestriction existingCourseRestriction = new CourseRestriction(
+                UUID.randomUUID(), "main", "12", "rest", "12", null, null
+        );
+        when(this.restUtils.getCourseRestrictions("123")).thenReturn(List.of(existingCourseRestriction));
+        when(this.restUtils.saveCourseRestrictions(anyList(), eq("123"))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Map<String, CourseRestriction> existingCourseRestrictions = courseProcess.getCourseRestrictions("123");
+        assertThat(existingCourseRestrictions).hasSize(1);
+
+        CourseRestriction updated = courseProcess.prepareCourseRestriction(new CourseRestriction(
+                null, "main", "12", "rest", "12", null, null), existingCourseRestrictions, summary);
+        CourseRestriction added = courseProcess.prepareCourseRestriction(new CourseRestriction(
+                null, "main", "11", "rest", "11", null, null), existingCourseRestrictions, summary);
+        assertThat(updated.getCourseRestrictionId()).isEqualTo(existingCourseRestriction.getCourseRestrictionId());
+        assertThat(added.getCourseRestrictionId()).isNull();
+
+        constants.setCourseRestrictionBulkSaveEnabled(true);
+        try {
+            courseProcess.saveCourseRestrictions(List.of(updated, added), summary);
+        } finally {
+            constants.setCourseRestrictionBulkSaveEnabled(false);
+        }
+
+        assertThat(summary.getProcessedCount()).isEqualTo(2L);
+        assertThat(summary.getUpdatedCountForCourseRestriction()).isEqualTo(1L);
+        assertThat(summary.getAddedCountForCourseRestriction()).isEqualTo(1L);
+        verify(this.restUtils, never()).getCourseRestriction(anyString(), anyString(), anyString(), anyString(), anyString());
+        verify(this.restUtils, never()).saveCourseRestriction(any(), anyString());
+    }
+
+    @Test
+    public void testSaveCourseRestrictions_withoutBulkSave_savesOneByOne() {
+        ConversionCourseSummaryDTO summary = new ConversionCourseSummaryDTO();
+        summary.setAccessToken("123");
+
+        CourseRestriction updated = new CourseRestriction(UUID.randomUUID(), "main", "12", "rest", "12", null, null);
+        CourseRestriction added = new CourseRestriction(null, "main", "11", "rest", "11", null, null);
+        when(this.restUtils.saveCourseRestriction(any(), eq("123"))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        courseProcess.saveCourseRestrictions(List.of(updated, added), summary);
+
+        assertThat(summary.getUpdatedCountForCourseRestriction()).isEqualTo(1L);
+        assertThat(summary.getAddedCountForCourseRestriction()).isEqualTo(1L);
+        verify(this.restUtils, never()).saveCourseRestrictions(anyList(), anyString());
+    }
+
     @Test
     public void testConvertCourseRestriction_whenInvalidCourseIsProvided_throwsError() {
         ConversionCourseSummaryDTO summary = new ConversionCourseSummaryDTO();
@@ -150,6 +208,27 @@ public class CourseProcessTest {
         assertThat(summary.getAddedCountForCourseRequirement()).isEqualTo(1L);
     }
 
+    @Test
+    public void testConvertCourseRequirement_forEnglish10_checksLanguageCoursesOncePerRun() {
+        ConversionCourseSummaryDTO summary = new ConversionCourseSummaryDTO();
+        summary.setAccessToken("123");
+
+        GradCourse traxCourse2018 = prepareCourseRequirementData("2018", "ENG", "10", "101", null, false);
+        traxCourse2018.setEnglish10("Y");
+        GradCourse traxCourse2004 = prepareCourseRequirementData("2004", "ENG", "10", "701", null, false);
+        traxCourse2004.setEnglish10("Y");
+
+        when(this.restUtils.checkFrenchLanguageCourse("ENG", "10", "123")).thenReturn(false);
+        when(this.restUtils.checkBlankLanguageCourse("ENG", "10", "123")).thenReturn(false);
+
+        courseProcess.convertCourseRequirement(traxCourse2018, summary);
+        courseProcess.convertCourseRequirement(traxCourse2004, summary);
+
+        verify(this.restUtils, times(1)).checkFrenchLanguageCourse("ENG", "10", "123");
+        verify(this.restUtils, times(1)).checkBlankLanguageCourse("ENG", "10", "123");
+        assertThat(summary.getCourseCheckResults().size()).isEqualTo(2);
+    }
+
     @Test
     public void testConvertCourseRequirement_forEnglish10_2023() {
         ConversionCourseSummaryDTO summary = new ConversionCourseSummaryDTO();
@@ -1002,6 +1081,27 @@ public class CourseProcessTest {
         assertThat(summary.getAddedCountForCourseRequirement()).isGreaterThan(0L);
     }
 
+    @Test
+    public void testCreateCourseRequirements_upsertsInBatches() {
+        ConversionCourseSummaryDTO summary = new ConversionCourseSummaryDTO();
+        summary.setAccessToken("123");
+
+        List<CourseRequirement> upserted = new ArrayList<>();
+        when(this.restUtils.saveCourseRequirements(anyList(), eq("123"))).thenAnswer(invocation -> {
+            List<CourseRequirement> batch = invocation.getArgument(0);
+            assertThat(batch).hasSizeLessThanOrEqualTo(constants.getCourseRequirementBatchSize());
+            upserted.addAll(batch);
+            return batch;
+        });
+
+        courseProcess.createCourseRequirements(summary);
+
+        assertThat(summary.getAddedCountForCourseRequirement()).isEqualTo(upserted.size());
+        assertThat(upserted).extracting(r -> r.getCourseCode() + "/" + r.getCourseLevel() + "/" + r.getRuleCode().getCourseRequirementCode()).doesNotHaveDuplicates();
+        verify(this.restUtils, never()).checkCourseRequirementExists(anyString(), anyString(), anyString(), anyString());
+        verify(this.restUtils, never()).saveCourseRequirement(any(), anyString());
+    }
+
     @Test
     public void testConvertCourseRequirement_whenStartSessionIsSameAsEndSession_then_skipLoading() {
         ConversionCourseSummaryDTO summary = new ConversionCourseSummaryDTO();
@@ -0,0 +1,93 @@
+package ca.bc.gov.educ.api.dataconversion.process;
+
+import ca.bc.gov.educ.api.dataconversion.model.CourseCheckResults;
+import ca.bc.gov.educ.api.dataconversion.model.GradCourse;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CourseRequirementRuleTableTest {
+
+    @Test
+    public void testGetRules_forEnglish10_2018() {
+        GradCourse gradCourse = prepareGradCourse("2018", "ENG", "10");
+        gradCourse.setEnglish10("Y");
+
+        List<CourseRequirementRuleTable.Rule> rules = CourseRequirementRuleTable.getRules(gradCourse);
+
+        assertThat(rules).extracting(CourseRequirementRuleTable.Rule::ruleCode).containsExactly("101", "302", "400");
+        assertThat(rules).extracting(CourseRequirementRuleTable.Rule::languageCourseCheck).containsExactly(
+                null, CourseCheckResults.Check.FRENCH_LANGUAGE_COURSE, CourseCheckResults.Check.BLANK_LANGUAGE_COURSE);
+    }
+
+    @Test
+    public void testGetRules_forEnglish12AndSocials_1950() {
+        GradCourse gradCourse = prepareGradCourse("1950", "ENG", "12");
+        gradCourse.setEnglish12("Y");
+        gradCourse.setSocials("Y");
+
+        assertThat(CourseRequirementRuleTable.getRules(gradCourse)).extracting(CourseRequirementRuleTable.Rule::ruleCode)
+                .containsExactly("500", "502");
+    }
+
+    @Test
+    public void testGetRules_forAppliedSkills_1996() {
+        GradCourse gradCourse = prepareGradCourse("1996", "ASK", "10");
+        gradCourse.setAppliedSkills("Y");
+        assertThat(CourseRequirementRuleTable.getRules(gradCourse)).extracting(CourseRequirementRuleTable.Rule::ruleCode)
+                .containsExactly("727");
+
+        gradCourse.setFineArts("Y");
+        assertThat(CourseRequirementRuleTable.getRules(gradCourse)).extracting(CourseRequirementRuleTable.Rule::ruleCode)
+                .containsExactly("732");
+    }
+
+    @Test
+    public void testGetRules_forAppliedSkills_1996_whenCourseIsInvalidForRule727() {
+        GradCourse gradCourse = prepareGradCourse("1996", "COP", "12 ");
+        gradCourse.setAppliedSkills("Y");
+
+        assertThat(CourseRequirementRuleTable.getRules(gradCourse)).isEmpty();
+    }
+
+    @Test
+    public void testGetRules_forFineArts_1996() {
+        GradCourse gradCourse = prepareGradCourse("1996", "ART", "11");
+        gradCourse.setFineArts("Y");
+
+        assertThat(CourseRequirementRuleTable.getRules(gradCourse)).extracting(CourseRequirementRuleTable.Rule::ruleCode)
+                .containsExactly("726");
+    }
+
+    @Test
+    public void testGetRules_forIndigenousFocused() {
+        GradCourse gradCourse = prepareGradCourse("2023", "EFP", "10");
+        gradCourse.setIndigenousFocused("Y");
+        assertThat(CourseRequirementRuleTable.getRules(gradCourse)).extracting(CourseRequirementRuleTable.Rule::ruleCode)
+                .containsExactly("119");
+
+        gradCourse.setGradReqtYear("2018");
+        assertThat(CourseRequirementRuleTable.getRules(gradCourse)).isEmpty();
+    }
+
+    @Test
+    public void testGetRules_whenNoFlagIsSet_orGradReqtYearIsUnknown() {
+        assertThat(CourseRequirementRuleTable.getRules(prepareGradCourse("2018", "ENG", "10"))).isEmpty();
+
+        GradCourse gradCourse = prepareGradCourse("SCCP", "ENG", "10");
+        gradCourse.setEnglish10("Y");
+        assertThat(CourseRequirementRuleTable.getRules(gradCourse)).isEmpty();
+    }
+
+    private GradCourse prepareGradCourse(String gradReqtYear, String courseCode, String courseLevel) {
+        GradCourse gradCourse = new GradCourse();
+        gradCourse.setGradReqtYear(gradReqtYear);
+        gradCourse.setCourseCode(courseCode);
+        gradCourse.setCourseLevel(courseLevel);
+        gradCourse.setStartSession("200107");
+        gradCourse.setEndSession("208001");
+        return gradCourse;
+    }
+}
@@ -4,11 +4,13 @@ import ca.bc.gov.educ.api.dataconversion.messaging.NatsConnection;
 import ca.bc.gov.educ.api.dataconversion.messaging.jetstream.Subscriber;
 import ca.bc.gov.educ.api.dataconversion.model.*;
 import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -21,6 +23,9 @@ import java.util.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
@@ -32,6 +37,9 @@ public class DataConversionProcessTest {
     @Autowired
     DataConversionProcess dataConversionProcess;
 
+    @Autowired
+    EducGradDataConversionApiConstants constants;
+
     @MockBean
     EventRepository eventRepository;
 
@@ -324,4 +332,96 @@ public class DataConversionProcessTest {
         assertThat(result).isNotNull();
         assertThat(result.getStudNo()).isEqualTo(pen);
     }
+
+    @Test
+    public void testReadTraxStudentsAndAddNewPens() {
+        String existingPen = "111111111";
+        String missingPen = "222222222";
+
+        Student penStudent = new Student();
+        penStudent.setStudentID(UUID.randomUUID().toString());
+        penStudent.setPen(existingPen);
+
+        Student traxStudent = Student.builder()
+                .pen(missingPen)
+                .legalFirstName("Test")
+                .legalLastName("QA")
+                .mincode("12345678")
+                .statusCode("A")
+                .dob("19800111")
+                .build();
+
+        Student newStudent = new Student();
+        newStudent.setStudentID(UUID.randomUUID().toString());
+        newStudent.setPen(missingPen);
+
+        when(this.restUtils.getStudentsByPen(existingPen, "123")).thenReturn(List.of(penStudent));
+        when(this.restUtils.getStudentsByPen(missingPen, "123")).thenReturn(new ArrayList<>());
+        when(this.restUtils.getTraxStudentDemographicsDataByPenList(List.of(missingPen), "123")).thenReturn(List.of(traxStudent));
+        when(this.restUtils.addNewPen(any(Student.class), eq("123"))).thenReturn(newStudent);
+
+        ConversionStudentSummaryDTO summary = new ConversionStudentSummaryDTO();
+        summary.setAccessToken("123");
+
+        constants.setTraxBulkRequestsEnabled(true);
+        try {
+            dataConversionProcess.readTraxStudentsAndAddNewPens(List.of(existingPen, missingPen), 5, summary);
+        } finally {
+            constants.setTraxBulkRequestsEnabled(false);
+        }
+
+        assertThat(summary.getProcessedCount()).isEqualTo(2L);
+        assertThat(summary.getAddedCount()).isEqualTo(1L);
+        assertThat(summary.getErrors()).isEmpty();
+        verify(this.restUtils, never()).getTraxStudentDemographicsDataByPen(any(), any());
+
+        ArgumentCaptor<List<TraxStudentNo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(this.restUtils).saveTraxStudentNoList(captor.capture(), eq("123"));
+        assertThat(captor.getValue()).extracting(TraxStudentNo::getStudNo).containsExactly(existingPen, missingPen);
+        assertThat(captor.getValue()).extracting(TraxStudentNo::getStatus).containsExactly("Y", "C");
+    }
+
+    @Test
+    public void testReadTraxStudentsAndAddNewPens_withoutTraxBulkRequests_readsAndSavesOneByOne() {
+        String existingPen = "111111111";
+        String missingPen = "222222222";
+
+        Student penStudent = new Student();
+        penStudent.setStudentID(UUID.randomUUID().toString());
+        penStudent.setPen(existingPen);
+
+        Student traxStudent = Student.builder()
+                .pen(missingPen)
+                .legalFirstName("Test")
+                .legalLastName("QA")
+                .mincode("12345678")
+                .statusCode("A")
+                .dob("19800111")
+                .build();
+
+        Student newStudent = new Student();
+        newStudent.setStudentID(UUID.randomUUID().toString());
+        newStudent.setPen(missingPen);
+
+        when(this.restUtils.getStudentsByPen(existingPen, "123")).thenReturn(List.of(penStudent));
+        when(this.restUtils.getStudentsByPen(missingPen, "123")).thenReturn(new ArrayList<>());
+        when(this.restUtils.getTraxStudentDemographicsDataByPen(missingPen, "123")).thenReturn(List.of(traxStudent));
+        when(this.restUtils.addNewPen(any(Student.class), eq("123"))).thenReturn(newStudent);
+
+        ConversionStudentSummaryDTO summary = new ConversionStudentSummaryDTO();
+        summary.setAccessToken("123");
+
+        dataConversionProcess.readTraxStudentsAndAddNewPens(List.of(existingPen, missingPen), 5, summary);
+
+        assertThat(summary.getProcessedCount()).isEqualTo(2L);
+        assertThat(summary.getAddedCount()).isEqualTo(1L);
+        assertThat(summary.getErrors()).isEmpty();
+        verify(this.restUtils, never()).getTraxStudentDemographicsDataByPenList(any(), any());
+        verify(this.restUtils, never()).saveTraxStudentNoList(any(), any());
+
+        ArgumentCaptor<TraxStudentNo> captor = ArgumentCaptor.forClass(TraxStudentNo.class);
+        verify(this.restUtils, times(2)).saveTraxStudentNo(captor.capture(), eq("123"));
+        assertThat(captor.getAllValues()).extracting(TraxStudentNo::getStudNo).containsExactly(existingPen, missingPen);
+        assertThat(captor.getAllValues()).extracting(TraxStudentNo::getStatus).containsExactly("Y", "C");
+    }
 }
@@ -1,6 +1,7 @@
 package ca.bc.gov.educ.api.dataconversion.process;
 
 import ca.bc.gov.educ.api.dataconversion.constant.EventType;
+import ca.bc.gov.educ.api.dataconversion.constant.StudentDataRequirement;
 import ca.bc.gov.educ.api.dataconversion.messaging.NatsConnection;
 import ca.bc.gov.educ.api.dataconversion.messaging.jetstream.Subscriber;
 import ca.bc.gov.educ.api.dataconversion.model.*;
@@ -8,6 +9,7 @@ import ca.bc.gov.educ.api.dataconversion.model.tsw.SchoolClob;
 import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
 import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiUtils;
+import ca.bc.gov.educ.api.dataconversion.util.ReactiveRestUtils;
 import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
 import org.junit.After;
 import org.junit.Before;
@@ -19,12 +21,17 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
@@ -48,6 +55,9 @@ public class StudentProcessTest {
     @MockBean
     RestUtils restUtils;
 
+    @MockBean
+    ReactiveRestUtils reactiveRestUtils;
+
     @MockBean
     WebClient webClient;
 
@@ -1257,4 +1267,121 @@ public class StudentProcessTest {
         assertThat(isExceptionThrown).isFalse();
     }
 
+    @Test
+    public void testLoadStudentDataConcurrently_whenCareerProgramsAPIisDown_returnsSuccess() {
+        // ID
+        UUID studentID = UUID.randomUUID();
+        String pen = "111222333";
+
+        Student penStudent = new Student();
+        penStudent.setStudentID(studentID.toString());
+        penStudent.setPen(pen);
+
+        GraduationStudentRecord gradStudent = new GraduationStudentRecord();
+        gradStudent.setStudentID(studentID);
+        gradStudent.setPen(pen);
+        gradStudent.setProgram("2018-EN");
+        gradStudent.setStudentGrade("12");
+        gradStudent.setStudentStatus("CUR");
+
+        StudentOptionalProgram studentOptionalProgram = new StudentOptionalProgram();
+        studentOptionalProgram.setStudentID(studentID);
+        studentOptionalProgram.setOptionalProgramCode("FI");
+
+        StudentCourse studentCourse = new StudentCourse();
+        studentCourse.setPen(pen);
+        studentCourse.setCourseCode("FRAL");
+        studentCourse.setCourseLevel("10");
+
+        when(this.restUtils.getStudentsByPen(pen, "123")).thenReturn(Arrays.asList(penStudent));
+        when(this.reactiveRestUtils.getStudentGradStatus(studentID.toString(), "123")).thenReturn(Mono.just(gradStudent));
+        when(this.reactiveRestUtils.getStudentOptionalPrograms(studentID.toString(), "123")).thenReturn(Flux.just(studentOptionalProgram));
+        when(this.reactiveRestUtils.getStudentCareerPrograms(studentID.toString(), "123")).thenReturn(Flux.error(new RuntimeException("GRAD Student API is down!")));
+        when(this.reactiveRestUtils.getStudentCoursesByPen(pen, "123")).thenReturn(Flux.just(studentCourse));
+        when(this.reactiveRestUtils.getStudentAssessmentsByPen(pen, "123")).thenReturn(Flux.empty());
+
+        constants.setConcurrentStudentLoadEnabled(true);
+        try {
+            var result = studentProcess.loadStudentData(pen, "123");
+            assertThat(result).isNotNull();
+            assertThat(result.getProgram()).isEqualTo("2018-EN");
+            assertThat(result.getProgramCodes()).containsExactly("FI");
+            assertThat(result.getCourses()).hasSize(1);
+            assertThat(result.getAssessments()).isEmpty();
+        } finally {
+            constants.setConcurrentStudentLoadEnabled(false);
+        }
+    }
+
+    @Test
+    public void testLoadStudentDataConcurrently_whenGradStudentAPIisDown_returnsNull() {
+        // ID
+        UUID studentID = UUID.randomUUID();
+        String pen = "111222333";
+
+        Student penStudent = new Student();
+        penStudent.setStudentID(studentID.toString());
+        penStudent.setPen(pen);
+
+        when(this.restUtils.getStudentsByPen(pen, "123")).thenReturn(Arrays.asList(penStudent));
+        when(this.reactiveRestUtils.getStudentGradStatus(studentID.toString(), "123")).thenReturn(Mono.error(new RuntimeException("GRAD Student API is down!")));
+        when(this.reactiveRestUtils.getStudentOptionalPrograms(studentID.toString(), "123")).thenReturn(Flux.empty());
+        when(this.reactiveRestUtils.getStudentCareerPrograms(studentID.toString(), "123")).thenReturn(Flux.empty());
+        when(this.reactiveRestUtils.getStudentCoursesByPen(pen, "123")).thenReturn(Flux.never());
+        when(this.reactiveRestUtils.getStudentAssessmentsByPen(pen, "123")).thenReturn(Flux.empty());
+
+        constants.setConcurrentStudentLoadEnabled(true);
+        try {
+            var result = studentProcess.loadStudentData(pen, "123");
+            assertThat(result).isNull();
+        } finally {
+            constants.setConcurrentStudentLoadEnabled(false);
+        }
+    }
+
+    @Test
+    public void testLoadStudentData_withoutRequirements_loadsSectionsOnFirstAccess() {
+        // ID
+        UUID studentID = UUID.randomUUID();
+        String pen = "111222333";
+
+        Student penStudent = new Student();
+        penStudent.setStudentID(studentID.toString());
+        penStudent.setPen(pen);
+
+        GraduationStudentRecord gradStudent = new GraduationStudentRecord();
+        gradStudent.setStudentID(studentID);
+        gradStudent.setPen(pen);
+        gradStudent.setProgram("2018-EN");
+        gradStudent.setStudentGrade("12");
+        gradStudent.setStudentStatus("CUR");
+
+        StudentCareerProgram studentCareerProgram = new StudentCareerProgram();
+        studentCareerProgram.setStudentID(studentID);
+        studentCareerProgram.setCareerProgramCode("XC");
+
+        StudentCourse studentCourse = new StudentCourse();
+        studentCourse.setPen(pen);
+        studentCourse.setCourseCode("FRAL");
+        studentCourse.setCourseLevel("10");
+
+        when(this.restUtils.getStudentsByPen(pen, "123")).thenReturn(Arrays.asList(penStudent));
+        when(this.restUtils.getStudentGradStatus(studentID.toString(), "123")).thenReturn(gradStudent);
+        when(this.restUtils.getStudentOptionalPrograms(studentID.toString(), "123")).thenReturn(new ArrayList<>());
+        when(this.restUtils.getStudentCareerPrograms(studentID.toString(), "123")).thenReturn(Arrays.asList(studentCareerProgram));
+        when(this.courseProcess.getStudentCourses(pen, "123")).thenReturn(Arrays.asList(studentCourse));
+
+        var result = studentProcess.loadStudentData(pen, EnumSet.noneOf(StudentDataRequirement.class), "123");
+        assertThat(result).isNotNull();
+        assertThat(result.getProgram()).isEqualTo("2018-EN");
+        verify(this.restUtils, never()).getStudentCareerPrograms(studentID.toString(), "123");
+        verify(this.courseProcess, never()).getStudentCourses(pen, "123");
+        verify(this.assessmentProcess, never()).getStudentAssessments(pen, "123");
+
+        assertThat(result.getProgramCodes()).containsExactly("XC");
+        assertThat(result.getCourses()).hasSize(1);
+        assertThat(result.getCourses()).hasSize(1);
+        verify(this.courseProcess, times(1)).getStudentCourses(pen, "123");
+        verify(this.assessmentProcess, never()).getStudentAssessments(pen, "123");
+    }
 }
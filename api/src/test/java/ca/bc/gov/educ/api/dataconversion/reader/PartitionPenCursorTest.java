@@ -0,0 +1,76 @@
+package ca.bc.gov.educ.api.dataconversion.reader;
+
+import ca.bc.gov.educ.api.dataconversion.model.TraxStudentNo;
+import ca.bc.gov.educ.api.dataconversion.util.ReactiveRestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PartitionPenCursorTest {
+
+    private final RestUtils restUtils = mock(RestUtils.class);
+    private final ReactiveRestUtils reactiveRestUtils = mock(ReactiveRestUtils.class);
+
+    @Test
+    public void testNext_skipsPensWithSkippedStatuses() {
+        when(restUtils.getTraxStudentNoListByPenRange(null, "999999999", 2, "123"))
+                .thenReturn(List.of(new TraxStudentNo("111111111", "Y", null), new TraxStudentNo("222222222", "C", null)));
+        when(reactiveRestUtils.getTraxStudentNoListByPenRange("222222222", "999999999", 2, "123"))
+                .thenReturn(Flux.just(new TraxStudentNo("333333333", null, null), new TraxStudentNo("444444444", "F", null)));
+        when(reactiveRestUtils.getTraxStudentNoListByPenRange("444444444", "999999999", 2, "123"))
+                .thenReturn(Flux.empty());
+
+        PartitionPenCursor penCursor = new PartitionPenCursor(restUtils, reactiveRestUtils, null, "999999999", 2, 10);
+        penCursor.setSkippedStatuses(Set.of("C", "Y"));
+        List<String> pages = new ArrayList<>();
+        penCursor.setPageListener(pages::addAll);
+
+        assertThat(penCursor.next("123")).isEqualTo("333333333");
+        assertThat(penCursor.next("123")).isEqualTo("444444444");
+        assertThat(penCursor.next("123")).isNull();
+        assertThat(penCursor.getLastPen()).isEqualTo("444444444");
+        assertThat(pages).containsExactly("333333333", "444444444");
+    }
+
+    @Test
+    public void testNext_withoutSkippedStatuses() {
+        when(restUtils.getTraxStudentNoListByPenRange("100000000", null, 2, "123"))
+                .thenReturn(List.of(new TraxStudentNo("111111111", "Y", null)));
+
+        PartitionPenCursor penCursor = new PartitionPenCursor(restUtils, reactiveRestUtils, "100000000", null, 2, 10);
+
+        assertThat(penCursor.next("123")).isEqualTo("111111111");
+        assertThat(penCursor.next("123")).isNull();
+    }
+
+    @Test
+    public void testNext_byOffset_readsOnlyThePartition() {
+        when(restUtils.getTraxStudentNoListByPage(1, 2, "123"))
+                .thenReturn(List.of(new TraxStudentNo("222222222", null, null), new TraxStudentNo("333333333", null, null)));
+        when(reactiveRestUtils.getTraxStudentNoListByPage(2, 2, "123"))
+                .thenReturn(Flux.just(new TraxStudentNo("444444444", null, null), new TraxStudentNo("555555555", "Y", null)));
+        when(reactiveRestUtils.getTraxStudentNoListByPage(3, 2, "123"))
+                .thenReturn(Flux.just(new TraxStudentNo("666666666", null, null), new TraxStudentNo("777777777", null, null)));
+
+        PartitionPenCursor penCursor = new PartitionPenCursor(restUtils, reactiveRestUtils, 3, 7, 2);
+        penCursor.setSkippedStatuses(Set.of("Y"));
+        List<String> pages = new ArrayList<>();
+        penCursor.setPageListener(pages::addAll);
+
+        assertThat(penCursor.next("123")).isEqualTo("333333333");
+        assertThat(penCursor.getNextOffset()).isEqualTo(4);
+        assertThat(penCursor.next("123")).isEqualTo("444444444");
+        assertThat(penCursor.next("123")).isEqualTo("666666666");
+        assertThat(penCursor.getNextOffset()).isEqualTo(7);
+        assertThat(penCursor.next("123")).isNull();
+        assertThat(pages).containsExactly("333333333", "444444444", "666666666");
+    }
+}
@@ -0,0 +1,76 @@
+package ca.bc.gov.educ.api.dataconversion.reader;
+
+import ca.bc.gov.educ.api.dataconversion.model.TraxStudentNo;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import ca.bc.gov.educ.api.dataconversion.util.ReactiveRestUtils;
+import ca.bc.gov.educ.api.dataconversion.util.RestUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.explore.JobExplorer;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PenWorkQueueTest {
+
+    @Mock
+    private RestUtils restUtils;
+
+    @Mock
+    private ReactiveRestUtils reactiveRestUtils;
+
+    @Mock
+    private EducGradDataConversionApiConstants constants;
+
+    @Mock
+    private JobExplorer jobExplorer;
+
+    @InjectMocks
+    private PenWorkQueue penWorkQueue;
+
+    private final JobInstance jobInstance = new JobInstance(1L, "studentLoadJob");
+
+    @Before
+    public void setUp() {
+        when(constants.getStudentLoadPageSize()).thenReturn(10);
+        when(restUtils.getTraxStudentNoListByPage(0, 10, "123"))
+                .thenReturn(List.of(new TraxStudentNo("111111111", "Y", null), new TraxStudentNo("222222222", null, null)));
+    }
+
+    @Test
+    public void testGetCursor_firstJobExecution_handsOutAllPens() {
+        JobExecution jobExecution = new JobExecution(jobInstance, 1L, new JobParameters());
+        when(jobExplorer.getJobExecutions(jobInstance)).thenReturn(List.of(jobExecution));
+
+        SharedPenCursor cursor = penWorkQueue.getCursor(jobExecution, Set.of("Y"), null);
+
+        assertThat(penWorkQueue.getCursor(jobExecution, Set.of("Y"), null)).isSameAs(cursor);
+        assertThat(cursor.claimPage("123")).containsExactly("111111111", "222222222");
+    }
+
+    @Test
+    public void testGetCursor_restartedJobExecution_skipsStatusesOnce() {
+        JobExecution failedExecution = new JobExecution(jobInstance, 1L, new JobParameters());
+        JobExecution jobExecution = new JobExecution(jobInstance, 2L, new JobParameters());
+        when(jobExplorer.getJobExecutions(jobInstance)).thenReturn(List.of(jobExecution, failedExecution));
+
+        SharedPenCursor cursor = penWorkQueue.getCursor(jobExecution, Set.of("Y"), null);
+
+        assertThat(penWorkQueue.getCursor(jobExecution, Set.of("Y"), null)).isSameAs(cursor);
+        assertThat(cursor.claimPage("123")).containsExactly("222222222");
+        verify(jobExplorer, times(1)).getJobExecutions(jobInstance);
+    }
+}
@@ -0,0 +1,111 @@
+package ca.bc.gov.educ.api.dataconversion.scheduler;
+
+import ca.bc.gov.educ.api.dataconversion.choreographer.ChoreographEventHandler;
+import ca.bc.gov.educ.api.dataconversion.entity.Event;
+import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import net.javacrumbs.shedlock.core.LockAssert;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static ca.bc.gov.educ.api.dataconversion.constant.EventStatus.DB_COMMITTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JetStreamEventSchedulerTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ChoreographEventHandler choreographer;
+
+    @Mock
+    private EducGradDataConversionApiConstants constants;
+
+    @InjectMocks
+    private JetStreamEventScheduler jetStreamEventScheduler;
+
+    @Before
+    public void setUp() {
+        LockAssert.TestHelper.makeAllAssertsPass(true);
+    }
+
+    @After
+    public void tearDown() {
+        LockAssert.TestHelper.makeAllAssertsPass(false);
+    }
+
+    @Test
+    public void testFindAndProcessEvents_loadsOnlyTheDispatchedEvents() {
+        UUID pendingId = UUID.randomUUID();
+        UUID processedId = UUID.randomUUID();
+        Event pending = Event.builder().replicationEventId(pendingId).eventType("UPD_GRAD").eventStatus(DB_COMMITTED.toString()).eventPayload("{}").build();
+        Event processed = Event.builder().replicationEventId(processedId).eventType("COURSE").eventStatus("PROCESSED").eventPayload("{}").build();
+
+        when(constants.getTraxToGradProcessingThreshold()).thenReturn(2);
+        when(eventRepository.findEventHeadersByEventStatusAndUpdateDateBefore(eq(DB_COMMITTED.toString()), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(createHeader(pendingId, "UPD_GRAD"), createHeader(processedId, "COURSE")));
+        when(eventRepository.findById(pendingId)).thenReturn(Optional.of(pending));
+        when(eventRepository.findById(processedId)).thenReturn(Optional.of(processed));
+
+        jetStreamEventScheduler.findAndProcessEvents();
+
+        ArgumentCaptor<LocalDateTime> updateDate = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(eventRepository).findEventHeadersByEventStatusAndUpdateDateBefore(eq(DB_COMMITTED.toString()), updateDate.capture(), pageable.capture());
+        assertThat(updateDate.getValue()).isBefore(LocalDateTime.now().minusMinutes(4));
+        assertThat(pageable.getValue().getPageNumber()).isZero();
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(2);
+        verify(choreographer).handleEvent(pending);
+        verify(choreographer, never()).handleEvent(processed);
+    }
+
+    @Test
+    public void testFindAndProcessEvents_withoutEvents() {
+        when(constants.getTraxToGradProcessingThreshold()).thenReturn(100);
+        when(eventRepository.findEventHeadersByEventStatusAndUpdateDateBefore(eq(DB_COMMITTED.toString()), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        jetStreamEventScheduler.findAndProcessEvents();
+
+        verify(eventRepository, never()).findById(any());
+        verify(choreographer, never()).handleEvent(any());
+    }
+
+    @Test
+    public void testFindAndProcessEvents_withZeroThreshold_skipsTheRun() {
+        when(constants.getTraxToGradProcessingThreshold()).thenReturn(0);
+
+        jetStreamEventScheduler.findAndProcessEvents();
+
+        verify(eventRepository, never()).findEventHeadersByEventStatusAndUpdateDateBefore(any(), any(), any());
+        verify(choreographer, never()).handleEvent(any());
+    }
+
+    private EventRepository.EventHeader createHeader(UUID replicationEventId, String eventType) {
+        EventRepository.EventHeader header = mock(EventRepository.EventHeader.class);
+        when(header.getReplicationEventId()).thenReturn(replicationEventId);
+        lenient().when(header.getEventType()).thenReturn(eventType);
+        return header;
+    }
+}
@@ -0,0 +1,76 @@
+package ca.bc.gov.educ.api.dataconversion.service;
+
+import ca.bc.gov.educ.api.dataconversion.entity.ConversionAlertLog;
+import ca.bc.gov.educ.api.dataconversion.model.ConversionAlert;
+import ca.bc.gov.educ.api.dataconversion.repository.ConversionAlertLogRepository;
+import ca.bc.gov.educ.api.dataconversion.util.EducGradDataConversionApiConstants;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConversionAlertLogServiceTest {
+
+    @Mock
+    private ConversionAlertLogRepository conversionAlertLogRepository;
+
+    @Mock
+    private EducGradDataConversionApiConstants constants;
+
+    @InjectMocks
+    private ConversionAlertLogService conversionAlertLogService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSave() {
+        ConversionAlert alert = createAlert("123456789", StringUtils.repeat("x", 5000));
+
+        conversionAlertLogService.save(1L, List.of(alert));
+
+        ArgumentCaptor<List<ConversionAlertLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(conversionAlertLogRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        ConversionAlertLog alertLog = captor.getValue().get(0);
+        assertThat(alertLog.getJobExecutionId()).isEqualTo(1L);
+        assertThat(alertLog.getItem()).isEqualTo("123456789");
+        assertThat(alertLog.getAlertLevel()).isEqualTo("ERROR");
+        assertThat(alertLog.getReason()).hasSize(4000);
+    }
+
+    @Test
+    public void testSave_withoutAlerts() {
+        conversionAlertLogService.save(1L, Collections.emptyList());
+        verify(conversionAlertLogRepository, never()).saveAll(any());
+    }
+
+    @Test
+    public void testTrim() {
+        when(constants.getErrorLogMaxInContext()).thenReturn(2);
+        List<ConversionAlert> alerts = new ArrayList<>(List.of(createAlert("111111111", "a"), createAlert("222222222", "b"), createAlert("333333333", "c")));
+
+        conversionAlertLogService.trim(alerts);
+
+        assertThat(alerts).extracting(ConversionAlert::getItem).containsExactly("111111111", "222222222");
+    }
+
+    private ConversionAlert createAlert(String pen, String reason) {
+        ConversionAlert alert = new ConversionAlert();
+        alert.setItem(pen);
+        alert.setReason(reason);
+        return alert;
+    }
+}
@@ -102,7 +102,7 @@ public class StudentAssessmentUpdateEventServiceTest {
         course1.setPen(pen);
         currentStudent.getCourses().add(course1);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
 
         ResponseObj res = new ResponseObj();
         res.setAccess_token("accessToken");
@@ -93,7 +93,7 @@ public class StudentDemographicsUpdateEventServiceTest {
         currentStudent.setStudentStatus("CUR");
         currentStudent.setSchoolOfRecordId(schoolId);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentDemographicsUpdateEventService.processEvent(traxDemogUpdate, event);
@@ -138,7 +138,7 @@ public class StudentDemographicsUpdateEventServiceTest {
         currentStudent.setStudentStatus("ARC");
         currentStudent.setSchoolOfRecordId(schoolId);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentDemographicsUpdateEventService.processEvent(traxDemogUpdate, event);
@@ -103,7 +103,7 @@ public class StudentFrenchImmersionEventServiceTest {
         course1.setPen(pen);
         currentStudent.getCourses().add(course1);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.studentProcess.hasAnyFrenchImmersionCourse(any(), any(), any())).thenReturn(true);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
@@ -161,7 +161,7 @@ public class StudentFrenchImmersionEventServiceTest {
         course1.setPen(pen);
         currentStudent.getCourses().add(course1);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.studentProcess.hasAnyFrenchImmersionCourse(any(), any(), any())).thenReturn(false);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
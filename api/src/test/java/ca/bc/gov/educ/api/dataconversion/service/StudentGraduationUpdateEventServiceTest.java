@@ -117,7 +117,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(schoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
 
         ResponseObj res = new ResponseObj();
         res.setAccess_token("accessToken");
@@ -194,7 +194,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -266,7 +266,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -339,7 +339,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -412,7 +412,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -485,7 +485,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -558,7 +558,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -630,7 +630,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -702,7 +702,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -775,7 +775,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(schoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -848,7 +848,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(schoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -921,7 +921,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(schoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -994,7 +994,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(schoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -1064,7 +1064,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -1134,7 +1134,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -1204,7 +1204,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -1274,7 +1274,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -1344,7 +1344,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.studentProcess.hasAnyFrenchImmersionCourse(eq("2018-EN"), eq(pen), any())).thenReturn(true);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
@@ -1417,7 +1417,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -1491,7 +1491,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -1565,7 +1565,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -1638,7 +1638,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -1735,7 +1735,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -1809,7 +1809,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(schoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -1881,7 +1881,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(schoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -1953,7 +1953,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(schoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -2026,7 +2026,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(newSchoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -2098,7 +2098,7 @@ public class StudentGraduationUpdateEventServiceTest {
 
         when(this.restUtils.getSchool(eq(schoolId), any())).thenReturn(school);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
         when(this.eventRepository.findByEventId(event.getEventId())).thenReturn(Optional.of(event));
 
         studentGraduationUpdateEventService.processEvent(traxGraduationUpdate, event);
@@ -105,7 +105,7 @@ public class StudentXProgramEventServiceTest {
         course1.setPen(pen);
         currentStudent.getCourses().add(course1);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
 
         // ConvGradStudent = traxStudent with the recent updated info
         ConvGradStudent traxStudent = ConvGradStudent.builder().pen(pen)
@@ -173,7 +173,7 @@ public class StudentXProgramEventServiceTest {
         course1.setPen(pen);
         currentStudent.getCourses().add(course1);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
 
         when(this.restUtils.getOptionalProgram(eq(program), eq("XC"), any())).thenReturn(null);
 
@@ -243,7 +243,7 @@ public class StudentXProgramEventServiceTest {
         course1.setPen(pen);
         currentStudent.getCourses().add(course1);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
 
         when(this.restUtils.getOptionalProgram(eq(program), eq("XC"), any())).thenReturn(null);
 
@@ -313,7 +313,7 @@ public class StudentXProgramEventServiceTest {
         course1.setPen(pen);
         currentStudent.getCourses().add(course1);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
 
         when(this.restUtils.getOptionalProgram(eq(program), eq("XC"), any())).thenReturn(null);
 
@@ -391,7 +391,7 @@ public class StudentXProgramEventServiceTest {
         course1.setPen(pen);
         currentStudent.getCourses().add(course1);
 
-        when(this.studentProcess.loadStudentData(eq(pen), any())).thenReturn(currentStudent);
+        when(this.studentProcess.loadStudentData(eq(pen), any(), any())).thenReturn(currentStudent);
 
         when(this.restUtils.getOptionalProgram(eq(program), eq("XC"), any())).thenReturn(null);
 
@@ -0,0 +1,111 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import ca.bc.gov.educ.api.dataconversion.exception.ServiceException;
+import ca.bc.gov.educ.api.dataconversion.messaging.NatsConnection;
+import ca.bc.gov.educ.api.dataconversion.messaging.jetstream.Subscriber;
+import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class DownstreamApiLimiterTest {
+
+    @Autowired
+    DownstreamApiLimiter downstreamApiLimiter;
+
+    @Autowired
+    private EducGradDataConversionApiConstants constants;
+
+    @MockBean
+    WebClient webClient;
+
+    @MockBean
+    EventRepository eventRepository;
+
+    // NATS
+    @MockBean
+    private NatsConnection natsConnection;
+    @MockBean
+    private Subscriber subscriber;
+
+    @After
+    public void tearDown() {
+        constants.setDownstreamPermitTimeout(60);
+    }
+
+    @Test
+    public void testLimit_releasesPermitWhenRequestIsDone() {
+        URI uri = URI.create("https://grad-course-api.test/api/v1/course/studentcourse/pen/123456789");
+
+        String result = downstreamApiLimiter.limit(uri, () -> Mono.just("done")).block();
+
+        assertThat(result).isEqualTo("done");
+        assertThat(downstreamApiLimiter.getAvailablePermits(uri)).isEqualTo(constants.getMaxConcurrentDownstreamRequests());
+    }
+
+    @Test
+    public void testLimitExchange_whenBodyArrivesAfterHeaders_releasesPermitWhenBodyIsRead() {
+        URI uri = URI.create("https://grad-trax-api.test/api/v1/trax/common/student-master/123456789");
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, uri).build();
+        Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+
+        ClientResponse response = downstreamApiLimiter.limitExchange(request, clientRequest -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE)
+                .body(body.asFlux())
+                .build())).block();
+        assertThat(downstreamApiLimiter.getAvailablePermits(uri)).isEqualTo(constants.getMaxConcurrentDownstreamRequests() - 1);
+
+        body.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap("done".getBytes(StandardCharsets.UTF_8)));
+        assertThat(downstreamApiLimiter.getAvailablePermits(uri)).isEqualTo(constants.getMaxConcurrentDownstreamRequests() - 1);
+        body.tryEmitComplete();
+
+        assertThat(response.bodyToMono(String.class).block()).isEqualTo("done");
+        assertThat(downstreamApiLimiter.getAvailablePermits(uri)).isEqualTo(constants.getMaxConcurrentDownstreamRequests());
+    }
+
+    @Test
+    public void testLimit_whenAllPermitsAreTaken_failsAfterPermitTimeout() {
+        URI uri = URI.create("https://grad-student-api.test/api/v1/student/123456789");
+        constants.setDownstreamPermitTimeout(1);
+
+        Disposable[] inFlight = new Disposable[constants.getMaxConcurrentDownstreamRequests()];
+        for (int i = 0; i < inFlight.length; i++) {
+            inFlight[i] = downstreamApiLimiter.limit(uri, Mono::never).subscribe();
+        }
+        assertThat(downstreamApiLimiter.getAvailablePermits(uri)).isZero();
+
+        Mono<String> request = downstreamApiLimiter.limit(uri, () -> Mono.just("done"));
+        assertThatThrownBy(request::block).isInstanceOf(ServiceException.class);
+
+        for (Disposable disposable : inFlight) {
+            disposable.dispose();
+        }
+        assertThat(downstreamApiLimiter.getAvailablePermits(uri)).isEqualTo(constants.getMaxConcurrentDownstreamRequests());
+    }
+}
@@ -0,0 +1,101 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DownstreamApiMetricsTest {
+
+    private static final String TRAX_API = "https://educ-grad-trax-api/api/v1/trax/common/";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetryRegistry retryRegistry;
+    private DownstreamApiMetrics downstreamApiMetrics;
+
+    @Before
+    public void setUp() {
+        EducGradDataConversionApiConstants constants = new EducGradDataConversionApiConstants();
+        constants.setTraxStudentNoListByPenRangeUrl(TRAX_API + "student-no-list/pen-range");
+        constants.setTraxStudentNoDeltaListByPenRangeUrl(TRAX_API + "student-no-list/delta/pen-range");
+        constants.setSaveTraxStudentNoUrl(TRAX_API + "trax-student-no");
+        constants.setSaveTraxStudentNoListUrl(TRAX_API + "trax-student-no/list");
+        constants.setDeleteTraxStudentNoUrl(TRAX_API + "trax-student-no/%s");
+        constants.setPenStudentApiByPenUrl("https://student-api/api/v1/student?pen=%s");
+
+        meterRegistry = new SimpleMeterRegistry();
+        retryRegistry = RetryRegistry.of(RetryConfig.custom().maxAttempts(3).waitDuration(Duration.ofMillis(1)).build());
+        downstreamApiMetrics = new DownstreamApiMetrics(constants, meterRegistry, retryRegistry);
+    }
+
+    @Test
+    public void testGetOperation_matchesMostSpecificEndpoint() {
+        assertThat(downstreamApiMetrics.getOperation(URI.create(TRAX_API + "student-no-list/pen-range?afterPen=1&pageSize=10")))
+                .isEqualTo("traxStudentNoListByPenRange");
+        assertThat(downstreamApiMetrics.getOperation(URI.create(TRAX_API + "student-no-list/delta/pen-range?pageSize=10")))
+                .isEqualTo("traxStudentNoDeltaListByPenRange");
+        assertThat(downstreamApiMetrics.getOperation(URI.create(TRAX_API + "trax-student-no/list"))).isEqualTo("saveTraxStudentNoList");
+        assertThat(downstreamApiMetrics.getOperation(URI.create(TRAX_API + "trax-student-no/123456789"))).isEqualTo("deleteTraxStudentNo");
+        assertThat(downstreamApiMetrics.getOperation(URI.create("https://student-api/api/v1/student?pen=123456789"))).isEqualTo("penStudentApiByPen");
+        assertThat(downstreamApiMetrics.getOperation(URI.create("https://unknown-api/api/v1/unknown"))).isEqualTo("other");
+    }
+
+    @Test
+    public void testRecord_latencyAndResponseSize() {
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create(TRAX_API + "student-no-list/pen-range?pageSize=10")).build();
+
+        ClientResponse response = downstreamApiMetrics.record(request,
+                r -> Mono.just(ClientResponse.create(HttpStatus.OK).header("Content-Type", "application/json").body("[1,2,3]").build())).block();
+        assertThat(response).isNotNull();
+        assertThat(response.bodyToMono(String.class).block()).isEqualTo("[1,2,3]");
+
+        assertThat(meterRegistry.get(DownstreamApiMetrics.REQUESTS)
+                .tag("operation", "traxStudentNoListByPenRange").tag("method", "GET").tag("status", "200").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(DownstreamApiMetrics.RESPONSE_SIZE)
+                .tag("operation", "traxStudentNoListByPenRange").summary().totalAmount()).isEqualTo(7);
+        assertThat(meterRegistry.find(DownstreamApiMetrics.ERRORS).counter()).isNull();
+    }
+
+    @Test
+    public void testRecord_errors() {
+        ClientRequest request = ClientRequest.create(HttpMethod.POST, URI.create(TRAX_API + "trax-student-no")).build();
+
+        downstreamApiMetrics.record(request, r -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())).block();
+        downstreamApiMetrics.record(request, r -> Mono.error(new IllegalStateException("connection refused")))
+                .onErrorResume(e -> Mono.empty()).block();
+
+        assertThat(meterRegistry.get(DownstreamApiMetrics.ERRORS)
+                .tag("operation", "saveTraxStudentNo").tag("error", "503").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(DownstreamApiMetrics.ERRORS)
+                .tag("operation", "saveTraxStudentNo").tag("error", "IllegalStateException").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRetriesAreCounted() {
+        Retry retry = retryRegistry.retry("rt-getTraxStudent");
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retry.executeSupplier(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("failed");
+            }
+            return "OK";
+        });
+
+        assertThat(result).isEqualTo("OK");
+        assertThat(meterRegistry.get(DownstreamApiMetrics.RETRIES).tag("retry", "rt-getTraxStudent").counter().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,82 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import ca.bc.gov.educ.api.dataconversion.model.JobProgress;
+import org.junit.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JobProgressTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final JobProgressTracker jobProgressTracker = new JobProgressTracker(clock::get);
+    private final JobExecution jobExecution = new JobExecution(new JobInstance(10L, "studentLoadJob"), 1L, new JobParameters());
+
+    @Test
+    public void testGetProgress_whileJobIsRunning() {
+        JobProgressTracker.PartitionCounters partition0 = jobProgressTracker.getPartitionCounters(jobExecution, "slaveStepForStudent:partition0");
+        JobProgressTracker.PartitionCounters partition1 = jobProgressTracker.getPartitionCounters(jobExecution, "slaveStepForStudent:partition1");
+        partition0.setTotalCount(100L);
+        partition1.setTotalCount(100L);
+        for (int i = 0; i < 60; i++) {
+            partition0.incrementReadCount();
+            partition0.incrementProgramCount(i % 2 == 0 ? "2018-EN" : "1950");
+        }
+        partition0.addProcessedCount(60L);
+        partition0.addErroredCount(3L);
+        partition1.incrementReadCount();
+        partition1.addProcessedCount(40L);
+        partition1.incrementProgramCount("2018-EN");
+        clock.addAndGet(10_000L);
+
+        JobProgress progress = jobProgressTracker.getProgress(1L);
+
+        assertThat(progress.isRunning()).isTrue();
+        assertThat(progress.getJobType()).isEqualTo("studentLoadJob");
+        assertThat(progress.getElapsedSeconds()).isEqualTo(10L);
+        assertThat(progress.getTotalCount()).isEqualTo(200L);
+        assertThat(progress.getReadCount()).isEqualTo(61L);
+        assertThat(progress.getProcessedCount()).isEqualTo(100L);
+        assertThat(progress.getErroredCount()).isEqualTo(3L);
+        assertThat(progress.getStudentsPerSecond()).isEqualTo(10.0);
+        assertThat(progress.getErrorRate()).isEqualTo(0.03);
+        assertThat(progress.getEtaSeconds()).isEqualTo(10L);
+        assertThat(progress.getPartitions()).hasSize(2);
+        assertThat(progress.getPartitions().get(0).getPartitionName()).isEqualTo("slaveStepForStudent:partition0");
+        assertThat(progress.getPartitions().get(0).getPercentComplete()).isEqualTo(60.0);
+        assertThat(progress.getProgramCountMap()).containsEntry("2018-EN", 31L).containsEntry("1950", 30L);
+    }
+
+    @Test
+    public void testGetProgress_withoutTotalCount() {
+        JobProgressTracker.PartitionCounters partition0 = jobProgressTracker.getPartitionCounters(jobExecution, "slaveStepForStudent:partition0");
+        partition0.addProcessedCount(20L);
+        clock.addAndGet(2_000L);
+
+        JobProgress progress = jobProgressTracker.getProgress(1L);
+
+        assertThat(progress.getTotalCount()).isNull();
+        assertThat(progress.getEtaSeconds()).isNull();
+        assertThat(progress.getStudentsPerSecond()).isEqualTo(10.0);
+        assertThat(progress.getPartitions().get(0).getPercentComplete()).isNull();
+    }
+
+    @Test
+    public void testGetProgress_afterJobIsFinished() {
+        jobProgressTracker.getPartitionCounters(jobExecution, "slaveStepForStudent:partition0").addProcessedCount(50L);
+        clock.addAndGet(5_000L);
+        jobProgressTracker.finish(1L);
+        clock.addAndGet(60_000L);
+
+        JobProgress progress = jobProgressTracker.getProgress(1L);
+
+        assertThat(progress.isRunning()).isFalse();
+        assertThat(progress.getElapsedSeconds()).isEqualTo(5L);
+        assertThat(progress.getEtaSeconds()).isZero();
+        assertThat(jobProgressTracker.getProgress(2L)).isNull();
+    }
+}
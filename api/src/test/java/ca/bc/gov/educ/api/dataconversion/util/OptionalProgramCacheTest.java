@@ -0,0 +1,82 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import ca.bc.gov.educ.api.dataconversion.messaging.NatsConnection;
+import ca.bc.gov.educ.api.dataconversion.messaging.jetstream.Subscriber;
+import ca.bc.gov.educ.api.dataconversion.model.OptionalProgram;
+import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class OptionalProgramCacheTest {
+
+    @Autowired
+    OptionalProgramCache optionalProgramCache;
+
+    @MockBean
+    RestUtils restUtils;
+
+    @MockBean
+    WebClient webClient;
+
+    @MockBean
+    EventRepository eventRepository;
+
+    // NATS
+    @MockBean
+    private NatsConnection natsConnection;
+    @MockBean
+    private Subscriber subscriber;
+
+    @Test
+    public void testReload_thenOptionalProgramsAreServedFromMemory() {
+        OptionalProgram frenchImmersion = createOptionalProgram("2018-EN", "FI");
+        OptionalProgram dualDogwood = createOptionalProgram("2018-PF", "DD");
+
+        when(this.restUtils.fetchAccessToken()).thenReturn("123");
+        when(this.restUtils.getOptionalPrograms("123")).thenReturn(Arrays.asList(frenchImmersion, dualDogwood));
+
+        assertThat(optionalProgramCache.reload()).isEqualTo(2);
+        assertThat(optionalProgramCache.getOptionalProgram("2018-EN", "FI", "123")).isEqualTo(frenchImmersion);
+        assertThat(optionalProgramCache.getOptionalProgramByID(dualDogwood.getOptionalProgramID(), "123")).isEqualTo(dualDogwood);
+        verify(this.restUtils, never()).getOptionalProgram(any(), any(), any());
+        verify(this.restUtils, never()).getOptionalProgramByID(any(), any());
+    }
+
+    @Test
+    public void testGetOptionalProgram_whenNotLoaded_thenCallsAPIOnce() {
+        OptionalProgram careerProgram = createOptionalProgram("1996-EN", "CP");
+
+        when(this.restUtils.getOptionalProgram(eq("1996-EN"), eq("CP"), any())).thenReturn(careerProgram);
+
+        assertThat(optionalProgramCache.getOptionalProgram("1996-EN", "CP", "123")).isEqualTo(careerProgram);
+        assertThat(optionalProgramCache.getOptionalProgram("1996-EN", "CP", "123")).isEqualTo(careerProgram);
+        assertThat(optionalProgramCache.getOptionalProgramByID(careerProgram.getOptionalProgramID(), "123")).isEqualTo(careerProgram);
+        verify(this.restUtils, times(1)).getOptionalProgram(eq("1996-EN"), eq("CP"), any());
+        verify(this.restUtils, never()).getOptionalProgramByID(any(), any());
+    }
+
+    private OptionalProgram createOptionalProgram(String programCode, String optionalProgramCode) {
+        OptionalProgram optionalProgram = new OptionalProgram();
+        optionalProgram.setOptionalProgramID(UUID.randomUUID());
+        optionalProgram.setGraduationProgramCode(programCode);
+        optionalProgram.setOptProgramCode(optionalProgramCode);
+        return optionalProgram;
+    }
+}
@@ -0,0 +1,121 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import ca.bc.gov.educ.api.dataconversion.messaging.NatsConnection;
+import ca.bc.gov.educ.api.dataconversion.messaging.jetstream.Subscriber;
+import ca.bc.gov.educ.api.dataconversion.model.*;
+import ca.bc.gov.educ.api.dataconversion.model.institute.School;
+import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReactiveRestUtilsTest {
+    @Autowired
+    ReactiveRestUtils reactiveRestUtils;
+
+    @MockBean
+    WebClient webClient;
+
+    @MockBean
+    EventRepository eventRepository;
+
+    @Autowired
+    private EducGradDataConversionApiConstants constants;
+
+    @Mock
+    private WebClient.RequestHeadersSpec requestHeadersMock;
+    @Mock
+    private WebClient.RequestHeadersUriSpec requestHeadersUriMock;
+    @Mock
+    private WebClient.ResponseSpec responseMock;
+
+    // NATS
+    @MockBean
+    private NatsConnection natsConnection;
+    @MockBean
+    private Subscriber subscriber;
+
+    @Before
+    public void setUp() {
+        openMocks(this);
+    }
+
+    @Test
+    public void testGetStudentsByPen_returnsFluxOfStudents() {
+        final String pen = "123456789";
+        final Student student = new Student();
+        student.setStudentID(UUID.randomUUID().toString());
+        student.setPen(pen);
+
+        when(this.webClient.get()).thenReturn(this.requestHeadersUriMock);
+        when(this.requestHeadersUriMock.uri(String.format(constants.getPenStudentApiByPenUrl(), pen))).thenReturn(this.requestHeadersMock);
+        when(this.requestHeadersMock.headers(any(Consumer.class))).thenReturn(this.requestHeadersMock);
+        when(this.requestHeadersMock.retrieve()).thenReturn(this.responseMock);
+        when(this.responseMock.bodyToFlux(Student.class)).thenReturn(Flux.just(student));
+
+        List<Student> result = this.reactiveRestUtils.getStudentsByPen(pen, "abc").collectList().block();
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getPen()).isEqualTo(pen);
+    }
+
+    @Test
+    public void testGetStudentGradStatus_returnsMonoOfRecord() {
+        final String studentID = UUID.randomUUID().toString();
+        final GraduationStudentRecord graduationStatus = new GraduationStudentRecord();
+        graduationStatus.setStudentID(UUID.fromString(studentID));
+        graduationStatus.setProgram("2018-EN");
+
+        when(this.webClient.get()).thenReturn(this.requestHeadersUriMock);
+        when(this.requestHeadersUriMock.uri(String.format(constants.getReadGraduationStudentRecord(), studentID))).thenReturn(this.requestHeadersMock);
+        when(this.requestHeadersMock.headers(any(Consumer.class))).thenReturn(this.requestHeadersMock);
+        when(this.requestHeadersMock.retrieve()).thenReturn(this.responseMock);
+        when(this.responseMock.bodyToMono(GraduationStudentRecord.class)).thenReturn(Mono.just(graduationStatus));
+
+        GraduationStudentRecord result = this.reactiveRestUtils.getStudentGradStatus(studentID, "abc").block();
+        assertThat(result).isNotNull();
+        assertThat(result.getProgram()).isEqualTo("2018-EN");
+    }
+
+    @Test
+    public void testGetStudentGradStatus_givenServerError_returnsEmpty() {
+        final String studentID = UUID.randomUUID().toString();
+
+        when(this.webClient.get()).thenReturn(this.requestHeadersUriMock);
+        when(this.requestHeadersUriMock.uri(String.format(constants.getReadGraduationStudentRecord(), studentID))).thenReturn(this.requestHeadersMock);
+        when(this.requestHeadersMock.headers(any(Consumer.class))).thenReturn(this.requestHeadersMock);
+        when(this.requestHeadersMock.retrieve()).thenReturn(this.responseMock);
+        when(this.responseMock.bodyToMono(GraduationStudentRecord.class))
+                .thenReturn(Mono.error(WebClientResponseException.create(500, "Internal Server Error", null, null, null)));
+
+        GraduationStudentRecord result = this.reactiveRestUtils.getStudentGradStatus(studentID, "abc").block();
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void testGetSchool_givenNullSchoolId_returnsEmpty() {
+        School result = this.reactiveRestUtils.getSchool(null, "abc").block();
+        assertThat(result).isNull();
+    }
+}
@@ -0,0 +1,89 @@
+package ca.bc.gov.educ.api.dataconversion.util;
+
+import ca.bc.gov.educ.api.dataconversion.messaging.NatsConnection;
+import ca.bc.gov.educ.api.dataconversion.messaging.jetstream.Subscriber;
+import ca.bc.gov.educ.api.dataconversion.model.institute.School;
+import ca.bc.gov.educ.api.dataconversion.repository.EventRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class SchoolCacheTest {
+
+    @Autowired
+    SchoolCache schoolCache;
+
+    @MockBean
+    RestUtils restUtils;
+
+    @MockBean
+    WebClient webClient;
+
+    @MockBean
+    EventRepository eventRepository;
+
+    // NATS
+    @MockBean
+    private NatsConnection natsConnection;
+    @MockBean
+    private Subscriber subscriber;
+
+    @Test
+    public void testGetSchool_whenCalledTwice_thenCallsAPIOnce() {
+        UUID schoolId = UUID.randomUUID();
+        School school = new School();
+        school.setSchoolId(schoolId.toString());
+        school.setSchoolReportingRequirementCode("CSF");
+
+        when(this.restUtils.getSchool(eq(schoolId), any())).thenReturn(school);
+
+        assertThat(schoolCache.getSchool(schoolId)).isEqualTo(school);
+        assertThat(schoolCache.getSchool(schoolId)).isEqualTo(school);
+        verify(this.restUtils, times(1)).getSchool(eq(schoolId), any());
+    }
+
+    @Test
+    public void testGetSchool_whenSchoolIsNotFound_thenReturnsNull() {
+        UUID schoolId = UUID.randomUUID();
+
+        when(this.restUtils.getSchool(eq(schoolId), any())).thenReturn(null);
+
+        assertThat(schoolCache.getSchool(schoolId)).isNull();
+        assertThat(schoolCache.getSchool(schoolId)).isNull();
+        verify(this.restUtils, times(1)).getSchool(eq(schoolId), any());
+    }
+
+    @Test
+    public void testWarmUp_thenSchoolsAreServedFromCache() {
+        UUID schoolId1 = UUID.randomUUID();
+        UUID schoolId2 = UUID.randomUUID();
+        School school1 = new School();
+        school1.setSchoolId(schoolId1.toString());
+        School school2 = new School();
+        school2.setSchoolId(schoolId2.toString());
+
+        when(this.restUtils.getAllSchools("123")).thenReturn(Arrays.asList(school1, school2));
+
+        schoolCache.warmUp("123");
+
+        assertThat(schoolCache.getSchool(schoolId1)).isEqualTo(school1);
+        assertThat(schoolCache.getSchool(schoolId2)).isEqualTo(school2);
+        verify(this.restUtils, never()).getSchool(any(), any());
+    }
+}
@@ -54,9 +54,24 @@ oc create -n "$BUSINESS_NAMESPACE"-"$envValue" configmap "$APP_NAME"-config-map
   --from-literal=APP_LOG_LEVEL="$APP_LOG_LEVEL" \
   --from-literal=BASELINE_ON_MIGRATE="false" \
   --from-literal=CONNECTION_TIMEOUT="90000" \
+  --from-literal=COURSE_REQUIREMENT_BATCH_SIZE="0" \
+  --from-literal=COURSE_REQUIREMENT_REMOVAL_LIST="LSNMF/10/302,LSPF/10/302,LSSLF/10/302,LTSTF/10/302,NMDF/11/301,LTSTF/11/301,SPLGF/11/301,LCFF/11/301" \
+  --from-literal=COURSE_RESTRICTION_CHUNK_SIZE="100" \
+  --from-literal=COURSE_RESTRICTION_IGNORE_LIST="CLEA/CLEB,CLEA/CLEBF,CLEAF/CLEB,CLEAF/CLEBF,CLEB/CLEA,CLEB/CLEAF,CLEBF/CLEA,CLEBF/CLEAF,CLCA/CLCB,CLCA/CLCBF,CLCAF/CLCB,CLCAF/CLCBF,CLCB/CLCA,CLCB/CLCAF,CLCBF/CLCA,CLCBF/CLCAF" \
+  --from-literal=DOWNSTREAM_PERMIT_TIMEOUT="60" \
+  --from-literal=ENABLE_CONCURRENT_STUDENT_LOAD="true" \
+  --from-literal=ENABLE_COURSE_RESTRICTION_BULK_SAVE="false" \
+  --from-literal=ENABLE_DYNAMIC_PARTITIONING="false" \
   --from-literal=ENABLE_FLYWAY="true" \
   --from-literal=ENABLE_GRAD_UPDATE="true" \
+  --from-literal=ENABLE_OPTIONAL_PROGRAM_CACHE_PRELOAD="true" \
+  --from-literal=ENABLE_PEN_RANGE_PAGING="false" \
+  --from-literal=ENABLE_SCHOOL_CACHE_WARM_UP="false" \
   --from-literal=ENABLE_SPLUNK_LOG_HELPER="false" \
+  --from-literal=ENABLE_TRAX_BULK_REQUESTS="false" \
+  --from-literal=ERROR_LOG_MAX_IN_CONTEXT="100" \
+  --from-literal=EVENT_HANDLER_CORE_POOL_SIZE="10" \
+  --from-literal=EVENT_HANDLER_MAX_POOL_SIZE="20" \
   --from-literal=GRAD_ASSESSMENT_API="http://educ-grad-assessment-api.$GRAD_NAMESPACE-$envValue.svc.cluster.local:8080/" \
   --from-literal=GRAD_COURSE_API="http://educ-grad-course-api.$GRAD_NAMESPACE-$envValue.svc.cluster.local:8080/" \
   --from-literal=GRAD_PROGRAM_API="http://educ-grad-program-api.$GRAD_NAMESPACE-$envValue.svc.cluster.local:8080/" \
@@ -66,12 +81,23 @@ oc create -n "$BUSINESS_NAMESPACE"-"$envValue" configmap "$APP_NAME"-config-map
   --from-literal=IDLE_TIMEOUT="400000" \
   --from-literal=KEYCLOAK_TOKEN_URL="https://soam-$envValue.apps.silver.devops.gov.bc.ca/" \
   --from-literal=MAXIMUM_POOL_SIZE="40" \
+  --from-literal=MAX_CONCURRENT_DOWNSTREAM_REQUESTS="50" \
   --from-literal=MAX_LIFETIME="598000" \
   --from-literal=MAX_RETRY_ATTEMPTS="1" \
   --from-literal=MIN_IDLE="10" \
   --from-literal=NUMBER_OF_PARTITIONS="15" \
+  --from-literal=PEN_UPDATES_CHUNK_SIZE="100" \
+  --from-literal=PEN_UPDATES_MAX_IN_FLIGHT="10" \
   --from-literal=PEN_STUDENT_API="http://student-api-master.$COMMON_NAMESPACE-$envValue.svc.cluster.local:8080/" \
+  --from-literal=SCHOOL_CACHE_MAX_SIZE="5000" \
+  --from-literal=SCHOOL_CACHE_TTL="60" \
+  --from-literal=STUDENT_LOAD_CHUNK_SIZE="10" \
+  --from-literal=STUDENT_LOAD_PAGE_SIZE="100" \
+  --from-literal=STUDENT_LOAD_TIMEOUT="30" \
+  --from-literal=SUBSCRIBER_POOL_SIZE="10" \
   --from-literal=TOKEN_EXPIRY_OFFSET="90" \
+  --from-literal=TOKEN_REFRESH_AHEAD="60" \
+  --from-literal=TOKEN_REFRESH_CHECK_INTERVAL="15000" \
   --from-literal=ENABLE_COMPRESSION="true" \
   --dry-run=client -o yaml | oc apply -f -
 